@@ -0,0 +1,527 @@
+package de.nb.federkiel.collection;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * An immutable map, implemented as a <i>hash array mapped trie</i>. "Changing"
+ * the map ({@link #with(Object, Object)}, {@link #without(Object)}) creates a
+ * new map in O(log n) - the new map shares all unchanged subtrees with the old
+ * one.
+ * <p>
+ * Like an <code>ImmutableMap</code>, the map does neither allow
+ * <code>null</code> keys nor <code>null</code> values, and the iteration order
+ * is the insertion order. (Replacing the value of a key keeps the key's
+ * position.) As the trie itself is ordered by hash codes, the entries are
+ * sorted once per map, on the first iteration - later iterations cost O(n).
+ */
+@Immutable
+@ThreadSafe
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+  private static final int BITS_PER_LEVEL = 5;
+
+  private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+  private static final PersistentHashMap<Object, Object> EMPTY =
+      new PersistentHashMap<>(null, 0, 0, 0);
+
+  private static final Comparator<Object> INSERTION_ORDER =
+      Comparator.comparingLong(entry -> ((OrderedEntry<?, ?>) entry).insertionOrder);
+
+  /**
+   * <code>null</code> for the empty map
+   */
+  private final @Nullable Node root;
+
+  private final int size;
+
+  /**
+   * The hash code of the map (as defined in {@link Map#hashCode()}) - kept up to
+   * date with each change
+   */
+  private final int hashCode;
+
+  /**
+   * The insertion order number for the next new key
+   */
+  private final long nextInsertionOrder;
+
+  /**
+   * The entries in insertion order - <code>null</code>, as long as the map has
+   * not been iterated. (Computing them twice in parallel is harmless.)
+   */
+  private volatile @Nullable Object[] entriesInInsertionOrder;
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> of() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  public static <K, V> PersistentHashMap<K, V> of(final K key, final V value) {
+    return PersistentHashMap.<K, V>of().with(key, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K, V> PersistentHashMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentHashMap) {
+      return (PersistentHashMap<K, V>) map;
+    }
+
+    PersistentHashMap<K, V> res = of();
+    for (final Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      res = res.with(entry.getKey(), entry.getValue());
+    }
+
+    return res;
+  }
+
+  private PersistentHashMap(final @Nullable Node root, final int size, final int hashCode,
+      final long nextInsertionOrder) {
+    this.root = root;
+    this.size = size;
+    this.hashCode = hashCode;
+    this.nextInsertionOrder = nextInsertionOrder;
+  }
+
+  /**
+   * @return a map, where this key is mapped to this value - all other mappings
+   *         are the same as in this map
+   */
+  public PersistentHashMap<K, V> with(final K key, final V value) {
+    checkNotNull(key, "key");
+    checkNotNull(value, "value");
+
+    final int hash = hash(key);
+    final @Nullable OrderedEntry<?, ?> oldEntry = root == null ? null : root.getEntry(hash, 0, key);
+    if (oldEntry != null && value.equals(oldEntry.getValue())) {
+      return this;
+    }
+
+    final OrderedEntry<K, V> entry = new OrderedEntry<>(key, value,
+        oldEntry == null ? nextInsertionOrder : oldEntry.insertionOrder);
+    final Node newRoot =
+        root == null ? new BitmapNode(bit(hash, 0), new Object[] {entry})
+            : root.with(hash, 0, entry);
+
+    if (oldEntry == null) {
+      return new PersistentHashMap<>(newRoot, size + 1, hashCode + entry.hashCode(),
+          nextInsertionOrder + 1);
+    }
+
+    return new PersistentHashMap<>(newRoot, size, hashCode - oldEntry.hashCode() + entry.hashCode(),
+        nextInsertionOrder);
+  }
+
+  /**
+   * @return a map without a mapping for this key - all other mappings are the
+   *         same as in this map
+   */
+  public PersistentHashMap<K, V> without(final Object key) {
+    final @Nullable V oldValue = get(key);
+    if (oldValue == null) {
+      return this;
+    }
+
+    @SuppressWarnings("null") // root is not null, because key is contained
+    final @Nullable Node newRoot = root.without(hash(key), 0, key);
+    if (newRoot == null) {
+      return of();
+    }
+
+    return new PersistentHashMap<>(newRoot, size - 1,
+        hashCode - (key.hashCode() ^ oldValue.hashCode()), nextInsertionOrder);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final Object key) {
+    if (root == null || key == null) {
+      return null;
+    }
+
+    final @Nullable OrderedEntry<?, ?> entry = root.getEntry(hash(key), 0, key);
+    return entry == null ? null : (V) entry.getValue();
+  }
+
+  @Override
+  public boolean containsKey(final Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return new AbstractSet<Map.Entry<K, V>>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public Iterator<Map.Entry<K, V>> iterator() {
+        if (root == null) {
+          return Collections.emptyIterator();
+        }
+
+        return (Iterator<Map.Entry<K, V>>) (Iterator<?>) Iterators.forArray(entriesInInsertionOrder());
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(final BiConsumer<? super K, ? super V> action) {
+    if (root == null) {
+      return;
+    }
+
+    for (final Object entry : entriesInInsertionOrder()) {
+      action.accept(((OrderedEntry<K, V>) entry).getKey(), ((OrderedEntry<K, V>) entry).getValue());
+    }
+  }
+
+  /**
+   * Must only be called, if the map is not empty.
+   */
+  private Object[] entriesInInsertionOrder() {
+    final Object[] memoized = entriesInInsertionOrder;
+    if (memoized != null) {
+      return memoized;
+    }
+
+    @SuppressWarnings("null") // the map is not empty
+    final Node nonEmptyRoot = root;
+    final Object[] res = new Object[size];
+    nonEmptyRoot.collectEntries(res, 0);
+    Arrays.sort(res, INSERTION_ORDER);
+    entriesInInsertionOrder = res;
+    return res;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (obj == this) {
+      return true;
+    }
+
+    if (obj instanceof PersistentHashMap && ((PersistentHashMap<?, ?>) obj).hashCode != hashCode) {
+      return false;
+    }
+
+    return super.equals(obj);
+  }
+
+  private static int hash(final Object key) {
+    final int h = key.hashCode();
+    return h ^ (h >>> 16);
+  }
+
+  private static int bit(final int hash, final int shift) {
+    return 1 << ((hash >>> shift) & LEVEL_MASK);
+  }
+
+  /**
+   * A node of the trie. Each slot contains either an entry or a (sub-)node.
+   */
+  private abstract static class Node {
+    final Object[] slots;
+
+    Node(final Object[] slots) {
+      this.slots = slots;
+    }
+
+    abstract @Nullable OrderedEntry<?, ?> getEntry(int hash, int shift, Object key);
+
+    abstract Node with(int hash, int shift, Map.Entry<?, ?> entry);
+
+    /**
+     * @return <code>null</code>, if the node would be empty
+     */
+    abstract @Nullable Node without(int hash, int shift, Object key);
+
+    /**
+     * @return the only entry of this node - <code>null</code>, if the node
+     *         contains more than one entry, or a sub-node
+     */
+    @Nullable
+    Map.Entry<?, ?> singleEntryOrNull() {
+      if (slots.length == 1 && !(slots[0] instanceof Node)) {
+        return (Map.Entry<?, ?>) slots[0];
+      }
+
+      return null;
+    }
+
+    /**
+     * Puts all entries of this node (and its sub-nodes) into the array,
+     * starting at this index.
+     *
+     * @return the index after the last entry written
+     */
+    int collectEntries(final Object[] entries, final int index) {
+      int res = index;
+      for (final Object slot : slots) {
+        if (slot instanceof Node) {
+          res = ((Node) slot).collectEntries(entries, res);
+        } else {
+          entries[res] = slot;
+          res++;
+        }
+      }
+
+      return res;
+    }
+  }
+
+  /**
+   * A node, where the slots are determined by the next {@link #BITS_PER_LEVEL}
+   * bits of the hash code. Only the slots actually used are stored.
+   */
+  private static final class BitmapNode extends Node {
+    private final int bitmap;
+
+    BitmapNode(final int bitmap, final Object[] slots) {
+      super(slots);
+      this.bitmap = bitmap;
+    }
+
+    private int index(final int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @Override
+    @Nullable
+    OrderedEntry<?, ?> getEntry(final int hash, final int shift, final Object key) {
+      final int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+
+      final Object slot = slots[index(bit)];
+      if (slot instanceof Node) {
+        return ((Node) slot).getEntry(hash, shift + BITS_PER_LEVEL, key);
+      }
+
+      final OrderedEntry<?, ?> entry = (OrderedEntry<?, ?>) slot;
+      if (key.equals(entry.getKey())) {
+        return entry;
+      }
+
+      return null;
+    }
+
+    @Override
+    Node with(final int hash, final int shift, final Map.Entry<?, ?> entry) {
+      final int bit = bit(hash, shift);
+      final int index = index(bit);
+
+      if ((bitmap & bit) == 0) {
+        final Object[] newSlots = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        newSlots[index] = entry;
+        System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+        return new BitmapNode(bitmap | bit, newSlots);
+      }
+
+      final Object slot = slots[index];
+      final Object newSlot;
+      if (slot instanceof Node) {
+        newSlot = ((Node) slot).with(hash, shift + BITS_PER_LEVEL, entry);
+      } else {
+        final Map.Entry<?, ?> oldEntry = (Map.Entry<?, ?>) slot;
+        if (oldEntry.getKey().equals(entry.getKey())) {
+          newSlot = entry;
+        } else {
+          newSlot = merge(oldEntry, hash(oldEntry.getKey()), entry, hash, shift + BITS_PER_LEVEL);
+        }
+      }
+
+      final Object[] newSlots = slots.clone();
+      newSlots[index] = newSlot;
+      return new BitmapNode(bitmap, newSlots);
+    }
+
+    @Override
+    @Nullable
+    Node without(final int hash, final int shift, final Object key) {
+      final int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+
+      final int index = index(bit);
+      final Object slot = slots[index];
+      if (slot instanceof Node) {
+        final @Nullable Node newChild = ((Node) slot).without(hash, shift + BITS_PER_LEVEL, key);
+        if (newChild == slot) {
+          return this;
+        }
+
+        if (newChild != null) {
+          final Object[] newSlots = slots.clone();
+          final @Nullable Map.Entry<?, ?> singleEntry = newChild.singleEntryOrNull();
+          newSlots[index] = singleEntry != null ? singleEntry : newChild;
+          return new BitmapNode(bitmap, newSlots);
+        }
+        // else: remove the slot (see below)
+      } else if (!key.equals(((Map.Entry<?, ?>) slot).getKey())) {
+        return this;
+      }
+
+      if (slots.length == 1) {
+        return null;
+      }
+
+      final Object[] newSlots = new Object[slots.length - 1];
+      System.arraycopy(slots, 0, newSlots, 0, index);
+      System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+      return new BitmapNode(bitmap & ~bit, newSlots);
+    }
+  }
+
+  /**
+   * A node containing entries, whose keys all have the same hash.
+   */
+  private static final class CollisionNode extends Node {
+    private final int hash;
+
+    CollisionNode(final int hash, final Object[] entries) {
+      super(entries);
+      this.hash = hash;
+    }
+
+    private int index(final Object key) {
+      for (int i = 0; i < slots.length; i++) {
+        if (key.equals(((Map.Entry<?, ?>) slots[i]).getKey())) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    @Override
+    @Nullable
+    OrderedEntry<?, ?> getEntry(final int otherHash, final int shift, final Object key) {
+      if (otherHash != hash) {
+        return null;
+      }
+
+      final int index = index(key);
+      if (index == -1) {
+        return null;
+      }
+
+      return (OrderedEntry<?, ?>) slots[index];
+    }
+
+    @Override
+    Node with(final int otherHash, final int shift, final Map.Entry<?, ?> entry) {
+      if (otherHash != hash) {
+        return new BitmapNode(bit(hash, shift), new Object[] {this}).with(otherHash, shift, entry);
+      }
+
+      final int index = index(entry.getKey());
+      if (index != -1) {
+        final Object[] newSlots = slots.clone();
+        newSlots[index] = entry;
+        return new CollisionNode(hash, newSlots);
+      }
+
+      final Object[] newSlots = new Object[slots.length + 1];
+      System.arraycopy(slots, 0, newSlots, 0, slots.length);
+      newSlots[slots.length] = entry;
+      return new CollisionNode(hash, newSlots);
+    }
+
+    @Override
+    @Nullable
+    Node without(final int otherHash, final int shift, final Object key) {
+      if (otherHash != hash) {
+        return this;
+      }
+
+      final int index = index(key);
+      if (index == -1) {
+        return this;
+      }
+
+      if (slots.length == 1) {
+        return null;
+      }
+
+      final Object[] newSlots = new Object[slots.length - 1];
+      System.arraycopy(slots, 0, newSlots, 0, index);
+      System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+      return new CollisionNode(hash, newSlots);
+    }
+  }
+
+  /**
+   * Builds a node containing both entries (with different keys).
+   */
+  private static Node merge(final Map.Entry<?, ?> one, final int oneHash, final Map.Entry<?, ?> other,
+      final int otherHash, final int shift) {
+    if (oneHash == otherHash) {
+      return new CollisionNode(oneHash, new Object[] {one, other});
+    }
+
+    final int oneBit = bit(oneHash, shift);
+    final int otherBit = bit(otherHash, shift);
+    if (oneBit == otherBit) {
+      return new BitmapNode(oneBit,
+          new Object[] {merge(one, oneHash, other, otherHash, shift + BITS_PER_LEVEL)});
+    }
+
+    if (Integer.compareUnsigned(oneBit, otherBit) < 0) {
+      return new BitmapNode(oneBit | otherBit, new Object[] {one, other});
+    }
+
+    return new BitmapNode(oneBit | otherBit, new Object[] {other, one});
+  }
+
+  /**
+   * An entry, that knows when its key was inserted into the map. (Equality
+   * and hash code are those of any other entry.)
+   */
+  private static final class OrderedEntry<K, V> extends SimpleImmutableEntry<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final long insertionOrder;
+
+    OrderedEntry(final K key, final V value, final long insertionOrder) {
+      super(key, value);
+      this.insertionOrder = insertionOrder;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package de.nb.federkiel.collection;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * An immutable set, backed by a {@link PersistentHashMap} - so adding or
+ * removing an element creates a new set in O(log n), sharing all unchanged
+ * parts with the old one.
+ * <p>
+ * <code>null</code> elements are not allowed. The iteration order is the
+ * insertion order.
+ */
+@Immutable
+@ThreadSafe
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+  private static final PersistentHashSet<Object> EMPTY =
+      new PersistentHashSet<>(PersistentHashMap.of());
+
+  private final PersistentHashMap<E, E> map;
+
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentHashSet<E> of() {
+    return (PersistentHashSet<E>) EMPTY;
+  }
+
+  public static <E> PersistentHashSet<E> of(final E element) {
+    return PersistentHashSet.<E>of().with(element);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentHashSet<E> copyOf(final Collection<? extends E> elements) {
+    if (elements instanceof PersistentHashSet) {
+      return (PersistentHashSet<E>) elements;
+    }
+
+    PersistentHashSet<E> res = of();
+    for (final E element : elements) {
+      res = res.with(element);
+    }
+
+    return res;
+  }
+
+  private PersistentHashSet(final PersistentHashMap<E, E> map) {
+    this.map = map;
+  }
+
+  /**
+   * @return a set containing all elements of this set - and this element
+   */
+  public PersistentHashSet<E> with(final E element) {
+    final PersistentHashMap<E, E> newMap = map.with(element, element);
+    if (newMap == map) {
+      return this;
+    }
+
+    return new PersistentHashSet<>(newMap);
+  }
+
+  /**
+   * @return a set containing all elements of this set and of the other
+   *         collection
+   */
+  public PersistentHashSet<E> withAll(final Collection<? extends E> elements) {
+    if (isEmpty()) {
+      return copyOf(elements);
+    }
+
+    PersistentHashSet<E> res = this;
+    for (final E element : elements) {
+      res = res.with(element);
+    }
+
+    return res;
+  }
+
+  /**
+   * @return a set containing all elements of this set - except this element
+   */
+  public PersistentHashSet<E> without(final Object element) {
+    final PersistentHashMap<E, E> newMap = map.without(element);
+    if (newMap == map) {
+      return this;
+    }
+
+    return new PersistentHashSet<>(newMap);
+  }
+
+  @Override
+  public boolean contains(final Object element) {
+    return map.containsKey(element);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return Iterators.unmodifiableIterator(map.keySet().iterator());
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+}
@@ -0,0 +1,93 @@
+package de.nb.federkiel.deutsch;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Das Ergebnis einer {@link Aufwaermung}: wie viele Lexeme vorflektiert wurden
+ * und wie lange die einzelnen Phasen gedauert haben.
+ */
+@Immutable
+public final class Aufwaermstatistik {
+	private final int anzahlLexeme;
+
+	private final int anzahlVorflektiert;
+
+	private final int anzahlUebersprungen;
+
+	private final int anzahlFehlgeschlagen;
+
+	private final long nanosKlasseninitialisierung;
+
+	private final long nanosGeschlosseneWortklassen;
+
+	private final long nanosLexeme;
+
+	Aufwaermstatistik(final int anzahlLexeme, final int anzahlVorflektiert, final int anzahlUebersprungen,
+			final int anzahlFehlgeschlagen, final long nanosKlasseninitialisierung,
+			final long nanosGeschlosseneWortklassen, final long nanosLexeme) {
+		this.anzahlLexeme = anzahlLexeme;
+		this.anzahlVorflektiert = anzahlVorflektiert;
+		this.anzahlUebersprungen = anzahlUebersprungen;
+		this.anzahlFehlgeschlagen = anzahlFehlgeschlagen;
+		this.nanosKlasseninitialisierung = nanosKlasseninitialisierung;
+		this.nanosGeschlosseneWortklassen = nanosGeschlosseneWortklassen;
+		this.nanosLexeme = nanosLexeme;
+	}
+
+	/**
+	 * Wie viele Lexeme zum Vorflektieren uebergeben wurden
+	 */
+	public int getAnzahlLexeme() {
+		return anzahlLexeme;
+	}
+
+	public int getAnzahlVorflektiert() {
+		return anzahlVorflektiert;
+	}
+
+	/**
+	 * Wie viele Lexeme uebersprungen wurden, weil sie nicht ohne weitere Angaben
+	 * flektiert werden koennen (etwa Modalverben oder Eigennamen)
+	 */
+	public int getAnzahlUebersprungen() {
+		return anzahlUebersprungen;
+	}
+
+	/**
+	 * Bei wie vielen Lexemen das Flektieren mit einer Exception abgebrochen ist
+	 */
+	public int getAnzahlFehlgeschlagen() {
+		return anzahlFehlgeschlagen;
+	}
+
+	public long getNanosKlasseninitialisierung() {
+		return nanosKlasseninitialisierung;
+	}
+
+	public long getNanosGeschlosseneWortklassen() {
+		return nanosGeschlosseneWortklassen;
+	}
+
+	public long getNanosLexeme() {
+		return nanosLexeme;
+	}
+
+	public long getNanosGesamt() {
+		return nanosKlasseninitialisierung + nanosGeschlosseneWortklassen + nanosLexeme;
+	}
+
+	@Override
+	public String toString() {
+		return "Aufwaermung: " + anzahlVorflektiert + " von " + anzahlLexeme + " Lexemen vorflektiert ("
+				+ anzahlUebersprungen + " uebersprungen, " + anzahlFehlgeschlagen + " fehlgeschlagen); "
+				+ "Klasseninitialisierung " + millis(nanosKlasseninitialisierung) + " ms, geschlossene Wortklassen "
+				+ millis(nanosGeschlosseneWortklassen) + " ms, Lexeme " + millis(nanosLexeme) + " ms, gesamt "
+				+ millis(getNanosGesamt()) + " ms";
+	}
+
+	private static long millis(final long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
@@ -0,0 +1,139 @@
+package de.nb.federkiel.deutsch;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Eine laufende (oder abgeschlossene) Aufwaermung, vgl.
+ * {@link Federkiel#warmUp(java.util.Collection, java.util.concurrent.Executor)}.
+ * Ist die Aufwaermung beendet, liefert sie die {@link Aufwaermstatistik};
+ * waehrenddessen laesst sich der Fortschritt abfragen - etwa fuer eine
+ * Readiness-Probe.
+ * <p>
+ * Abschliessen kann die Aufwaermung nur sie selbst - von aussen laesst sie
+ * sich nur abbrechen ({@link #cancel(boolean)}). Sie endet dann nach dem
+ * aktuellen Lexem.
+ */
+@ThreadSafe
+public final class Aufwaermung implements Future<Aufwaermstatistik> {
+	private final CompletableFuture<Aufwaermstatistik> ergebnis = new CompletableFuture<>();
+
+	private final int anzahlLexeme;
+
+	private final AtomicInteger anzahlLexemeErledigt = new AtomicInteger();
+
+	private volatile boolean geschlosseneWortklassenErledigt;
+
+	Aufwaermung(final int anzahlLexeme) {
+		this.anzahlLexeme = anzahlLexeme;
+	}
+
+	/**
+	 * Gibt das Ergebnis als {@link CompletionStage} zurueck - etwa um
+	 * anschliessend etwas anderes zu starten. Jeder Aufruf liefert eine neue,
+	 * abhaengige Stage; wird sie von aussen abgeschlossen, hat das auf die
+	 * Aufwaermung keine Auswirkung.
+	 */
+	public CompletionStage<Aufwaermstatistik> getErgebnis() {
+		return ergebnis.thenApply(statistik -> statistik);
+	}
+
+	/**
+	 * Bricht die Aufwaermung ab - sie endet nach dem aktuellen Lexem.
+	 *
+	 * @param mayInterruptIfRunning
+	 *          ohne Bedeutung - der Thread wird nicht unterbrochen
+	 */
+	@Override
+	public boolean cancel(final boolean mayInterruptIfRunning) {
+		return ergebnis.cancel(mayInterruptIfRunning);
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return ergebnis.isCancelled();
+	}
+
+	@Override
+	public boolean isDone() {
+		return ergebnis.isDone();
+	}
+
+	@Override
+	public Aufwaermstatistik get() throws InterruptedException, ExecutionException {
+		return ergebnis.get();
+	}
+
+	@Override
+	public Aufwaermstatistik get(final long timeout, final TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		return ergebnis.get(timeout, unit);
+	}
+
+	public int getAnzahlLexeme() {
+		return anzahlLexeme;
+	}
+
+	/**
+	 * Wie viele Lexeme bisher abgearbeitet wurden (ob vorflektiert, uebersprungen
+	 * oder fehlgeschlagen)
+	 */
+	public int getAnzahlLexemeErledigt() {
+		return anzahlLexemeErledigt.get();
+	}
+
+	/**
+	 * Ob die Flektierer initialisiert und die Paradigmen der geschlossenen
+	 * Wortklassen (Artikel, Pronomen, Verschmelzungen) geladen sind
+	 */
+	public boolean isGeschlosseneWortklassenErledigt() {
+		return geschlosseneWortklassenErledigt;
+	}
+
+	/**
+	 * Gibt den Fortschritt zurueck - zwischen 0 und 1. (Die Initialisierung und
+	 * die geschlossenen Wortklassen zaehlen dabei wie ein Lexem.) Eine
+	 * abgebrochene oder fehlgeschlagene Aufwaermung steht auf 1.
+	 */
+	public double getFortschritt() {
+		if (isDone()) {
+			return 1.0;
+		}
+
+		return (getAnzahlLexemeErledigt() + (geschlosseneWortklassenErledigt ? 1.0 : 0.0))
+				/ (anzahlLexeme + 1.0);
+	}
+
+	void geschlosseneWortklassenErledigt() {
+		geschlosseneWortklassenErledigt = true;
+	}
+
+	void lexemErledigt() {
+		anzahlLexemeErledigt.incrementAndGet();
+	}
+
+	void abschliessen(final Aufwaermstatistik statistik) {
+		ergebnis.complete(statistik);
+	}
+
+	void scheitern(final Throwable grund) {
+		ergebnis.completeExceptionally(grund);
+	}
+
+	@Override
+	public String toString() {
+		if (isDone()) {
+			return "Aufwaermung beendet: " + ergebnis;
+		}
+
+		return "Aufwaermung laeuft: " + getAnzahlLexemeErledigt() + " von " + anzahlLexeme + " Lexemen"
+				+ (geschlosseneWortklassenErledigt ? "" : ", geschlossene Wortklassen noch nicht geladen");
+	}
+}
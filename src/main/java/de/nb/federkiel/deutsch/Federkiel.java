@@ -0,0 +1,258 @@
+package de.nb.federkiel.deutsch;
+
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.grammatik.valenz.ErgaenzungsOderAngabeTypen;
+import de.nb.federkiel.deutsch.grammatik.valenz.Valenz;
+import de.nb.federkiel.deutsch.grammatik.valenz.Valenzvariante;
+import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.AdjektivFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.ArtikelFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.DemonstrativpronomenFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.FremdwortTyp;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.IndefinitpronomenFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.PersonalpronomenFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.PossessivpronomenFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.PraepositionsartikelverschmelzungFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Pronomenparadigmen;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivPronomenUtil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.VerbFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.SubstantivFlektierer;
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.deutsch.lexikon.GermanPOS;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.lexikon.Lexeme;
+
+/**
+ * Einstiegspunkt fuer Dinge, die die Bibliothek als Ganzes betreffen.
+ */
+@ThreadSafe
+public final class Federkiel {
+	/**
+	 * Die Klassen, die beim Aufwaermen initialisiert werden - die Flektierer und
+	 * die Klassen mit grossen statischen Tabellen
+	 */
+	private static final ImmutableList<Class<?>> ZU_INITIALISIERENDE_KLASSEN = ImmutableList.of(
+			SubstantivFlektierer.class, VerbFlektierer.class, AdjektivFlektierer.class, ArtikelFlektierer.class,
+			PersonalpronomenFlektierer.class, PossessivpronomenFlektierer.class,
+			DemonstrativpronomenFlektierer.class, IndefinitpronomenFlektierer.class,
+			PraepositionsartikelverschmelzungFlektierer.class, Pronomenparadigmen.class, GermanUtil.class,
+			Artikel.class, Valenz.class, ErgaenzungsOderAngabeTypen.class);
+
+	/**
+	 * Die Verschmelzungen von Praeposition und Artikel (<i>am</i>, <i>zur</i>,
+	 * ...)
+	 */
+	private static final ImmutableList<Function<String, ImmutableCollection<IWordForm>>> VERSCHMELZUNGEN =
+			ImmutableList.of(PraepositionsartikelverschmelzungFlektierer.INSTANCE::anDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::anAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::aufAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::beiDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::durchVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::fuerVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::hinterDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::hinterAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::inDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::inAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::umAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::unterDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::unterAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::vonDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::vorDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::vorAkkVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::zuVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::ueberDatVerschmelzung,
+					PraepositionsartikelverschmelzungFlektierer.INSTANCE::ueberAkkVerschmelzung);
+
+	private Federkiel() {
+	}
+
+	/**
+	 * Waermt die Bibliothek im Hintergrund auf - damit nicht die ersten Anfragen
+	 * nach dem Start langsam sind, weil Klassen initialisiert, Tabellen
+	 * aufgebaut und Paradigmen erzeugt werden. Dazu werden (in einer einzigen
+	 * Aufgabe fuer den <code>executor</code>)
+	 * <ol>
+	 * <li>alle Flektierer (und die Klassen mit grossen Tabellen) initialisiert,
+	 * <li>die Paradigmen der geschlossenen Wortklassen geladen - der bestimmte
+	 * und der unbestimmte Artikel, Personal-, Reflexiv- und Relativpronomen,
+	 * <i>jemand</i>, <i>niemand</i> und <i>man</i> sowie die Verschmelzungen von
+	 * Praeposition und Artikel,
+	 * <li>die <code>lexeme</code> vorflektiert, jeweils nach ihrem Typ
+	 * (Substantive, Vollverben, Adjektive, Personal-, Reflexiv- und
+	 * Possessivpronomen - andere Lexeme werden uebersprungen).
+	 * </ol>
+	 * Es werden dabei die geteilten Flektierer verwendet (etwa
+	 * {@link AdjektivFlektierer#INSTANCE}); Caches eigener Flektierer-Instanzen
+	 * werden nicht gefuellt.
+	 * <p>
+	 * Was die Flektierer aus einem Substantiv oder Verb ableiten (Stamm,
+	 * Flexionsklassen, Verbformen), haengt am uebergebenen Lexem-Objekt (vgl.
+	 * {@link Lexeme#getMorphologieprofil(Class, java.util.function.Function)}).
+	 * Die Anwendung muss deshalb spaeter <i>dieselben</i> Lexem-Objekte
+	 * flektieren, etwa die aus ihrem Lexikon - bei einem gleichen, neu erzeugten
+	 * Lexem wird alles erneut abgeleitet. Adjektivparadigmen werden dagegen
+	 * fuer gleiche Lexeme gecachet, Pronomenparadigmen fuer Pronomen gleicher
+	 * Nennform (vgl. {@link Pronomenparadigmen}). Verben werden nur mit einer
+	 * Valenz (nur Subjekt) konjugiert - die Verbformen haengen nicht von der
+	 * Valenz ab.
+	 * <p>
+	 * Schlaegt das Flektieren eines Lexems fehl, wird es gezaehlt und die
+	 * Aufwaermung fortgesetzt.
+	 *
+	 * @param lexeme
+	 *          die Lexeme, die voraussichtlich haeufig angefragt werden
+	 * @return die Aufwaermung - eine Future, die nach dem Ende die
+	 *         {@link Aufwaermstatistik} liefert, und deren Fortschritt sich
+	 *         vorher abfragen laesst
+	 */
+	public static Aufwaermung warmUp(final Collection<Lexeme> lexeme, final Executor executor) {
+		final ImmutableList<Lexeme> lexemeKopie = ImmutableList.copyOf(lexeme);
+		final Aufwaermung res = new Aufwaermung(lexemeKopie.size());
+
+		try {
+			executor.execute(() -> waermeAuf(lexemeKopie, res));
+		} catch (final RejectedExecutionException e) {
+			res.scheitern(e);
+		}
+
+		return res;
+	}
+
+	private static void waermeAuf(final ImmutableList<Lexeme> lexeme, final Aufwaermung aufwaermung) {
+		try {
+			final long start = System.nanoTime();
+			initialisiereKlassen();
+			final long nachKlasseninitialisierung = System.nanoTime();
+			ladeGeschlosseneWortklassen();
+			final long nachGeschlossenenWortklassen = System.nanoTime();
+			aufwaermung.geschlosseneWortklassenErledigt();
+
+			int anzahlVorflektiert = 0;
+			int anzahlUebersprungen = 0;
+			int anzahlFehlgeschlagen = 0;
+			for (final Lexeme lexem : lexeme) {
+				if (aufwaermung.isCancelled()) {
+					return;
+				}
+
+				try {
+					if (flektiere(lexem)) {
+						anzahlVorflektiert++;
+					} else {
+						anzahlUebersprungen++;
+					}
+				} catch (final RuntimeException e) {
+					anzahlFehlgeschlagen++;
+				}
+
+				aufwaermung.lexemErledigt();
+			}
+
+			aufwaermung.abschliessen(new Aufwaermstatistik(lexeme.size(), anzahlVorflektiert, anzahlUebersprungen,
+					anzahlFehlgeschlagen, nachKlasseninitialisierung - start,
+					nachGeschlossenenWortklassen - nachKlasseninitialisierung,
+					System.nanoTime() - nachGeschlossenenWortklassen));
+		} catch (final RuntimeException | Error e) {
+			aufwaermung.scheitern(e);
+		}
+	}
+
+	private static void initialisiereKlassen() {
+		for (final Class<?> klasse : ZU_INITIALISIERENDE_KLASSEN) {
+			try {
+				Class.forName(klasse.getName(), true, klasse.getClassLoader());
+			} catch (final ClassNotFoundException e) {
+				// kann nicht passieren - die Klasse ist ja schon geladen
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private static void ladeGeschlosseneWortklassen() {
+		for (final Kasus kasus : Kasus.values()) {
+			for (final Genus genus : Genus.values()) {
+				Artikel.UNBESTIMMT.getFlektiertAlsDeterminativFuer(kasus, Numerus.SINGULAR, genus, false);
+
+				for (final Numerus numerus : Numerus.values()) {
+					Artikel.BESTIMMT.getFlektiertAlsDeterminativFuer(kasus, numerus, genus, false);
+					Artikel.UNBESTIMMT.getFlektiertAlsDeterminativFuer(kasus, numerus, genus, true);
+					Pronomenparadigmen.relativpronomen(kasus, numerus, genus);
+				}
+			}
+		}
+
+		PersonalpronomenFlektierer.INSTANCE.irreflexiv(
+				SubstantivPronomenUtil.createPronoun(GermanLexemeType.PERSONALPRONOMEN, "ich"),
+				GermanPOS.PPER.toString());
+		PersonalpronomenFlektierer.INSTANCE.reflexiv(
+				SubstantivPronomenUtil.createPronoun(GermanLexemeType.REFLEXIVPRONOMEN, "sich"),
+				GermanPOS.PRF.toString());
+
+		IndefinitpronomenFlektierer.INSTANCE.jemandNiemand(
+				SubstantivPronomenUtil.createIndefinitpronomen("jemand", true, false), GermanPOS.PIS.toString());
+		IndefinitpronomenFlektierer.INSTANCE.jemandNiemand(
+				SubstantivPronomenUtil.createIndefinitpronomen("niemand", true, false), GermanPOS.PIS.toString());
+		IndefinitpronomenFlektierer.INSTANCE.man(SubstantivPronomenUtil.createIndefinitpronomen("man", false, false),
+				GermanPOS.PIS.toString());
+
+		for (final Function<String, ImmutableCollection<IWordForm>> verschmelzung : VERSCHMELZUNGEN) {
+			verschmelzung.apply(GermanPOS.APPRART.toString());
+		}
+	}
+
+	/**
+	 * Flektiert das Lexem (die Wortformen werden verworfen)
+	 *
+	 * @return ob das Lexem flektiert wurde - <code>false</code>, wenn es
+	 *         uebersprungen wurde
+	 */
+	private static boolean flektiere(final Lexeme lexem) {
+		if (!(lexem.getType() instanceof GermanLexemeType)) {
+			return false;
+		}
+
+		switch ((GermanLexemeType) lexem.getType()) {
+		case NORMALES_NOMEN:
+			SubstantivFlektierer.INSTANCE.std(lexem, GermanPOS.NN.toString(), true, true, false, false,
+					FremdwortTyp.KEIN_FREMDWORT, false, false);
+			return true;
+		case VOLLVERB:
+			VerbFlektierer.INSTANCE.stdFin(new Valenzvariante(lexem.getCanonicalizedForm(), Valenz.NUR_SUBJEKT),
+					lexem, GermanPOS.VVFIN.toString());
+			return true;
+		case ADJEKTIV:
+			AdjektivFlektierer.INSTANCE.paradigma(lexem, lexem.getCanonicalizedForm());
+			return true;
+		case PERSONALPRONOMEN:
+			PersonalpronomenFlektierer.INSTANCE.irreflexiv(lexem, GermanPOS.PPER.toString());
+			return true;
+		case REFLEXIVPRONOMEN:
+			PersonalpronomenFlektierer.INSTANCE.reflexiv(lexem, GermanPOS.PRF.toString());
+			return true;
+		case ATTRIBUIERENDES_POSSESSIVPRONOMEN:
+			PossessivpronomenFlektierer.INSTANCE.possessivAttributiv(lexem, GermanPOS.PPOSAT.toString());
+			return true;
+		case SUBSTITUIERENDES_POSSESSIVPRONOMEN:
+			PossessivpronomenFlektierer.INSTANCE.possessivSubstituierend(lexem, GermanPOS.PPOSS.toString(),
+					lexem.getCanonicalizedForm());
+			return true;
+		default:
+			// Hierfuer braeuchte es weitere Angaben (etwa bei Modalverben oder
+			// Eigennamen) - oder es gibt nichts zu flektieren.
+			return false;
+		}
+	}
+}
@@ -20,6 +20,7 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
+import de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition;
 import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.Aufzaehlbar;
 import de.nb.federkiel.grammatik.wortart.verb.VerbFlexionstyp;
 
@@ -51,6 +52,22 @@ public class ArtNumNominalphrase implements Aufzaehlbar {
     return numNominalphrase.getFlektiertMitArtikel(kasus, artikel);
   }
 
+  /**
+   * Gibt die flektierte Form nach dieser Prposition (die diesen Kasus regiert)
+   * zurck, wobei der bestimmte Artikel mit der Prposition verschmolzen ist
+   * (&quot;im Wald&quot;, &quot;ins Haus&quot;) - oder <code>null</code>, falls
+   * es hier keine Verschmelzung gibt.
+   */
+  public @Nullable String getFlektiertMitVerschmelzung(final Praeposition praeposition,
+      final Kasus kasus) {
+    if (artikel != Artikel.BESTIMMT) {
+      return null;
+    }
+
+    return numNominalphrase.getNominalphrase().getFlektiertMitVerschmelzung(
+        praeposition, kasus, numNominalphrase.getNumerus());
+  }
+
   @Override
   public String getFlektiert(final @Nullable Flexionstyp flexionstyp, final Kasus kasus,
       final @Nullable Numerus numerus, final @Nullable Genus genus,
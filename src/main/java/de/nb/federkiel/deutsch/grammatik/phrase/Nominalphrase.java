@@ -22,6 +22,9 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.wortart.adjektiv.Adjektiv;
 import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.PraepositionsartikelverschmelzungFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Pronomenparadigmen;
+import de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition;
 import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.Substantiv;
 
 /**
@@ -211,17 +214,47 @@ public class Nominalphrase implements Cloneable {
   public String getFlektiertMitArtikel(final Kasus kasus, final Numerus numerus,
       final @Nullable Artikel artikel) {
     // FIXME: von groen Orks mit einem grimmigen Lcheln does not work?!
-    String res = artikel != null
+    final String res = artikel != null
         ? artikel.getFlektiertAlsDeterminativFuer(kasus, numerus, getGenus(),
             isNegiert()) : "";
 
+    return concatSpacedTrim(res, getFlektiertOhneArtikelwort(kasus, numerus, artikel));
+  }
+
+  /**
+   * Gibt die flektierte Form zurck, wobei der bestimmte Artikel mit dieser
+   * Prposition verschmolzen ist (&quot;zum freundlichen Ork&quot;) - oder
+   * <code>null</code>, falls es hier keine solche Verschmelzung gibt.
+   */
+  public @Nullable String getFlektiertMitVerschmelzung(final Praeposition praeposition,
+      final Kasus kasus, final Numerus numerus) {
+    if (isNegiert()) {
+      return null;
+    }
+
+    final @Nullable String verschmelzung = PraepositionsartikelverschmelzungFlektierer
+        .verschmelzeMitBestimmtemArtikel(praeposition, kasus, numerus, getGenus());
+    if (verschmelzung == null) {
+      return null;
+    }
+
+    return concatSpacedTrim(verschmelzung,
+        getFlektiertOhneArtikelwort(kasus, numerus, Artikel.BESTIMMT));
+  }
+
+  /**
+   * Gibt die flektierte Form ohne das Artikelwort selbst zurck - die
+   * Adjektive werden aber so flektiert, wie es der Artikel verlangt.
+   */
+  private String getFlektiertOhneArtikelwort(final Kasus kasus, final Numerus numerus,
+      final @Nullable Artikel artikel) {
     final Flexionstyp flexionstypAdjektivphrasen =
         artikel != null && artikel.hatFlexionsendung(kasus, numerus, getGenus())
             ? Flexionstyp.SCHWACHE_FLEXION
             : Flexionstyp.STARKE_FLEXION;
 
-    res = concatSpacedTrim(res, adjektivphrasen.getFlektiert(
-        flexionstypAdjektivphrasen, kasus, numerus, getGenus(), null));
+    String res = adjektivphrasen.getFlektiert(
+        flexionstypAdjektivphrasen, kasus, numerus, getGenus(), null);
     res = concatSpacedTrim(res,
         substantiv.getWortform(kasus, numerus));
     res = concatSpacedTrim(res,
@@ -259,10 +292,7 @@ public class Nominalphrase implements Cloneable {
    * Gibt das Relativpronomen fr diese Phrase zurck: der, den, die o..
    */
   public String getRelativpronomen(final Kasus kasus, final Numerus numerus) {
-    // FIXME das stimmt nicht ganz: den Menschen, DENEN! Vgl. PRELS-Recognizer (nur rudimentr)
-
-    return Artikel.BESTIMMT.getFlektiertAlsDeterminativFuer(kasus, numerus, getGenus(), false); // nicht
-                                                                                                // negiert
+    return Pronomenparadigmen.relativpronomen(kasus, numerus, getGenus());
   }
 
   public AdjektivphrasenAufzaehlung getAdjektivphrasen() {
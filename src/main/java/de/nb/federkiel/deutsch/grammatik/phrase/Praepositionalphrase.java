@@ -12,6 +12,8 @@ package de.nb.federkiel.deutsch.grammatik.phrase;
 
 import javax.annotation.Nullable;
 
+import com.google.common.base.Preconditions;
+
 import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
@@ -31,17 +33,38 @@ import de.nb.federkiel.string.StringUtil;
 public class Praepositionalphrase implements Aufzaehlbar {
 
   private final Praeposition praeposition;
+  private final Kasus kasus;
   private final ArtNumNominalphrase artNumNominalphrase;
 
   public Praepositionalphrase(final Praeposition praeposition,
       final ArtNumNominalphrase artNumNominalphrase) {
+    this(praeposition, praeposition.getKasus(), artNumNominalphrase);
+  }
+
+  /**
+   * @param kasus der Kasus, den die Prposition hier regiert - bei
+   *        Wechselprpositionen der Dativ (&quot;im Haus&quot;) oder der
+   *        Akkusativ (&quot;ins Haus&quot;)
+   */
+  public Praepositionalphrase(final Praeposition praeposition, final Kasus kasus,
+      final ArtNumNominalphrase artNumNominalphrase) {
+    Preconditions.checkArgument(praeposition.regiert(kasus),
+        "Die Prposition %s regiert nicht den %s!", praeposition, kasus);
+
     this.praeposition = praeposition;
+    this.kasus = kasus;
     this.artNumNominalphrase = artNumNominalphrase;
   }
 
   public String getFlektiert() {
+    final @Nullable String mitVerschmelzung =
+        this.artNumNominalphrase.getFlektiertMitVerschmelzung(this.praeposition, this.kasus);
+    if (mitVerschmelzung != null) {
+      return mitVerschmelzung;
+    }
+
     return StringUtil.concatSpacedTrim(this.praeposition.getName(),
-        this.artNumNominalphrase.getFlektiert(this.praeposition.getKasus()));
+        this.artNumNominalphrase.getFlektiert(this.kasus));
   }
 
   @Override
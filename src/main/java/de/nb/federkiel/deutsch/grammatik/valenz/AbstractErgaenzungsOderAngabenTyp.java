@@ -25,6 +25,12 @@ import de.nb.federkiel.logic.IFormula;
  * @author nbudzyn 2011
  */
 abstract public class AbstractErgaenzungsOderAngabenTyp {
+  /**
+   * Gecachet - erst beim ersten Zugriff erzeugt, damit das Laden der
+   * Ergnzungstypen und Valenzen schnell geht.
+   */
+  private volatile @Nullable RestrictedFSSet restrictionSlot;
+
 	/**
 	 * Gibt etwas wie <code>Subjekt</code> oder <code>Dativobjekt</code> zurck.
 	 */
@@ -47,7 +53,25 @@ abstract public class AbstractErgaenzungsOderAngabenTyp {
    * Beispiel: Ein IM ENGEREN SINNE TRANSITIVES Verb steht mit einem Subjekt und
    * einem Akkusativobjekt, ein Dativobjekt wre verboten.
    */
-  public abstract RestrictedFSSet buildRestrictionSlot();
+  public RestrictedFSSet buildRestrictionSlot() {
+    final @Nullable RestrictedFSSet res = restrictionSlot;
+    if (res != null) {
+      return res;
+    }
+
+    // Ggf. berechnen mehrere Threads denselben Wert - das ist unkritisch.
+    final RestrictedFSSet neu = calcRestrictionSlot();
+    restrictionSlot = neu;
+    return neu;
+  }
+
+  /**
+   * Erzeugt den Slot fr {@link #buildRestrictionSlot()} - standardmig
+   * ohne Einschrnkungen durch das Subjekt.
+   */
+  protected RestrictedFSSet calcRestrictionSlot() {
+    return buildSlot(null, null, null, null);
+  }
 
   static IFormula<FeatureAssignment> buildPraedikativeOderAdverbialeAdjektivphraseFeatureCondition(
       final String person, final Genus genusDesSubjekts,
@@ -35,12 +35,6 @@ final class AdverbialeAngabenTyp extends AbstractErgaenzungsOderAngabenTyp {
 
   private final boolean geeignetZurAdjektivischenForm;
 
-  /**
-   * Gecachet.
-   */
-  private final RestrictedFSSet restrictionSlot;
-
-
   /**
    * Erzeugt einen <code>AdverbialeAngabenTyp</code>.
    *
@@ -51,7 +45,6 @@ final class AdverbialeAngabenTyp extends AbstractErgaenzungsOderAngabenTyp {
     super();
     this.slotName = slotName;
     this.geeignetZurAdjektivischenForm = geeignetZurAdjektivischenForm;
-    restrictionSlot = buildSlot(null, null, null, null);
   }
 
   @Override
@@ -148,11 +141,6 @@ final class AdverbialeAngabenTyp extends AbstractErgaenzungsOderAngabenTyp {
 						featureConditionExcludingIrreflexivePersonalPronoun);
   }
 
-  @Override
-  public RestrictedFSSet buildRestrictionSlot() {
-    return restrictionSlot;
-  }
-
   @Override
   public boolean equals(final Object obj) {
     return super.equals(obj);
@@ -56,11 +56,6 @@ final class ObjektTyp extends AbstractErgaenzungsOderAngabenTyp {
    */
   private final int maxFillings;
 
-  /**
-   * Gecachet.
-   */
-  private final RestrictedFSSet restrictionSlot;
-
   /**
    * Slot fr ein "normales" Objekt (nicht ausschlielich reflexiv, kein Pseudoaktant, genau ein
    * Vorkommen)
@@ -87,8 +82,6 @@ final class ObjektTyp extends AbstractErgaenzungsOderAngabenTyp {
     this.maxFillings = maxFillings;
     this.nurReflexivesObjektErlaubt = nurReflexivesObjektErlaubt;
     pseudoaktantEs = pseudoaktant;
-
-    restrictionSlot = buildSlot(null, null, null, null);
   }
   
   @Override
@@ -161,11 +154,6 @@ final class ObjektTyp extends AbstractErgaenzungsOderAngabenTyp {
         reqsAlternativeNichtReinReflexiv);
   }
 
-  @Override
-  public RestrictedFSSet buildRestrictionSlot() {
-    return restrictionSlot;
-  }
-
   /**
    * @return Eine Bedingung fr eine N_PRONOMEN_PHR_REIHUNG, die sicherstellt, dass es sich um ein
    *         einzelnes reflexiv gebrauchtes Pronomen handelt: <i>mich</i>, <i>sich</i> - aber nicht
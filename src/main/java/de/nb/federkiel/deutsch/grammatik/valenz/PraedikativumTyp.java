@@ -28,12 +28,6 @@ final class PraedikativumTyp extends AbstractErgaenzungsOderAngabenTyp {
 
 	public static final PraedikativumTyp INSTANCE = new PraedikativumTyp();
 
-	private static final RestrictedFSSet RESTRICTION_SLOT = RestrictedFSSet.of(
-			GrammarFSUtil.buildSlotRequirements("N_PRONOMEN_PHR_REIHUNG", buildPraedikatsnomenFeatureCondition(null)), // "ein
-                                                                                                 // Esel"
-			GrammarFSUtil.buildSlotRequirements("ADJEKTIV_PHR_UNFLEKT_REIHUNG",
-          buildPraedikativeOderAdverbialeAdjektivphraseFeatureCondition(null, null, null, null))); // klug
-
   private PraedikativumTyp() {
     super();
   }
@@ -56,8 +50,12 @@ final class PraedikativumTyp extends AbstractErgaenzungsOderAngabenTyp {
   }
 
   @Override
-  public RestrictedFSSet buildRestrictionSlot() {
-    return RESTRICTION_SLOT;
+  protected RestrictedFSSet calcRestrictionSlot() {
+    return RestrictedFSSet.of(
+        GrammarFSUtil.buildSlotRequirements("N_PRONOMEN_PHR_REIHUNG",
+            buildPraedikatsnomenFeatureCondition(null)), // "ein Esel"
+        GrammarFSUtil.buildSlotRequirements("ADJEKTIV_PHR_UNFLEKT_REIHUNG",
+            buildPraedikativeOderAdverbialeAdjektivphraseFeatureCondition(null, null, null, null))); // klug
   }
 
   @Override
@@ -107,7 +107,7 @@ public class ReinerInfinitivTyp extends AbstractErgaenzungsOderAngabenTyp {
 	}
 
 	@Override
-	public RestrictedFSSet buildRestrictionSlot() {
+	protected RestrictedFSSet calcRestrictionSlot() {
 		// FIXME richtige Bedingung
 		return RestrictedFSSet.of(GrammarFSUtil.buildSlotRequirements(
 				// TODO richtige Bedingungen
@@ -42,18 +42,11 @@ final class SubjektTyp extends AbstractErgaenzungsOderAngabenTyp {
    */
   private final int minFillings;
 
-  /**
-   * Gecachet.
-   */
-  private final RestrictedFSSet restrictionSlot;
-
   public SubjektTyp(final String slotName, final int minFillings, final boolean pseudoaktantEs) {
     super();
     this.slotName = slotName;
     this.minFillings = minFillings;
     this.pseudoaktantEs = pseudoaktantEs;
-
-    restrictionSlot = buildSlot(null, null, null, null);
   }
 
   @Override
@@ -68,11 +61,6 @@ final class SubjektTyp extends AbstractErgaenzungsOderAngabenTyp {
         reqsAlternative);
   }
 
-  @Override
-  public RestrictedFSSet buildRestrictionSlot() {
-    return restrictionSlot;
-  }
-
   private IFormula<FeatureAssignment> buildFeatureConditionForN_PRONOMEN_PHR_REIHUNG(
       final String person, final Genus genus, final Numerus numerus,
       final String hoeflichkeitsformDesSubjekts) {
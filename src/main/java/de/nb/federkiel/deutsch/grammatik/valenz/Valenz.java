@@ -6,16 +6,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.RestrictedFSSet;
+import de.nb.federkiel.feature.StringFeatureLogicUtil;
 import de.nb.federkiel.interfaces.IFeatureValue;
 import de.nb.federkiel.reflection.ReflectionUtil;
 import de.nb.federkiel.semantik.NothingInParticularSemantics;
@@ -31,40 +37,83 @@ import de.nb.federkiel.semantik.NothingInParticularSemantics;
  * Valenzen lassen sich hnlich auch bei Adjektiven beobachten (<i>des Lrms
  * schon lange berdrssigen</i>) - in diesem Fall ist das "Subjekt" jeweils
  * implizit gegeben.
+ * <p>
+ * Jede Valenz gibt es nur einmal (mit einer dichten Nummer, vgl.
+ * {@link #getId()}) - auch die abgeleiteten Valenzen (etwa
+ * {@link #beiImplizitemSubjekt()}). Diese Ableitungen werden beim Erzeugen
+ * der Valenz vorab berechnet.
  *
  * @author nbudzyn 2011
  */
 public final class Valenz {
+	/**
+	 * Anzahl der Kombinationen von Person, Genus, Numerus und Hflichkeitsform
+	 * des Subjekts (jeweils einschlielich <code>null</code>) und
+	 * <code>fuerAdjektivischeForm</code>, fr die die Slots gecachet werden (muss vor den
+	 * Valenzen initialisiert werden)
+	 */
+	private static final int ANZAHL_SLOT_KOMBINATIONEN = 4 * (Genus.values().length + 1)
+			* (Numerus.values().length + 1) * 3 * 2;
+
+	/**
+	 * Die Valenzen, nach ihren Ergnzungstypen (muss vor den Valenzen
+	 * initialisiert werden)
+	 */
+	private static final ConcurrentHashMap<List<AbstractErgaenzungsOderAngabenTyp>, Valenz> VALENZEN = new ConcurrentHashMap<>();
+
+	private static final Object LOCK = new Object();
+
+	@GuardedBy("LOCK")
+	private static int naechsteId = 0;
+
+	private static final int ABLEITUNG_IMPLIZITES_SUBJEKT = 0;
+	private static final int ABLEITUNG_IMPLIZITES_SUBJEKT_UND_AKK_OBJEKT = 1;
+	private static final int ABLEITUNG_IMPLIZITES_SUBJEKT_UND_ZUS_PERSON_AKK_OBJEKT = 2;
+	private static final int ABLEITUNG_IMPLIZITES_SUBJEKT_UND_REFL_AKK_OBJEKT = 3;
+
+	/**
+	 * Die impliziten Ergnzungen der Ableitungen, die fr jede Valenz vorab
+	 * berechnet werden (vgl.
+	 * {@link #beiDiesenImplizitenErgaenzungen(AbstractErgaenzungsOderAngabenTyp...)}),
+	 * indiziert per <code>ABLEITUNG_...</code> (muss vor den Valenzen
+	 * initialisiert werden)
+	 */
+	private static final AbstractErgaenzungsOderAngabenTyp[][] ABLEITUNGEN = {
+			{ ErgaenzungsOderAngabeTypen.SUBJEKT },
+			{ ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT },
+			{ ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.ZUS_PERSON_AKK_OBJEKT },
+			{ ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT } };
+
 	// TRANSITIV (i.w.S.)
 	/**
 	 * (jemanden) kennen, (etwas) essen
 	 */
-	public static final Valenz TRANSITIV_IES = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz TRANSITIV_IES = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
 	/**
 	 * (jemandem etwas) stehlen
 	 */
-	public static final Valenz DITRANSITIV = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz DITRANSITIV = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.DATIVOBJEKT, ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
 	/**
 	 * (jemanden einer Sache) verdchtigen
 	 */
-	public static final Valenz AKKUSATIV_UND_GENITIV_OBJEKT = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz AKKUSATIV_UND_GENITIV_OBJEKT = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.GENITIVOBJEKT, ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
 	/**
 	 * (jemanden etwas) lehren
 	 */
-	public static final Valenz ZWEI_AKKUSATIVOBJEKTE = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz ZWEI_AKKUSATIVOBJEKTE = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT, ErgaenzungsOderAngabeTypen.ZUS_PERSON_AKK_OBJEKT);
 
 	/**
 	 * "Die Zeitungen nannten den Schiedsrichter einen Trottel." - "Der
 	 * Schiedsrichter wurde von den Zeitungen ein Trottel genannt."
 	 */
-	public static final Valenz AKK_OBJEKT_UND_OBJEKTSPRAEDIKAT_IM_AKK = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz AKK_OBJEKT_UND_OBJEKTSPRAEDIKAT_IM_AKK = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 	// TODO Objektsprdikat im Akkusativ, siehe Duden Bd.4 2006, 538
 
@@ -72,7 +121,7 @@ public final class Valenz {
 	 * "Man betrachtet seinen Rcktritt als einen groen Fehler." - "Sein Rcktritt
 	 * wurde als ein groer Fehler betrachtet."
 	 */
-	public static final Valenz AKK_OBJEKT_UND_OBJEKTSPRAEDIKAT_MIT_ALS = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz AKK_OBJEKT_UND_OBJEKTSPRAEDIKAT_MIT_ALS = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 	// TODO Objektsprdikat im Akkusativ, siehe Duden Bd.4 2006, 538
 
@@ -80,24 +129,24 @@ public final class Valenz {
 	/**
 	 * laufen
 	 */
-	public static final Valenz NUR_SUBJEKT = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT);
+	public static final Valenz NUR_SUBJEKT = of(ErgaenzungsOderAngabeTypen.SUBJEKT);
 
 	/**
 	 * (jemandem) helfen
 	 */
-	public static final Valenz DATIV_OBJEKT = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz DATIV_OBJEKT = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.DATIVOBJEKT);
 
 	/**
 	 * (einer Sache) bedrfen
 	 */
-	public static final Valenz GENITIV_OBJEKT = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz GENITIV_OBJEKT = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.GENITIVOBJEKT);
 
 	/**
 	 * (etwas / irgendwie) sein, (etwas / irgendwie) werden
 	 */
-	public static final Valenz SUBJEKT_PRAEDIKATIVUM = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz SUBJEKT_PRAEDIKATIVUM = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.PRAEDIKATIVUM);
 
 	// SONSTIGES
@@ -105,14 +154,14 @@ public final class Valenz {
 	/**
 	 * blau (nur ein implizites Subjekt)
 	 */
-	public static final Valenz LEER = new Valenz();
+	public static final Valenz LEER = of();
 
 	/**
 	 * sich schmen.
 	 * <p>
 	 * Diese Verben gelten NICHT als transitiv!
 	 */
-	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT);
 
 	/**
@@ -120,7 +169,7 @@ public final class Valenz {
 	 * <p>
 	 * Diese Verben gelten NICHT als transitiv, auch nicht als ditransitiv!
 	 */
-	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ_UND_MIT_DATIVOBJ = new Valenz(
+	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ_UND_MIT_DATIVOBJ = of(
 			ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT,
 			ErgaenzungsOderAngabeTypen.DATIVOBJEKT);
 
@@ -129,14 +178,14 @@ public final class Valenz {
 	 * <p>
 	 * Diese Verben gelten NICHT als transitiv.
 	 */
-	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ_UND_MIT_GENITIVOBJ = new Valenz(
+	public static final Valenz MIT_REFLEXIVEM_AKKUSATIVOBJ_UND_MIT_GENITIVOBJ = of(
 			ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT,
 			ErgaenzungsOderAngabeTypen.GENITIVOBJEKT);
 
 	/**
 	 * Diese Verben gelten NICHT als intransitiv.
 	 */
-	public static final Valenz MIT_REFLEXIVEM_DATIVOBJ = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz MIT_REFLEXIVEM_DATIVOBJ = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.REFL_DATIVOBJEKT);
 
 	/**
@@ -144,7 +193,7 @@ public final class Valenz {
 	 * <p>
 	 * Diese Verben gelten NICHT als intransitiv und nicht als transitiv.
 	 */
-	public static final Valenz MIT_REFLEXIVEM_DATIVOBJ_UND_MIT_AKKUSATIVOBJ = new Valenz(
+	public static final Valenz MIT_REFLEXIVEM_DATIVOBJ_UND_MIT_AKKUSATIVOBJ = of(
 			ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.REFL_DATIVOBJEKT,
 			ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
@@ -153,44 +202,44 @@ public final class Valenz {
 	 * <p>
 	 * (Hierunter fallen die "Wetterverben".)
 	 */
-	public static final Valenz IMPERSONALIA_NUR_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT = new Valenz(
+	public static final Valenz IMPERSONALIA_NUR_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT = of(
 			ErgaenzungsOderAngabeTypen.OBLIG_PSEUDOAKTANT_FORMALES_SUBJ);
 
 	/**
 	 * Es regnet rote Rosen.
 	 */
-	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_AKK_OBJ = new Valenz(
+	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_AKK_OBJ = of(
 			ErgaenzungsOderAngabeTypen.OBLIG_PSEUDOAKTANT_FORMALES_SUBJ, ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
 	/**
 	 * Mir graut (vor...) / Es graut mir (vor...)
 	 */
-	public static final Valenz IMPERSONALIA_OPT_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_DAT_OBJ = new Valenz(
+	public static final Valenz IMPERSONALIA_OPT_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_DAT_OBJ = of(
 			ErgaenzungsOderAngabeTypen.OPT_PSEUDOAKTANT_FORMALES_SUBJ, ErgaenzungsOderAngabeTypen.DATIVOBJEKT);
 
 	/**
 	 * Mich graut (vor...) / Es graut mich (vor...)
 	 */
-	public static final Valenz IMPERSONALIA_OPT_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_AKK_OBJ = new Valenz(
+	public static final Valenz IMPERSONALIA_OPT_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_AKK_OBJ = of(
 			ErgaenzungsOderAngabeTypen.OPT_PSEUDOAKTANT_FORMALES_SUBJ, ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
 
 	/**
 	 * Es bedarf eines Auswegs.
 	 */
-	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_GEN_OBJ = new Valenz(
+	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_GEN_OBJ = of(
 			ErgaenzungsOderAngabeTypen.OBLIG_PSEUDOAKTANT_FORMALES_SUBJ, ErgaenzungsOderAngabeTypen.GENITIVOBJEKT);
 
 	/**
 	 * Es handelt sich um Peter.
 	 */
-	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_REFL_AKK_OBJ = new Valenz(
+	public static final Valenz IMPERSONALIA_PSEUDOAKTANT_ALS_FORMALES_SUBJEKT_UND_REFL_AKK_OBJ = of(
 			ErgaenzungsOderAngabeTypen.OBLIG_PSEUDOAKTANT_FORMALES_SUBJ, ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT);
 
 	/**
 	 * Nicht transitive Verben mit einem obligatorischen Pseudoaktanten im Akkusativ
 	 * (und keinen weiteren Objekten): "es gut haben", "es auf etwas anlegen"
 	 */
-	public static final Valenz NICHT_TRANSITIV_MIT_OBLIG_PSEUDOAKTANT_IM_AKK = new Valenz(
+	public static final Valenz NICHT_TRANSITIV_MIT_OBLIG_PSEUDOAKTANT_IM_AKK = of(
 			ErgaenzungsOderAngabeTypen.SUBJEKT, ErgaenzungsOderAngabeTypen.OBLIG_PSEUDOAKTANT_AKK);
 	// TODO Ist nicht "gut" bei "es gut haben" eine Art praedikatives Adjektiv
 	// (wie bei "Peter ist nett."?)
@@ -200,13 +249,19 @@ public final class Valenz {
 	 * <p>
 	 * (<i>Reiner Infinitiv</i> meint <i>Infinitiv ohne zu</i>.)
 	 */
-	public static final Valenz SUBJEKT_REINER_INFINITIV = new Valenz(ErgaenzungsOderAngabeTypen.SUBJEKT,
+	public static final Valenz SUBJEKT_REINER_INFINITIV = of(ErgaenzungsOderAngabeTypen.SUBJEKT,
 			ErgaenzungsOderAngabeTypen.REINER_INFINITIV);
 
 	/**
 	 * Alle mglichen Valenzen
 	 */
-	public static final Collection<Valenz> ALL = ReflectionUtil.getConstantFields(Valenz.class, Valenz.class);
+	public static final Collection<Valenz> ALL = ImmutableSet
+			.copyOf(ReflectionUtil.getConstantFields(Valenz.class, Valenz.class));
+
+	/**
+	 * Dichte Nummer dieser Valenz
+	 */
+	private final int id;
 
 	/**
 	 * Die Ergnzungen, die ein solches Verb verlangt - nicht jedoch die Angaben!
@@ -214,13 +269,68 @@ public final class Valenz {
 	private final AbstractErgaenzungsOderAngabenTyp[] ergaenzungstypen;
 
 	/**
-	 * Gecacheter wert
+	 * Gecacheter wert - erst bei Bedarf berechnet (die Valenz-Konstanten sollen
+	 * beim Laden der Klasse schnell erzeugt sein)
+	 */
+	private volatile @Nullable FeatureStructure restrictions;
+
+	/**
+	 * Die bereits erzeugten Slots (vgl.
+	 * {@link #buildErgaenzungenUndAngabenSlots(String, Genus, Numerus, String, boolean)}),
+	 * indiziert per
+	 * {@link #slotKombination(String, Genus, Numerus, String, boolean)}
+	 */
+	private final AtomicReferenceArray<FeatureStructure> slotsCache = new AtomicReferenceArray<>(
+			ANZAHL_SLOT_KOMBINATIONEN);
+
+	/**
+	 * Die abgeleiteten Valenzen, indiziert per <code>ABLEITUNG_...</code> -
+	 * <code>null</code>, wo die Ableitung nicht mglich ist
 	 */
-	private final FeatureStructure restrictions;
+	private final Valenz[] ableitungen;
 
-	private Valenz(final AbstractErgaenzungsOderAngabenTyp... ergaenzungstypen) {
+	private Valenz(final int id, final AbstractErgaenzungsOderAngabenTyp[] ergaenzungstypen) {
+		this.id = id;
 		this.ergaenzungstypen = ergaenzungstypen;
-		restrictions = calcRestrictions();
+
+		ableitungen = new Valenz[ABLEITUNGEN.length];
+		for (int i = 0; i < ABLEITUNGEN.length; i++) {
+			ableitungen[i] = ohneDieseErgaenzungen(ABLEITUNGEN[i]);
+		}
+	}
+
+	/**
+	 * Gibt die Valenz mit diesen Ergnzungstypen zurck - erzeugt sie also nur,
+	 * wenn es sie noch nicht gibt.
+	 */
+	private static Valenz of(final AbstractErgaenzungsOderAngabenTyp... ergaenzungstypen) {
+		final Valenz res = VALENZEN.get(Arrays.asList(ergaenzungstypen));
+		if (res != null) {
+			return res;
+		}
+
+		synchronized (LOCK) {
+			final Valenz resSynchronized = VALENZEN.get(Arrays.asList(ergaenzungstypen));
+			if (resSynchronized != null) {
+				return resSynchronized;
+			}
+
+			// Der Konstruktor erzeugt (rekursiv) die abgeleiteten Valenzen - sie
+			// haben weniger Ergnzungen, die Rekursion endet also.
+			final int id = naechsteId;
+			naechsteId++;
+			final Valenz neu = new Valenz(id, ergaenzungstypen.clone());
+
+			VALENZEN.put(Arrays.asList(neu.ergaenzungstypen), neu);
+			return neu;
+		}
+	}
+
+	/**
+	 * Dichte Nummer dieser Valenz (ab 0) - Caches knnen damit Arrays verwenden.
+	 */
+	public int getId() {
+		return id;
 	}
 
 	/**
@@ -229,22 +339,19 @@ public final class Valenz {
 	 * gar kein Subjekt vorsah), wird <code>null</code> zurckgegeben.
 	 */
 	public Valenz beiImplizitemSubjekt() {
-		return beiDiesenImplizitenErgaenzungen(ErgaenzungsOderAngabeTypen.SUBJEKT);
+		return ableitungen[ABLEITUNG_IMPLIZITES_SUBJEKT];
 	}
 
 	public Valenz beiImplizitemSubjektUndAkkusativObjekt() {
-		return beiDiesenImplizitenErgaenzungen(ErgaenzungsOderAngabeTypen.SUBJEKT,
-				ErgaenzungsOderAngabeTypen.AKKUSATIVOBJEKT);
+		return ableitungen[ABLEITUNG_IMPLIZITES_SUBJEKT_UND_AKK_OBJEKT];
 	}
 
 	public Valenz beiImplizitemSubjektUndZusPersonAkkusativObjekt() {
-		return beiDiesenImplizitenErgaenzungen(ErgaenzungsOderAngabeTypen.SUBJEKT,
-				ErgaenzungsOderAngabeTypen.ZUS_PERSON_AKK_OBJEKT);
+		return ableitungen[ABLEITUNG_IMPLIZITES_SUBJEKT_UND_ZUS_PERSON_AKK_OBJEKT];
 	}
 
 	public Valenz beiImplizitemSubjektUndReflAkkObj() {
-		return beiDiesenImplizitenErgaenzungen(ErgaenzungsOderAngabeTypen.SUBJEKT,
-				ErgaenzungsOderAngabeTypen.REFL_AKKUSATIVOBJEKT);
+		return ableitungen[ABLEITUNG_IMPLIZITES_SUBJEKT_UND_REFL_AKK_OBJEKT];
 	}
 
 	// TODO: "Dass-Stze besetzen in der Regel Stellen, die auch von nominalen
@@ -304,6 +411,17 @@ public final class Valenz {
 	 */
 	public Valenz beiDiesenImplizitenErgaenzungen(
 			final AbstractErgaenzungsOderAngabenTyp... impliziteAngabenOderErgaenzungstypen) {
+		for (int i = 0; i < ABLEITUNGEN.length; i++) {
+			if (Arrays.equals(ABLEITUNGEN[i], impliziteAngabenOderErgaenzungstypen)) {
+				return ableitungen[i];
+			}
+		}
+
+		return ohneDieseErgaenzungen(impliziteAngabenOderErgaenzungstypen);
+	}
+
+	private Valenz ohneDieseErgaenzungen(
+			final AbstractErgaenzungsOderAngabenTyp... impliziteAngabenOderErgaenzungstypen) {
 		final ImmutableList.Builder<AbstractErgaenzungsOderAngabenTyp> res = ImmutableList.builder();
 
 		final Collection<AbstractErgaenzungsOderAngabenTyp> angabenOderErgaenzungenDieNochEntferntWerdenSollen = new LinkedList<>(
@@ -340,7 +458,7 @@ public final class Valenz {
 			return null;
 		}
 
-		return new Valenz(res.build().toArray(
+		return of(res.build().toArray(
 				new AbstractErgaenzungsOderAngabenTyp[ergaenzungstypen.length - impliziteAngabenOderErgaenzungstypen.length]));
 	}
 
@@ -366,6 +484,83 @@ public final class Valenz {
 	public FeatureStructure buildErgaenzungenUndAngabenSlots(final @Nullable String personDesSubjekts,
 			final @Nullable Genus genusDesSubjekts, final @Nullable Numerus numerusDesSubjekts,
 			final @Nullable String hoeflichkeitsformDesSubjekts, final boolean fuerAdjektivischeForm) {
+		final int slotKombination = slotKombination(personDesSubjekts, genusDesSubjekts, numerusDesSubjekts,
+				hoeflichkeitsformDesSubjekts, fuerAdjektivischeForm);
+		if (slotKombination < 0) {
+			// nicht gecachet
+			return calcErgaenzungenUndAngabenSlots(personDesSubjekts, genusDesSubjekts, numerusDesSubjekts,
+					hoeflichkeitsformDesSubjekts, fuerAdjektivischeForm);
+		}
+
+		final FeatureStructure res = slotsCache.get(slotKombination);
+		if (res != null) {
+			return res;
+		}
+
+		// Ggf. berechnen mehrere Threads denselben Wert - das ist unkritisch.
+		final FeatureStructure neu = calcErgaenzungenUndAngabenSlots(personDesSubjekts, genusDesSubjekts,
+				numerusDesSubjekts, hoeflichkeitsformDesSubjekts, fuerAdjektivischeForm);
+		slotsCache.set(slotKombination, neu);
+		return neu;
+	}
+
+	/**
+	 * @return der Index im {@link #slotsCache} - oder <code>-1</code>, wenn diese
+	 *         Kombination nicht gecachet wird (bei unerwarteten Werten fr
+	 *         Person oder Hflichkeitsform)
+	 */
+	private static int slotKombination(final @Nullable String personDesSubjekts,
+			final @Nullable Genus genusDesSubjekts, final @Nullable Numerus numerusDesSubjekts,
+			final @Nullable String hoeflichkeitsformDesSubjekts, final boolean fuerAdjektivischeForm) {
+		final int person = personIndex(personDesSubjekts);
+		final int hoeflichkeitsform = hoeflichkeitsformIndex(hoeflichkeitsformDesSubjekts);
+		if (person < 0 || hoeflichkeitsform < 0) {
+			return -1;
+		}
+
+		final int genus = genusDesSubjekts != null ? genusDesSubjekts.ordinal() + 1 : 0;
+		final int numerus = numerusDesSubjekts != null ? numerusDesSubjekts.ordinal() + 1 : 0;
+
+		return (((person * (Genus.values().length + 1) + genus) * (Numerus.values().length + 1) + numerus) * 3
+				+ hoeflichkeitsform) * 2 + (fuerAdjektivischeForm ? 1 : 0);
+	}
+
+	private static int personIndex(final @Nullable String person) {
+		if (person == null) {
+			return 0;
+		}
+
+		switch (person) {
+		case "1":
+			return 1;
+		case "2":
+			return 2;
+		case "3":
+			return 3;
+		default:
+			return -1;
+		}
+	}
+
+	private static int hoeflichkeitsformIndex(final @Nullable String hoeflichkeitsform) {
+		if (hoeflichkeitsform == null) {
+			return 0;
+		}
+
+		if (hoeflichkeitsform.equals(StringFeatureLogicUtil.TRUE)) {
+			return 1;
+		}
+
+		if (hoeflichkeitsform.equals(StringFeatureLogicUtil.FALSE)) {
+			return 2;
+		}
+
+		return -1;
+	}
+
+	private FeatureStructure calcErgaenzungenUndAngabenSlots(final @Nullable String personDesSubjekts,
+			final @Nullable Genus genusDesSubjekts, final @Nullable Numerus numerusDesSubjekts,
+			final @Nullable String hoeflichkeitsformDesSubjekts, final boolean fuerAdjektivischeForm) {
 		final ImmutableMap.Builder<String, IFeatureValue> ergaenzungstypBuilder = ImmutableMap.builder();
 
 		for (final AbstractErgaenzungsOderAngabenTyp ergaenzungstyp : ergaenzungstypen) {
@@ -391,7 +586,15 @@ public final class Valenz {
 	 * und einem Akkusativobjekt, ein Dativobjekt wre verboten.
 	 */
 	public FeatureStructure buildRestrictions() {
-		return restrictions;
+		final @Nullable FeatureStructure res = restrictions;
+		if (res != null) {
+			return res;
+		}
+
+		// Ggf. berechnen mehrere Threads denselben Wert - das ist unkritisch.
+		final FeatureStructure neu = calcRestrictions();
+		restrictions = neu;
+		return neu;
 	}
 
 	private FeatureStructure calcRestrictions() {
@@ -526,28 +729,12 @@ public final class Valenz {
 		return false;
 	}
 
-	@Override
-	public boolean equals(final Object obj) {
-		if (this == obj) {
-			return true;
-		}
-
-		if (obj == null) {
-			return false;
-		}
-
-		if (!this.getClass().equals(obj.getClass())) {
-			return false;
-		}
-
-		final Valenz other = (Valenz) obj;
-
-		return Arrays.equals(ergaenzungstypen, other.ergaenzungstypen);
-	}
+	// Es gibt keine zwei gleichen Valenzen - daher reicht die Identitt fr
+	// equals().
 
 	@Override
 	public int hashCode() {
-		return Arrays.hashCode(ergaenzungstypen);
+		return id;
 	}
 
 }
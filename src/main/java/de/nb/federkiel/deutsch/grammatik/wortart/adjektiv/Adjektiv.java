@@ -8,7 +8,10 @@ package de.nb.federkiel.deutsch.grammatik.wortart.adjektiv;
 
 import static de.nb.federkiel.deutsch.grammatik.phrase.Flexionstyp.SCHWACHE_FLEXION;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.ABLEITUNG_AUF_ER_KEY;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_POSITIV;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.LEXEM_FLEKTIERBAR_KEY;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_SCHWACH;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_STARK;
 import static de.nb.federkiel.deutsch.lexikon.GermanLexemeType.ADJEKTIV;
 import static de.nb.federkiel.feature.StringFeatureLogicUtil.booleanToString;
 
@@ -24,6 +27,7 @@ import de.nb.federkiel.deutsch.grammatik.wortart.flexion.AdjektivFlektierer;
 import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.Substantiv;
 import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
 import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.LexemeRegistry;
 import de.nb.federkiel.string.StringUtil;
 
 public class Adjektiv {
@@ -122,13 +126,13 @@ public class Adjektiv {
 		this.substantivierung = substantivierung;
 
 		// @formatter:off
-    lexeme = new Lexeme(ADJEKTIV, unflektiert,
+    lexeme = LexemeRegistry.intern(new Lexeme(ADJEKTIV, unflektiert,
     		LexiconFeatureStructureUtil.fromStringValues(ImmutableMap.of(
             LEXEM_FLEKTIERBAR_KEY, booleanToString(flexionsklasse.isFlektierbar()),
-            ABLEITUNG_AUF_ER_KEY, booleanToString(flexionsklasse.isAbleitungAufEr()))));
+            ABLEITUNG_AUF_ER_KEY, booleanToString(flexionsklasse.isAbleitungAufEr())))));
     // @formatter:on
 
-		flekt = new AdjektivFlektierer();
+		flekt = AdjektivFlektierer.INSTANCE;
 	}
 
 	/**
@@ -160,7 +164,8 @@ public class Adjektiv {
 				return getUnflektiert();
 			}
 
-			return flekt.adjPositivSchwach(lexeme, stamm, kasus, numerus, genus).get(0).getString();
+			return flekt.paradigma(lexeme, stamm).getWortform(KOMPARATION_POSITIV, STAERKE_SCHWACH, kasus, numerus,
+					genus);
 		}
 
 		if (inflexionType == Flexionstyp.UNFLEKTIERT) {
@@ -185,7 +190,7 @@ public class Adjektiv {
 				return stamm;
 			}
 
-			return flekt.adjPositivStark(lexeme, stamm, kasus, numerus, genus).get(0).getString();
+			return flekt.paradigma(lexeme, stamm).getWortform(KOMPARATION_POSITIV, STAERKE_STARK, kasus, numerus, genus);
 		}
 
 		throw new RuntimeException("Unexpected InflexionType: " + inflexionType);
@@ -20,12 +20,13 @@ import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
 import de.nb.federkiel.feature.StringFeatureLogicUtil;
 import de.nb.federkiel.interfaces.IWordForm;
 import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.LexemeRegistry;
 
 public abstract class Artikel {
 	public static final Artikel UNBESTIMMT = new UnbestimmterArtikel();
 	public static final Artikel BESTIMMT = new BestimmterArtikel();
 
-	final ArtikelFlektierer artikelFlekt = new ArtikelFlektierer();
+	final ArtikelFlektierer artikelFlekt = ArtikelFlektierer.INSTANCE;
 
 	private Artikel() {
 	}
@@ -52,12 +53,14 @@ public abstract class Artikel {
 	public abstract Lexeme getLexem();
 
 	private static class UnbestimmterArtikel extends Artikel {
-		private final Lexeme lexemEin = new Lexeme(GermanLexemeType.ARTIKEL, "ein", LexiconFeatureStructureUtil
-				.fromStringValues(ImmutableMap.of(GermanUtil.DEFINIT_KEY, StringFeatureLogicUtil.FALSE)));
+		private final Lexeme lexemEin = LexemeRegistry.intern(new Lexeme(GermanLexemeType.ARTIKEL, "ein",
+				LexiconFeatureStructureUtil
+						.fromStringValues(ImmutableMap.of(GermanUtil.DEFINIT_KEY, StringFeatureLogicUtil.FALSE))));
 
-		private final Lexeme lexemKein = SubstantivPronomenUtil.createIndefinitpronomen(GermanPOS.PIAT.toString(), "kein");
+		private final Lexeme lexemKein = LexemeRegistry
+				.intern(SubstantivPronomenUtil.createIndefinitpronomen(GermanPOS.PIAT.toString(), "kein"));
 
-		private final IndefinitpronomenFlektierer indefinitpronomenFlekt = new IndefinitpronomenFlektierer();
+		private final IndefinitpronomenFlektierer indefinitpronomenFlekt = IndefinitpronomenFlektierer.INSTANCE;
 
 		@Override
 		public String getFlektiertAlsDeterminativFuer(final Kasus kasusBezugsphrase, final Numerus numerusBezugsphrase,
@@ -106,8 +109,9 @@ public abstract class Artikel {
 	}
 
 	private static class BestimmterArtikel extends Artikel {
-		private final Lexeme lexeme = new Lexeme(GermanLexemeType.ARTIKEL, "der", LexiconFeatureStructureUtil
-				.fromStringValues(ImmutableMap.of(GermanUtil.DEFINIT_KEY, StringFeatureLogicUtil.TRUE)));
+		private final Lexeme lexeme = LexemeRegistry.intern(new Lexeme(GermanLexemeType.ARTIKEL, "der",
+				LexiconFeatureStructureUtil
+						.fromStringValues(ImmutableMap.of(GermanUtil.DEFINIT_KEY, StringFeatureLogicUtil.TRUE))));
 
 		@Override
 		public String getFlektiertAlsDeterminativFuer(final Kasus kasusBezugsphrase, final Numerus numerusBezugsphrase,
@@ -20,6 +20,7 @@ import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAER
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_STARK;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -183,42 +184,50 @@ public class AbstractArtikelPronomenAdjektivFlektierer implements IFlektierer {
 	public Collection<IWordForm> stdAdj(final Lexeme lexeme, final Valenz valenzBeiImplizitemSubjekt, final String pos,
 			final String stamm, final boolean steigerbar) {
 		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+		stdAdj(lexeme, valenzBeiImplizitemSubjekt, pos, stamm, steigerbar, res::add);
+		return res.build();
+	}
 
-		res.addAll(adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
-				KOMPARATION_POSITIV, stamm, GenMaskNeutrSgModus.NUR_EN, NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG));
-		res.addAll(adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
-				KOMPARATION_POSITIV, stamm));
+	/**
+	 * Wie {@link #stdAdj(Lexeme, Valenz, String, String, boolean)} - die
+	 * Wortformen werden jedoch direkt an den <code>sink</code> bergeben.
+	 */
+	public void stdAdj(final Lexeme lexeme, final Valenz valenzBeiImplizitemSubjekt, final String pos,
+			final String stamm, final boolean steigerbar, final Consumer<? super IWordForm> sink) {
+		adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
+				KOMPARATION_POSITIV, stamm, GenMaskNeutrSgModus.NUR_EN, NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG).forEach(sink);
+		adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
+				KOMPARATION_POSITIV, stamm).forEach(sink);
 
 		// e-Tilgung fr Positiv
 		final @Nullable String stammNachETilgung = GermanUtil.tilgeEAusStammWennMoeglich(stamm);
 
 		if (stammNachETilgung != null) {
-			res.addAll(adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
+			adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
 					KOMPARATION_POSITIV, stammNachETilgung, GenMaskNeutrSgModus.NUR_EN,
-					NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG));
-			res.addAll(adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
-					STAERKE_SCHWACH, stammNachETilgung));
+					NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG).forEach(sink);
+			adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
+					STAERKE_SCHWACH, stammNachETilgung).forEach(sink);
 		}
 
 		if (steigerbar) {
 			// (ggf. Komparativ mit e-Tilgung)
 			for (final String komparativ : komparativ(stamm)) {
-				res.addAll(adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
-						KOMPARATION_KOMPARATIV, komparativ, GenMaskNeutrSgModus.NUR_EN, NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG));
-				res.addAll(adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
-						KOMPARATION_KOMPARATIV, komparativ));
+				adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
+						KOMPARATION_KOMPARATIV, komparativ, GenMaskNeutrSgModus.NUR_EN, NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG)
+						.forEach(sink);
+				adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt, pos,
+						KOMPARATION_KOMPARATIV, komparativ).forEach(sink);
 
 				for (final String superlativ : superlativ(komparativ)) {
-					res.addAll(adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
+					adjStark(lexeme, valenzBeiImplizitemSubjekt, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN,
 							KOMPARATION_SUPERLATIV, superlativ, GenMaskNeutrSgModus.NUR_EN,
-							NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG));
-					res.addAll(adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt,
-							pos, KOMPARATION_SUPERLATIV, superlativ));
+							NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG).forEach(sink);
+					adjSchwach(lexeme, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, valenzBeiImplizitemSubjekt,
+							pos, KOMPARATION_SUPERLATIV, superlativ).forEach(sink);
 				}
 			}
 		}
-
-		return res.build();
 	}
 
 	protected final static ImmutableMap<String, IFeatureValue> buildFeatureMap(final String komparation,
@@ -295,6 +304,7 @@ public class AbstractArtikelPronomenAdjektivFlektierer implements IFlektierer {
 		// (Wenn ein Umlaut erforderlich ist, handelt es sich um eine Ausnahme!)
 		final Collection<String> komparativAusnahmen = findKomparativAusnahme(positiv);
 		if (komparativAusnahmen != null) {
+			Regelbeobachtung.zaehle("AdjektivFlektierer.findKomparativAusnahme");
 			return komparativAusnahmen;
 		}
 
@@ -302,9 +312,10 @@ public class AbstractArtikelPronomenAdjektivFlektierer implements IFlektierer {
 
 		// Komparativ mit e-Tilgung im Stamm des Positivs (muntrer, teurer)
 		// (Duden 499)
-		final String positivNachETilgung = GermanUtil.tilgeEAusStammWennMoeglich(positiv); // ggf. null
+		final @Nullable Wortbaustein positivNachETilgung = GermanUtil.stammNachETilgungWennMoeglich(positiv);
 		if (positivNachETilgung != null) {
-			res.add(positivNachETilgung + "er");
+			Regelbeobachtung.zaehle("AdjektivFlektierer.komparativMitETilgung");
+			res.add(positivNachETilgung.plus("er").toString());
 		}
 
 		// Komparativ ohne e-Tilgung (munterer, teuerer)
@@ -350,7 +361,7 @@ public class AbstractArtikelPronomenAdjektivFlektierer implements IFlektierer {
 		}
 
 		// Duden 500 ii.
-		if (GermanUtil.endetAufBetontenVollvokal(komparativStamm)) {
+		if (PhonologischesProfil.of(komparativStamm).endetAufBetontenVollvokal()) {
 			return ImmutableList.<String>of(komparativStamm + "est", // rohest,
 																																// neuest,
 																																// genauest
@@ -16,6 +16,8 @@ import java.util.Collection;
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
@@ -26,6 +28,7 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.VorgabeFuerNachfolgendesAdjektiv;
 import de.nb.federkiel.deutsch.grammatik.valenz.Valenz;
 import de.nb.federkiel.deutsch.lexikon.GermanPOS;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.StringFeatureLogicUtil;
 import de.nb.federkiel.interfaces.IFeatureType;
@@ -41,16 +44,74 @@ import de.nb.federkiel.lexikon.Lexeme;
 public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektierer {
   public static final String TYP = "Adjektiv";
 
+  public static final AdjektivFlektierer INSTANCE = new AdjektivFlektierer();
+
+  /**
+   * Wie viele Paradigmen (hoechstens) gecachet werden
+   */
+  private static final long MAXIMALE_ANZAHL_GECACHTER_PARADIGMEN = 10000;
+
+  /**
+   * Die zuletzt erzeugten Paradigmen, nach Lexem - begrenzt, damit ein offenes
+   * Vokabular den Speicher nicht fuellt
+   */
+  private final Cache<Lexeme, Adjektivparadigma> paradigmen =
+      CacheBuilder.newBuilder().maximumSize(MAXIMALE_ANZAHL_GECACHTER_PARADIGMEN).build();
+
   public AdjektivFlektierer() {
     super();
   }
 
+  /**
+   * Gibt das vollstaendige Paradigma des Adjektivs zurueck. Es wird gecachet
+   * (je Lexem) - nur selten gebrauchte Paradigmen werden ggf. erneut erzeugt.
+   * <p>
+   * Lexem und Stamm knnen in Einzelfllen voneinander abweichen, etwa
+   * <i>hoch</i> vs. <i>hoh</i>, <i>anders</i> vs. <i>ander</i>.
+   */
+  public Adjektivparadigma paradigma(final Lexeme lexeme, final String stamm) {
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.paradigma", lexeme);
+    try {
+      final Adjektivparadigma res = paradigmaUngemessen(lexeme, stamm);
+      messung.setNumberOfAlternatives(res.getAnzahlWortformen());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private Adjektivparadigma paradigmaUngemessen(final Lexeme lexeme, final String stamm) {
+    final @Nullable Adjektivparadigma gecachet = paradigmen.getIfPresent(lexeme);
+    if (gecachet != null && gecachet.getStamm().equals(stamm)) {
+      return gecachet;
+    }
+
+    final Adjektivparadigma res = new Adjektivparadigma(this, lexeme, stamm);
+
+    // Ggf. wird dasselbe Paradigma parallel zweimal erzeugt - das ist harmlos.
+    paradigmen.put(lexeme, res);
+
+    return res;
+  }
+
   /**
    * Deklination eines stets unvernderten Adjektivs, etwa vom Typ <i>Kieler</i> oder <i>neunziger
    * (Jahre)</i>.
    */
   public Collection<IWordForm> unveraendert(final Lexeme lexeme, final Valenz valenz,
       final String pos) {
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.unveraendert", lexeme);
+    try {
+      final ImmutableList<IWordForm> res = unveraendertUngemessen(lexeme, valenz, pos);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private ImmutableList<IWordForm> unveraendertUngemessen(final Lexeme lexeme, final Valenz valenz,
+      final String pos) {
     final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
 
     final String wordForm = lexeme.getCanonicalizedForm();
@@ -168,6 +229,22 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
         string);
   }
 
+  /**
+   * Gibt die Adjektivform zurck, in der angegebenen Komparation und Strke (stark oder schwach),
+   * ggf. auch Alternativen (dann die gebruchlichste zuerst).
+   */
+  ImmutableList<IWordForm> adj(final Lexeme lexeme, final String stamm, final String komparation,
+      final String staerke, final Kasus kasus, final Numerus numerus, final @Nullable Genus genus) {
+    switch (staerke) {
+      case STAERKE_STARK:
+        return adjStark(lexeme, stamm, komparation, kasus, numerus, genus);
+      case STAERKE_SCHWACH:
+        return adjSchwachUngemessen(lexeme, stamm, komparation, kasus, numerus, genus);
+      default:
+        throw new IllegalStateException("Unerwartete Staerke: " + staerke);
+    }
+  }
+
   /**
    * Gibt die starke Adjektivform zurck, ggf. auch Alternativen (dann die gebruchlichste zuerst).
    * <p>
@@ -176,7 +253,15 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
    */
   public ImmutableList<IWordForm> adjPositivStark(final Lexeme lexeme, final String stamm, final Kasus kasus,
       final Numerus numerus, final Genus genus) {
-    return adjStark(lexeme, stamm, KOMPARATION_POSITIV, kasus, numerus, genus);
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.adjPositivStark", lexeme);
+    try {
+      final ImmutableList<IWordForm> res =
+          adjStark(lexeme, stamm, KOMPARATION_POSITIV, kasus, numerus, genus);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
   }
 
   /**
@@ -192,7 +277,7 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
       case SINGULAR:
         return adjStarkSg(lexeme, stamm, komparation, kasus, genus);
       case PLURAL:
-        return adjStarkPl(lexeme, stamm, komparation, kasus);
+        return adjStarkPlUngemessen(lexeme, stamm, komparation, kasus);
       default:
         throw new IllegalStateException("Unerwarteter Numerus: " + numerus);
     }
@@ -226,6 +311,18 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
    */
   public ImmutableList<IWordForm> adjStarkPl(final Lexeme lexeme, final String stamm,
       final String komparation, final Kasus kasus) {
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.adjStarkPl", lexeme);
+    try {
+      final ImmutableList<IWordForm> res = adjStarkPlUngemessen(lexeme, stamm, komparation, kasus);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private ImmutableList<IWordForm> adjStarkPlUngemessen(final Lexeme lexeme, final String stamm,
+      final String komparation, final Kasus kasus) {
     final ImmutableMap<String, IFeatureValue> additionalFeaturesPl =
         buildFeatureMap(komparation, STAERKE_STARK,
             Valenz.LEER.buildErgaenzungenUndAngabenSlots("3", null,
@@ -271,11 +368,24 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
    */
   public ImmutableList<IWordForm> adjSchwach(final Lexeme lexeme, final String stamm,
       final String komparation, final Kasus kasus, final Numerus numerus, final Genus genus) {
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.adjSchwach", lexeme);
+    try {
+      final ImmutableList<IWordForm> res =
+          adjSchwachUngemessen(lexeme, stamm, komparation, kasus, numerus, genus);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private ImmutableList<IWordForm> adjSchwachUngemessen(final Lexeme lexeme, final String stamm,
+      final String komparation, final Kasus kasus, final Numerus numerus, final Genus genus) {
     switch(numerus) {
       case SINGULAR:
         return adjSchwachSg(lexeme, stamm, komparation, kasus, genus);
       case PLURAL:
-        return adjSchwachPl(lexeme, stamm, komparation, kasus);
+        return adjSchwachPlUngemessen(lexeme, stamm, komparation, kasus);
       default:
         throw new IllegalStateException("Unerwarteter Numerus: " + numerus);
     }
@@ -294,7 +404,7 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
         .map(stammInKomparation -> adjSchwachSg(lexeme,
             VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, GermanPOS.ADJA.toString(),
             stammInKomparation,
-            GermanUtil.erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(stammInKomparation),
+            PhonologischesProfil.of(stammInKomparation).erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(),
             Valenz.LEER, buildFeatureMap(komparation, STAERKE_SCHWACH),
             buildFeatureTypeMap(komparation, STAERKE_SCHWACH), kasus, genus))
         .flatMap(Collection::stream).collect(ImmutableList.toImmutableList());
@@ -309,6 +419,18 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
    */
   public ImmutableList<IWordForm> adjSchwachPl(final Lexeme lexeme, final String stamm,
       final String komparation, final Kasus kasus) {
+    final OperationTimer messung = Regelbeobachtung.starte("AdjektivFlektierer.adjSchwachPl", lexeme);
+    try {
+      final ImmutableList<IWordForm> res = adjSchwachPlUngemessen(lexeme, stamm, komparation, kasus);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private ImmutableList<IWordForm> adjSchwachPlUngemessen(final Lexeme lexeme, final String stamm,
+      final String komparation, final Kasus kasus) {
     final ImmutableMap<String, IFeatureValue> additionalFeaturesPl =
         buildFeatureMap(komparation, STAERKE_SCHWACH,
             Valenz.LEER.buildErgaenzungenUndAngabenSlots("3", // Person
@@ -327,7 +449,7 @@ public class AdjektivFlektierer extends AbstractArtikelPronomenAdjektivFlektiere
         .map(stammInKomparation -> adjSchwachPl(lexeme,
             VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN, GermanPOS.ADJA.toString(),
             stammInKomparation,
-            GermanUtil.erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(stammInKomparation),
+            PhonologischesProfil.of(stammInKomparation).erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(),
             additionalFeaturesPl, additionalFeaturesTypesPl, kasus))
         .flatMap(Collection::stream).collect(ImmutableList.toImmutableList());
   }
@@ -0,0 +1,179 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.PLURAL;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.SINGULAR;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_KOMPARATIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_POSITIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_SUPERLATIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_SCHWACH;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_STARK;
+
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.lexikon.Lexeme;
+
+/**
+ * Das vollstaendige (attributive) Paradigma eines Adjektivs: Positiv,
+ * Komparativ und Superlativ, jeweils stark und schwach flektiert, ueber alle
+ * Kasus, Numeri und Genera - samt der Alternativen (<i>dunklen</i> /
+ * <i>dunkeln</i>) und der Staemme der Komparationen.
+ * <p>
+ * Die Wortformen liegen in einem Array, indiziert per
+ * {@link Flexionszelle#adjektivzelle(String, Kasus, Numerus, Genus, String)}
+ * - eine Wortform zu finden ist also nur ein Zugriff auf das Array. Die
+ * Paradigmen erzeugt (und cacht) der {@link AdjektivFlektierer}.
+ */
+@Immutable
+@ThreadSafe
+public final class Adjektivparadigma {
+  private static final String[] KOMPARATIONEN =
+      {KOMPARATION_POSITIV, KOMPARATION_KOMPARATIV, KOMPARATION_SUPERLATIV};
+
+  private static final String[] STAERKEN = {STAERKE_STARK, STAERKE_SCHWACH};
+
+  private final String stamm;
+
+  private final ImmutableList<String> komparativStaemme;
+
+  private final ImmutableList<String> superlativStaemme;
+
+  /**
+   * Die Wortformen je Zelle, die gebraeuchlichste zuerst - <code>null</code>
+   * fuer Zellen ohne Wortform
+   */
+  private final String[][] wortformen;
+
+  private final int anzahlWortformen;
+
+  Adjektivparadigma(final AdjektivFlektierer flektierer, final Lexeme lexeme,
+      final String stamm) {
+    this.stamm = stamm;
+
+    komparativStaemme = ImmutableList.copyOf(flektierer.komparativ(stamm));
+
+    final ImmutableList.Builder<String> superlativStaemmeBuilder = ImmutableList.builder();
+    for (final String komparativ : komparativStaemme) {
+      superlativStaemmeBuilder.addAll(flektierer.superlativ(komparativ));
+    }
+    superlativStaemme = superlativStaemmeBuilder.build();
+
+    wortformen = new String[Flexionszelle.ANZAHL_ADJEKTIV_ZELLEN_ALLER_KOMPARATIONEN][];
+    int anzahl = 0;
+    for (final String komparation : KOMPARATIONEN) {
+      for (final String staerke : STAERKEN) {
+        for (final Kasus kasus : Kasus.values()) {
+          for (final Genus genus : Genus.values()) {
+            anzahl += setze(Flexionszelle.adjektivzelle(komparation, kasus, SINGULAR, genus,
+                staerke), flektierer.adj(lexeme, stamm, komparation, staerke, kasus, SINGULAR,
+                    genus));
+          }
+
+          anzahl += setze(Flexionszelle.adjektivzelle(komparation, kasus, PLURAL, null, staerke),
+              flektierer.adj(lexeme, stamm, komparation, staerke, kasus, PLURAL, null));
+        }
+      }
+    }
+
+    anzahlWortformen = anzahl;
+  }
+
+  /**
+   * Legt die Wortformen in der Zelle ab.
+   *
+   * @return die Anzahl der Wortformen
+   */
+  private int setze(final int zelle, final Collection<IWordForm> wortformenDerZelle) {
+    wortformen[zelle] = strings(wortformenDerZelle);
+    return wortformenDerZelle.size();
+  }
+
+  private static @Nullable String[] strings(final Collection<IWordForm> wortformen) {
+    if (wortformen.isEmpty()) {
+      return null;
+    }
+
+    final String[] res = new String[wortformen.size()];
+    int i = 0;
+    for (final IWordForm wortform : wortformen) {
+      res[i] = wortform.getString();
+      i++;
+    }
+
+    return res;
+  }
+
+  /**
+   * Gibt die (gebraeuchlichste) Wortform zurueck - oder <code>null</code>,
+   * falls es keine gibt.
+   *
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   */
+  public @Nullable String getWortform(final String komparation, final String staerke,
+      final Kasus kasus, final Numerus numerus, final @Nullable Genus genus) {
+    final @Nullable String[] alternativen =
+        wortformen[Flexionszelle.adjektivzelle(komparation, kasus, numerus, genus, staerke)];
+    if (alternativen == null) {
+      return null;
+    }
+
+    return alternativen[0];
+  }
+
+  /**
+   * Gibt alle Wortformen der Zelle zurueck, die gebraeuchlichste zuerst.
+   *
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   */
+  public ImmutableList<String> getAlternativen(final String komparation, final String staerke,
+      final Kasus kasus, final Numerus numerus, final @Nullable Genus genus) {
+    final @Nullable String[] alternativen =
+        wortformen[Flexionszelle.adjektivzelle(komparation, kasus, numerus, genus, staerke)];
+    if (alternativen == null) {
+      return ImmutableList.of();
+    }
+
+    return ImmutableList.copyOf(alternativen);
+  }
+
+  /**
+   * @return die Anzahl aller Wortformen des Paradigmas (Alternativen
+   *         mitgezaehlt)
+   */
+  public int getAnzahlWortformen() {
+    return anzahlWortformen;
+  }
+
+  public String getStamm() {
+    return stamm;
+  }
+
+  /**
+   * Die Staemme des Komparativs (<i>dunkler</i>, <i>dunkeler</i>), der
+   * gebraeuchlichste zuerst
+   */
+  public ImmutableList<String> getKomparativStaemme() {
+    return komparativStaemme;
+  }
+
+  /**
+   * Die Staemme des Superlativs, der gebraeuchlichste zuerst
+   */
+  public ImmutableList<String> getSuperlativStaemme() {
+    return superlativStaemme;
+  }
+
+  @Override
+  public String toString() {
+    return "Adjektivparadigma (" + stamm + ")";
+  }
+}
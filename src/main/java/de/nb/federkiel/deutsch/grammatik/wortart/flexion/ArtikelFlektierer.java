@@ -31,6 +31,8 @@ import de.nb.federkiel.lexikon.Lexeme;
 public class ArtikelFlektierer extends AbstractArtikelUndPronomenFlektierer {
   public static final String TYP = "Artikel";
 
+  public static final ArtikelFlektierer INSTANCE = new ArtikelFlektierer();
+
   public ArtikelFlektierer() {
     super();
   }
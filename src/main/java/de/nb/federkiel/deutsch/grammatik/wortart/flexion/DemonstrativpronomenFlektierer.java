@@ -28,6 +28,8 @@ import de.nb.federkiel.lexikon.Lexeme;
 public class DemonstrativpronomenFlektierer extends AbstractPronomenFlektierer {
   public static final String TYP = "Demonstrativpronomen";
 
+  public static final DemonstrativpronomenFlektierer INSTANCE = new DemonstrativpronomenFlektierer();
+
   public DemonstrativpronomenFlektierer() {
     super();
   }
@@ -101,6 +103,11 @@ public class DemonstrativpronomenFlektierer extends AbstractPronomenFlektierer {
   }
 
   public Collection<IWordForm> derjenige(final Lexeme lexeme, final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "derjenige",
+        () -> buildDerjenige(lexeme, pos)).getWortformen();
+  }
+
+  private Collection<IWordForm> buildDerjenige(final Lexeme lexeme, final String pos) {
     final Collection<IWordForm> res = new ArrayList<>(16);
 
     res.add(buildWortform(lexeme, pos, KasusInfo.NOM_KEIN_NOMEN,
@@ -175,6 +182,11 @@ public class DemonstrativpronomenFlektierer extends AbstractPronomenFlektierer {
   }
 
   public Collection<IWordForm> derselbe(final Lexeme lexeme, final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "derselbe",
+        () -> buildDerselbe(lexeme, pos)).getWortformen();
+  }
+
+  private Collection<IWordForm> buildDerselbe(final Lexeme lexeme, final String pos) {
     final Collection<IWordForm> res = new ArrayList<>(16);
 
     res.add(buildWortform(lexeme, pos, KasusInfo.NOM_KEIN_NOMEN,
@@ -344,6 +356,13 @@ public class DemonstrativpronomenFlektierer extends AbstractPronomenFlektierer {
 
   public Collection<IWordForm> dieserEbendieser(final Lexeme lexeme,
       final String pos, final boolean auchGenitivMaskNeutr) {
+    return Pronomenparadigmen.paradigma(lexeme, pos,
+        auchGenitivMaskNeutr ? "dieserEbendieser" : "dieserEbendieserOhneGenMaskNeutr",
+        () -> buildDieserEbendieser(lexeme, pos, auchGenitivMaskNeutr)).getWortformen();
+  }
+
+  private Collection<IWordForm> buildDieserEbendieser(final Lexeme lexeme,
+      final String pos, final boolean auchGenitivMaskNeutr) {
     final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
 
     res.addAll(typDieser(lexeme, pos,
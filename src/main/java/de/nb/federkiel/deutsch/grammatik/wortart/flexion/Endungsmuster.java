@@ -0,0 +1,85 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Die Endungen eines Flexionsparadigmas (jeweils nach dem gemeinsamen Stamm
+ * aller Wortformen), indiziert wie das Paradigma (vgl. {@link Flexionszelle}).
+ * Die meisten (regelmaessigen) Lexeme teilen sich ihr Endungsmuster mit
+ * tausenden anderen Lexemen - z.B. <i>-, -(e)s, -, -, -e, -e, -en, -e</i>.
+ * <p>
+ * Gleiche Endungsmuster werden nur einmal gehalten - aber nur, solange sie
+ * noch referenziert werden: Die Endungen ergeben sich aus den Lexemen, und
+ * mit unregelmaessigen Lexemen kommen immer neue Endungsmuster hinzu.
+ */
+@Immutable
+@ThreadSafe
+public final class Endungsmuster {
+  private static final Interner<Endungsmuster> ENDUNGSMUSTER = Interners.newWeakInterner();
+
+  /**
+   * Die Endungen - <code>null</code> fuer Zellen ohne Wortform
+   */
+  private final String[] endungen;
+
+  private final int hashCode;
+
+  private Endungsmuster(final String[] endungen) {
+    this.endungen = endungen;
+    hashCode = Arrays.hashCode(endungen);
+  }
+
+  /**
+   * Gibt das (geteilte) Endungsmuster zurueck.
+   *
+   * @param endungen die Endungen - <code>null</code> fuer Zellen ohne Wortform.
+   *          Wird kopiert.
+   */
+  public static Endungsmuster of(final String... endungen) {
+    return ENDUNGSMUSTER.intern(new Endungsmuster(endungen.clone()));
+  }
+
+  public int getAnzahlZellen() {
+    return endungen.length;
+  }
+
+  /**
+   * @return die Endung - oder <code>null</code>, falls die Zelle keine Wortform
+   *         hat
+   */
+  public @Nullable String getEndung(final int zelle) {
+    return endungen[zelle];
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final Endungsmuster other = (Endungsmuster) obj;
+    return hashCode == other.hashCode && Arrays.equals(endungen, other.endungen);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(endungen);
+  }
+}
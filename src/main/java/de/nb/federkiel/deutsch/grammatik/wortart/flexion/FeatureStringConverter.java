@@ -3,6 +3,12 @@ package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.FEMININUM;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.MASKULINUM;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.NEUTRUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.AKKUSATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.DATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.GENITIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.NOMINATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.PLURAL;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.SINGULAR;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.GENUS_FEM;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.GENUS_MASK;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.GENUS_NEUT;
@@ -105,4 +111,38 @@ public class FeatureStringConverter {
       throw new IllegalStateException("Unexpected Genus: " + string);
     }
   }
+
+  public static @Nullable Kasus toKasus(final @Nullable String string) {
+    if (!UnspecifiedFeatureValue.notNullAndNotUnspecified(string)) {
+      return null;
+    }
+
+    switch (string) {
+      case KASUS_NOM:
+      return NOMINATIV;
+      case KASUS_GEN:
+      return GENITIV;
+      case KASUS_DAT:
+      return DATIV;
+      case KASUS_AKK:
+      return AKKUSATIV;
+    default:
+      throw new IllegalStateException("Unexpected Kasus: " + string);
+    }
+  }
+
+  public static @Nullable Numerus toNumerus(final @Nullable String string) {
+    if (!UnspecifiedFeatureValue.notNullAndNotUnspecified(string)) {
+      return null;
+    }
+
+    switch (string) {
+      case NUMERUS_SG:
+      return SINGULAR;
+      case NUMERUS_PL:
+      return PLURAL;
+    default:
+      throw new IllegalStateException("Unexpected Numerus: " + string);
+    }
+  }
 }
@@ -0,0 +1,214 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_KOMPARATIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_POSITIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_SUPERLATIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_SCHWACH;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_STARK;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_UNFLEKTIERT;
+
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.feature.StringFeatureValue;
+import de.nb.federkiel.feature.UnspecifiedFeatureValue;
+import de.nb.federkiel.interfaces.IFeatureValue;
+import de.nb.federkiel.interfaces.IWordForm;
+
+/**
+ * Adressiert eine Zelle eines Flexionsparadigmas (etwa <i>Dativ Plural</i>)
+ * ueber einen dichten Index, so dass sich ein Paradigma als flaches
+ * <code>String</code>-Array darstellen laesst.
+ * <p>
+ * Substantivparadigmen haben {@link #ANZAHL_SUBSTANTIV_ZELLEN} Zellen
+ * (Kasus x Numerus), Adjektivparadigmen haben
+ * {@link #ANZAHL_ADJEKTIV_ZELLEN} Zellen (Staerke x Genus bzw. Plural x Kasus
+ * - im Plural wird das Genus nicht unterschieden, vgl. Duden 477).
+ */
+@Immutable
+@ThreadSafe
+public final class Flexionszelle {
+  public static final int ANZAHL_KASUS = Kasus.values().length;
+
+  public static final int ANZAHL_NUMERI = Numerus.values().length;
+
+  public static final int ANZAHL_SUBSTANTIV_ZELLEN = ANZAHL_NUMERI * ANZAHL_KASUS;
+
+  /**
+   * Maskulinum, Femininum, Neutrum (jeweils Singular) und Plural
+   */
+  public static final int ANZAHL_GENERA_ODER_PLURAL = Genus.values().length + 1;
+
+  /**
+   * Stark, schwach, unflektiert
+   */
+  public static final int ANZAHL_STAERKEN = 3;
+
+  public static final int ANZAHL_ADJEKTIV_ZELLEN =
+      ANZAHL_STAERKEN * ANZAHL_GENERA_ODER_PLURAL * ANZAHL_KASUS;
+
+  /**
+   * Positiv, Komparativ, Superlativ
+   */
+  public static final int ANZAHL_KOMPARATIONEN = 3;
+
+  /**
+   * Adjektivparadigmen mit allen Komparationen (vgl. {@link Adjektivparadigma})
+   */
+  public static final int ANZAHL_ADJEKTIV_ZELLEN_ALLER_KOMPARATIONEN =
+      ANZAHL_KOMPARATIONEN * ANZAHL_ADJEKTIV_ZELLEN;
+
+  /**
+   * Genus bzw. Plural x Kasus - etwa fuer die Relativpronomen
+   */
+  public static final int ANZAHL_PRONOMEN_ZELLEN = ANZAHL_GENERA_ODER_PLURAL * ANZAHL_KASUS;
+
+  private Flexionszelle() {}
+
+  /**
+   * Gibt den Index der Zelle im Substantivparadigma zurueck - zuerst der
+   * Singular (Nominativ, Genitiv, Dativ, Akkusativ), dann der Plural.
+   */
+  public static int substantivzelle(final Kasus kasus, final Numerus numerus) {
+    return numerus.ordinal() * ANZAHL_KASUS + kasus.ordinal();
+  }
+
+  public static Kasus kasusDerSubstantivzelle(final int substantivzelle) {
+    return Kasus.values()[substantivzelle % ANZAHL_KASUS];
+  }
+
+  public static Numerus numerusDerSubstantivzelle(final int substantivzelle) {
+    return Numerus.values()[substantivzelle / ANZAHL_KASUS];
+  }
+
+  /**
+   * Gibt den Index der Zelle im Adjektivparadigma zurueck.
+   *
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   * @param staerke {@link GermanUtil#STAERKE_STARK},
+   *          {@link GermanUtil#STAERKE_SCHWACH} oder
+   *          {@link GermanUtil#STAERKE_UNFLEKTIERT}
+   */
+  public static int adjektivzelle(final Kasus kasus, final Numerus numerus,
+      final @Nullable Genus genus, final String staerke) {
+    return (staerkeIndex(staerke) * ANZAHL_GENERA_ODER_PLURAL
+        + genusOderPluralIndex(numerus, genus)) * ANZAHL_KASUS + kasus.ordinal();
+  }
+
+  /**
+   * Gibt den Index der Zelle in einem Pronomenparadigma ohne Staerke (etwa
+   * dem der Relativpronomen) zurueck.
+   *
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   */
+  public static int pronomenzelle(final Kasus kasus, final Numerus numerus,
+      final @Nullable Genus genus) {
+    return genusOderPluralIndex(numerus, genus) * ANZAHL_KASUS + kasus.ordinal();
+  }
+
+  /**
+   * Gibt den Index der Zelle im Adjektivparadigma mit allen Komparationen
+   * zurueck - zuerst der Positiv, dann Komparativ und Superlativ.
+   *
+   * @param komparation {@link GermanUtil#KOMPARATION_POSITIV},
+   *          {@link GermanUtil#KOMPARATION_KOMPARATIV} oder
+   *          {@link GermanUtil#KOMPARATION_SUPERLATIV}
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   */
+  public static int adjektivzelle(final String komparation, final Kasus kasus,
+      final Numerus numerus, final @Nullable Genus genus, final String staerke) {
+    return komparationIndex(komparation) * ANZAHL_ADJEKTIV_ZELLEN
+        + adjektivzelle(kasus, numerus, genus, staerke);
+  }
+
+  private static int komparationIndex(final String komparation) {
+    switch (komparation) {
+      case KOMPARATION_POSITIV:
+        return 0;
+      case KOMPARATION_KOMPARATIV:
+        return 1;
+      case KOMPARATION_SUPERLATIV:
+        return 2;
+      default:
+        throw new IllegalStateException("Unerwartete Komparation: " + komparation);
+    }
+  }
+
+  private static int genusOderPluralIndex(final Numerus numerus,
+      final @Nullable Genus genus) {
+    if (numerus == Numerus.PLURAL) {
+      return ANZAHL_GENERA_ODER_PLURAL - 1;
+    }
+
+    if (genus == null) {
+      throw new IllegalArgumentException("Kein Genus im Singular angegeben");
+    }
+
+    return genus.ordinal();
+  }
+
+  private static int staerkeIndex(final String staerke) {
+    switch (staerke) {
+      case STAERKE_STARK:
+        return 0;
+      case STAERKE_SCHWACH:
+        return 1;
+      case STAERKE_UNFLEKTIERT:
+        return 2;
+      default:
+        throw new IllegalStateException("Unerwartete Staerke: " + staerke);
+    }
+  }
+
+  /**
+   * Erzeugt ein (leeres) Substantivparadigma.
+   */
+  public static String[] neuesSubstantivparadigma() {
+    return new String[ANZAHL_SUBSTANTIV_ZELLEN];
+  }
+
+  /**
+   * Ordnet die Wortformen eines Substantivs (anhand ihrer Features
+   * <code>kasus</code> und <code>numerus</code>) in ein Substantivparadigma
+   * ein. Gibt es fuer eine Zelle mehrere Alternativen, wird die erste
+   * (gebraeuchlichste) genommen. Zellen ohne Wortform bleiben
+   * <code>null</code>.
+   */
+  public static String[] substantivparadigma(final Collection<IWordForm> wortformen) {
+    final String[] res = neuesSubstantivparadigma();
+
+    for (final IWordForm wortform : wortformen) {
+      final @Nullable Kasus kasus =
+          FeatureStringConverter.toKasus(stringFeatureValue(wortform, "kasus"));
+      final @Nullable Numerus numerus =
+          FeatureStringConverter.toNumerus(stringFeatureValue(wortform, GermanUtil.NUMERUS_KEY));
+      if (kasus == null || numerus == null) {
+        continue;
+      }
+
+      final int zelle = substantivzelle(kasus, numerus);
+      if (res[zelle] == null) {
+        res[zelle] = wortform.getString();
+      }
+    }
+
+    return res;
+  }
+
+  private static @Nullable String stringFeatureValue(final IWordForm wortform,
+      final String featureName) {
+    final IFeatureValue value =
+        wortform.getFeatureValue(featureName, UnspecifiedFeatureValue.INSTANCE);
+    if (!(value instanceof StringFeatureValue)) {
+      return null;
+    }
+
+    return ((StringFeatureValue) value).getString();
+  }
+}
@@ -2,6 +2,7 @@ package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
 
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.FeatureStringConverter.NUMERUS_FEATURE_TYPE;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -20,8 +21,8 @@ import de.nb.federkiel.string.StringUtil;
 @ThreadSafe
 public final class GermanUtil {
 	private static final String VOKAL_ZEICHEN = "aeiouyAEIOUY";
-	private static final String[] DIPHTHONGE = new String[] { "ai", "au", "u", "ei", "eu", "ey", "oi", "i", "ui" };
-	private static final String[] TYPISCHE_VERSCHRIFTUNGEN_LANGER_VOKALE = new String[] { "aa", "ah", "", "", "ee",
+	static final String[] DIPHTHONGE = new String[] { "ai", "au", "u", "ei", "eu", "ey", "oi", "i", "ui" };
+	static final String[] TYPISCHE_VERSCHRIFTUNGEN_LANGER_VOKALE = new String[] { "aa", "ah", "", "", "ee",
 			"eh", "ii", "ie", "ih", "ieh", "oo", "oh", "oe", // Itzehoe
 			"", "h", "uu", "uh", "", "h", "yy", "yh" };
 
@@ -260,6 +261,21 @@ public final class GermanUtil {
 	 * @return stamm nach e-Tilgung - oder <code>null</code>
 	 */
 	public static String tilgeEAusStammWennMoeglich(final String stamm) {
+		final @Nullable Wortbaustein res = stammNachETilgungWennMoeglich(stamm);
+		if (res == null) {
+			return null;
+		}
+
+		return res.toString();
+	}
+
+	/**
+	 * Wie {@link #tilgeEAusStammWennMoeglich(String)}, liefert aber nur eine
+	 * Sicht auf den e-getilgten Stamm - etwa um noch eine Endung anzuhngen.
+	 *
+	 * @return stamm nach e-Tilgung - oder <code>null</code>
+	 */
+	public static @Nullable Wortbaustein stammNachETilgungWennMoeglich(final String stamm) {
 		// Nur UNBETONTES -el, -er oder -en ist relevant ->
 		// analoge *betonte* Endungen ausschlieen
 		if (StringUtil.endsWith(stamm, "eel", "eer", "een", "iel", "ier", "ien")) {
@@ -271,10 +287,9 @@ public final class GermanUtil {
 		}
 
 		if (StringUtil.endsWith(stamm, "el", "er", "en")) {
-			// finster
+			// finster -> finst + r
 
-			return stamm.substring(0, stamm.length() - 2) + // finst
-					stamm.substring(stamm.length() - 1, stamm.length()); // r
+			return Wortbaustein.of(stamm).mitTilgung(stamm.length() - 2);
 		}
 
 		return null;
@@ -550,11 +565,23 @@ public final class GermanUtil {
 	}
 
 	public static String ggfUmlauten(final String wortform, final FremdwortTyp fremdwortTyp) {
+		return ggfUmgelautet(wortform, wortform.length(), fremdwortTyp).toString();
+	}
+
+	/**
+	 * Lautet den letzten Vokal (bzw. Diphthong) <i>vor</i> dem Index
+	 * <code>bis</code> um, soweit mglich - die Zeichen ab <code>bis</code>
+	 * bleiben unverndert (<i>Atl</i> in <i>Atlas</i>).
+	 */
+	public static Wortbaustein ggfUmgelautet(final String wortform, final int bis,
+			final FremdwortTyp fremdwortTyp) {
+		final Wortbaustein res = Wortbaustein.of(wortform);
+
 		if (fremdwortTyp.isFremdwort()) {
-			return wortform; // Fremdwrter werden im Regelfall nicht umgelautet
+			return res; // Fremdwrter werden im Regelfall nicht umgelautet
 		}
 
-		for (int i = wortform.length() - 1; i >= 0; i--) {
+		for (int i = bis - 1; i >= 0; i--) {
 			final char vokal = wortform.charAt(i);
 			if (!isVokal(vokal)) {
 				continue;
@@ -568,17 +595,17 @@ public final class GermanUtil {
 					// zwei Vokale in Folge - umlautbarer Diphtong "au"?
 					if (vokalDavor == 'a' && vokal == 'u') {
 						// ja, Diphton "au" -> umlauten
-						return StringUtil.replaceRegion(wortform, i - 1, "u");
+						return res.mitErsatz(i - 1, '');
 					}
 					if (vokalDavor == 'A' && vokal == 'u') {
 						// ja, Diphton "Au" -> umlauten
-						return StringUtil.replaceRegion(wortform, i - 1, "u");
+						return res.mitErsatz(i - 1, '');
 					}
 					// kein umlautbarer Diphtong! Vielleicht aber der Diphtong
 					// "eu"?
 					if (vokalDavor == 'e' && vokal == 'u' || vokalDavor == 'E' && vokal == 'u') {
 						// ja, Diphton "eu", nicht umlauten
-						return wortform;
+						return res;
 					}
 					// (ei und ui muss man hier nur prfen, da i ohnehin nicht
 					// umgelautet werden kann)
@@ -587,30 +614,30 @@ public final class GermanUtil {
 			// kein (relevanter Diphtong, also nur den letzten Vokal betrachten
 
 			if (vokal == 'a') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 			if (vokal == 'A') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 			if (vokal == 'o') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 			if (vokal == 'O') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 			if (vokal == 'u') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 			if (vokal == 'U') {
-				return StringUtil.replaceRegion(wortform, i, "");
+				return res.mitErsatz(i, '');
 			}
 
 			// kein umlautfbarer Vokal (z.B. e, i, y oder , , )
 			// nicht umlauten
-			return wortform;
+			return res;
 		}
 
-		return wortform; // gar keinen Vokal im "Wort" gefunden
+		return res; // gar keinen Vokal im "Wort" gefunden
 	}
 
 	public final static KasusInfo guessGenitivInfoPl(final String genitivNomenPl,
@@ -710,7 +737,7 @@ public final class GermanUtil {
 		return false;
 	}
 
-	private static boolean letztesZeichenIstVokal(final String string) {
+	static boolean letztesZeichenIstVokal(final String string) {
 		if (string.length() < 1) {
 			return false;
 		}
@@ -0,0 +1,39 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+/**
+ * Beobachtet, welche Regeln (bzw. Zweige von Regeln) die Flektierer anwenden -
+ * etwa um herauszufinden, wie oft Ausnahmen greifen oder welche
+ * Flexionsklassen gewaehlt werden. Registriert wird der Beobachter ueber
+ * {@link Regelbeobachtung#setBeobachter(IRegelbeobachter)}.
+ * <p>
+ * Die Methoden werden aus beliebigen Threads aufgerufen - und sehr haeufig.
+ * Implementierungen muessen also thread-safe sein und sollten schnell sein.
+ *
+ * @see RegelHistogramm
+ * @see JmxRegelbeobachter
+ */
+public interface IRegelbeobachter {
+  /**
+   * Die Regel (bzw. der Zweig) wurde angewendet. Regeln, die nur beim
+   * Berechnen gecachter Daten greifen, werden auch nur dann gemeldet - vgl.
+   * {@link Regelbeobachtung}.
+   *
+   * @param regel etwa <i>VerbFlektierer.eEinschubZwingend</i>
+   */
+  void regelAngewendet(String regel);
+
+  /**
+   * @return ob der Beobachter auch an Laufzeiten interessiert ist. Nur dann
+   *         messen die Flektierer ueberhaupt Zeiten.
+   */
+  default boolean isZeitmessungGewuenscht() {
+    return false;
+  }
+
+  /**
+   * Die Regel (bzw. der Flexionsschritt) hat so lange gedauert.
+   */
+  default void zeitGemessen(final String regel, final long nanos) {
+    // Standard: Zeiten interessieren nicht
+  }
+}
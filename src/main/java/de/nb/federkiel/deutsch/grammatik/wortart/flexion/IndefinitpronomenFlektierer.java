@@ -31,6 +31,8 @@ import de.nb.federkiel.lexikon.Lexeme;
 public class IndefinitpronomenFlektierer extends AbstractPronomenFlektierer {
   public static final String TYP = "Indefinitpronomen";
 
+  public static final IndefinitpronomenFlektierer INSTANCE = new IndefinitpronomenFlektierer();
+
   public IndefinitpronomenFlektierer() {
     super();
   }
@@ -98,6 +100,12 @@ public class IndefinitpronomenFlektierer extends AbstractPronomenFlektierer {
    */
   public Collection<IWordForm> jemandNiemand(final Lexeme lexeme,
       final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "jemandNiemand",
+        () -> buildJemandNiemand(lexeme, pos)).getWortformen();
+  }
+
+  private Collection<IWordForm> buildJemandNiemand(final Lexeme lexeme,
+      final String pos) {
     final String stem = lexeme.getCanonicalizedForm(); // "jemand"
 
     final Collection<IWordForm> res = new ArrayList<>(16);
@@ -335,6 +343,11 @@ public class IndefinitpronomenFlektierer extends AbstractPronomenFlektierer {
   }
 
   public Collection<IWordForm> man(final Lexeme lexeme, final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "man",
+        () -> buildMan(lexeme, pos)).getWortformen();
+  }
+
+  private Collection<IWordForm> buildMan(final Lexeme lexeme, final String pos) {
     final Collection<IWordForm> res = new ArrayList<>(1);
 
     res.add(buildWortform(lexeme, pos, KasusInfo.NOM_KEIN_NOMEN,
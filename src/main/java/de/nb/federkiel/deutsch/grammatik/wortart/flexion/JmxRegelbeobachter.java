@@ -0,0 +1,69 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.lang.management.ManagementFactory;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Ein {@link IRegelbeobachter}, der die Regeln (wie das
+ * {@link RegelHistogramm}) zaehlt und das Ergebnis per JMX veroeffentlicht -
+ * etwa zur Ansicht in der JConsole.
+ */
+@ThreadSafe
+public class JmxRegelbeobachter extends RegelHistogramm implements JmxRegelbeobachterMBean {
+  public static final String OBJECT_NAME = "de.nb.federkiel:type=Regelbeobachter";
+
+  public JmxRegelbeobachter(final boolean zeitmessungGewuenscht) {
+    super(zeitmessungGewuenscht);
+  }
+
+  /**
+   * Erzeugt einen Beobachter, meldet ihn beim MBean-Server der Plattform an
+   * (unter {@link #OBJECT_NAME} - ein bisher dort angemeldeter wird ersetzt)
+   * und registriert ihn in der {@link Regelbeobachtung}.
+   *
+   * @throws IllegalStateException falls die Anmeldung beim MBean-Server
+   *         scheitert
+   */
+  public static JmxRegelbeobachter starte(final boolean zeitmessungGewuenscht) {
+    final JmxRegelbeobachter res = new JmxRegelbeobachter(zeitmessungGewuenscht);
+
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      final ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(res, name);
+    } catch (final JMException e) {
+      throw new IllegalStateException("Anmeldung beim MBean-Server gescheitert: " + e, e);
+    }
+
+    Regelbeobachtung.setBeobachter(res);
+
+    return res;
+  }
+
+  @Override
+  public String[] getRegeln() {
+    return getAnzahlen().keySet().toArray(new String[0]);
+  }
+
+  @Override
+  public String getHistogramm() {
+    return toString();
+  }
+
+  @Override
+  public long getGesamtanzahl() {
+    long res = 0;
+    for (final Long anzahl : getAnzahlen().values()) {
+      res += anzahl;
+    }
+
+    return res;
+  }
+}
@@ -0,0 +1,31 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+/**
+ * Management-Interface des {@link JmxRegelbeobachter}s.
+ */
+public interface JmxRegelbeobachterMBean {
+  /**
+   * @return die bisher angewendeten Regeln, sortiert
+   */
+  String[] getRegeln();
+
+  /**
+   * @return die Regeln mit ihren Anzahlen (und ggf. Zeiten), eine Regel je
+   *         Zeile
+   */
+  String getHistogramm();
+
+  /**
+   * @return wie oft alle Regeln zusammen angewendet wurden
+   */
+  long getGesamtanzahl();
+
+  /**
+   * @return wie oft diese Regel angewendet wurde
+   */
+  long getAnzahl(String regel);
+
+  boolean isZeitmessungGewuenscht();
+
+  void zuruecksetzen();
+}
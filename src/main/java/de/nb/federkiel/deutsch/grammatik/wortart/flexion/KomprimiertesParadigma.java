@@ -0,0 +1,238 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import de.nb.federkiel.string.StringUtil;
+
+/**
+ * Ein Flexionsparadigma, zerlegt in den gemeinsamen Stamm aller Wortformen und
+ * ein (mit vielen anderen Lexemen geteiltes) {@link Endungsmuster}. Der
+ * Speicherbedarf waechst damit im Wesentlichen mit der Anzahl der
+ * verschiedenen Endungsmuster - nicht mit der Anzahl der Wortformen aller
+ * Lexeme.
+ * <p>
+ * Der Stamm ist hier rein technisch das laengste gemeinsame Praefix - wobei
+ * ein einzelner Umlaut (<i>Haus</i> / <i>H&auml;user</i>) als Teil der Endung
+ * vermerkt wird, so dass sich z.B. <i>Stuhl</i> und <i>Gast</i> ein
+ * Endungsmuster teilen.
+ */
+@Immutable
+@ThreadSafe
+public final class KomprimiertesParadigma {
+  /**
+   * Eine Endung, die mit einem Zeichen kleiner als diesem beginnt, bedeutet:
+   * Im Stamm wird ein Vokal umgelautet - das Zeichen gibt seinen Abstand zum
+   * Ende des Stamms an (<code>UMLAUT_MARKIERUNG_OBERGRENZE - 1</code> ist der
+   * letzte Buchstabe des Stamms, <code>UMLAUT_MARKIERUNG_OBERGRENZE - 2</code>
+   * der vorletzte usw.).
+   */
+  private static final char UMLAUT_MARKIERUNG_OBERGRENZE = ' ';
+
+  private final String stamm;
+
+  private final Endungsmuster endungsmuster;
+
+  private KomprimiertesParadigma(final String stamm, final Endungsmuster endungsmuster) {
+    this.stamm = stamm;
+    this.endungsmuster = endungsmuster;
+  }
+
+  /**
+   * Zerlegt das Paradigma in Stamm und Endungsmuster.
+   *
+   * @param paradigma die Wortformen, indiziert per {@link Flexionszelle} -
+   *          <code>null</code> fuer Zellen ohne Wortform
+   */
+  public static KomprimiertesParadigma of(final String[] paradigma) {
+    final @Nullable KomprimiertesParadigma mitUmlaut = ofMitUmlaut(paradigma);
+    if (mitUmlaut != null) {
+      return mitUmlaut;
+    }
+
+    final String stamm = gemeinsamesPraefix(paradigma, false);
+
+    final String[] endungen = new String[paradigma.length];
+    for (int i = 0; i < paradigma.length; i++) {
+      if (paradigma[i] != null) {
+        endungen[i] = paradigma[i].substring(stamm.length());
+      }
+    }
+
+    return new KomprimiertesParadigma(stamm, Endungsmuster.of(endungen));
+  }
+
+  /**
+   * Zerlegt das Paradigma so, dass ein einzelner Umlaut im Stamm als Teil der
+   * Endung vermerkt wird.
+   *
+   * @return <code>null</code>, wenn das nicht moeglich ist
+   */
+  private static @Nullable KomprimiertesParadigma ofMitUmlaut(final String[] paradigma) {
+    final String stamm = gemeinsamesPraefix(paradigma, true);
+
+    final String[] endungen = new String[paradigma.length];
+    for (int i = 0; i < paradigma.length; i++) {
+      final String wortform = paradigma[i];
+      if (wortform == null) {
+        continue;
+      }
+
+      int umlautPos = -1;
+      for (int j = 0; j < stamm.length(); j++) {
+        final char zeichen = wortform.charAt(j);
+        if (zeichen == stamm.charAt(j)) {
+          continue;
+        }
+
+        // Nur ein einzelner Umlaut gegenueber dem Stamm ist moeglich
+        final int abstandZumEnde = stamm.length() - 1 - j;
+        if (umlautPos >= 0 || StringUtil.makeUmlautsPlain(zeichen) != stamm.charAt(j)
+            || abstandZumEnde >= UMLAUT_MARKIERUNG_OBERGRENZE) {
+          return null;
+        }
+
+        umlautPos = j;
+      }
+
+      final String endung = wortform.substring(stamm.length());
+      endungen[i] = umlautPos < 0 ? endung
+          : (char) (UMLAUT_MARKIERUNG_OBERGRENZE - 1 - (stamm.length() - 1 - umlautPos)) + endung;
+    }
+
+    return new KomprimiertesParadigma(stamm, Endungsmuster.of(endungen));
+  }
+
+  /**
+   * @param umlauteIgnorieren ob z.B. <i>a</i> und <i>&auml;</i> als gleich
+   *          gelten sollen - das Praefix wird dann aus der ersten Wortform
+   *          genommen
+   */
+  private static String gemeinsamesPraefix(final String[] paradigma,
+      final boolean umlauteIgnorieren) {
+    @Nullable
+    String res = null;
+    for (final String wortform : paradigma) {
+      if (wortform == null) {
+        continue;
+      }
+
+      if (res == null) {
+        res = wortform;
+        continue;
+      }
+
+      int laenge = 0;
+      final int maxLaenge = Math.min(res.length(), wortform.length());
+      while (laenge < maxLaenge
+          && gleich(res.charAt(laenge), wortform.charAt(laenge), umlauteIgnorieren)) {
+        laenge++;
+      }
+
+      res = res.substring(0, laenge);
+    }
+
+    return res != null ? res : "";
+  }
+
+  private static boolean gleich(final char einZeichen, final char anderesZeichen,
+      final boolean umlauteIgnorieren) {
+    if (einZeichen == anderesZeichen) {
+      return true;
+    }
+
+    return umlauteIgnorieren
+        && StringUtil.makeUmlautsPlain(einZeichen) == StringUtil.makeUmlautsPlain(anderesZeichen);
+  }
+
+  public String getStamm() {
+    return stamm;
+  }
+
+  public Endungsmuster getEndungsmuster() {
+    return endungsmuster;
+  }
+
+  /**
+   * @return die Wortform - oder <code>null</code>, falls die Zelle keine
+   *         Wortform hat
+   */
+  public @Nullable String getWortform(final int zelle) {
+    final @Nullable String endung = endungsmuster.getEndung(zelle);
+    if (endung == null) {
+      return null;
+    }
+
+    if (endung.isEmpty() || endung.charAt(0) >= UMLAUT_MARKIERUNG_OBERGRENZE) {
+      return stamm + endung;
+    }
+
+    final int umlautPos =
+        stamm.length() - 1 - (UMLAUT_MARKIERUNG_OBERGRENZE - 1 - endung.charAt(0));
+
+    final StringBuilder res = new StringBuilder(stamm.length() + endung.length() - 1);
+    res.append(stamm, 0, umlautPos);
+    res.append(umlaut(stamm.charAt(umlautPos)));
+    res.append(stamm, umlautPos + 1, stamm.length());
+    res.append(endung, 1, endung.length());
+    return res.toString();
+  }
+
+  private static char umlaut(final char zeichen) {
+    switch (zeichen) {
+      case 'a':
+        return '\u00e4';
+      case 'o':
+        return '\u00f6';
+      case 'u':
+        return '\u00fc';
+      case 'A':
+        return '\u00c4';
+      case 'O':
+        return '\u00d6';
+      case 'U':
+        return '\u00dc';
+      default:
+        throw new IllegalStateException("Unerwarteter Vokal fuer Umlaut: " + zeichen);
+    }
+  }
+
+  /**
+   * Gibt das (vollstaendige) Paradigma als neues Array zurueck.
+   */
+  public String[] toArray() {
+    final String[] res = new String[endungsmuster.getAnzahlZellen()];
+    for (int i = 0; i < res.length; i++) {
+      res[i] = getWortform(i);
+    }
+
+    return res;
+  }
+
+  @Override
+  public int hashCode() {
+    return stamm.hashCode() * 31 + endungsmuster.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final KomprimiertesParadigma other = (KomprimiertesParadigma) obj;
+    // Gleiche Endungsmuster sind identisch (vgl. Endungsmuster#of())
+    return stamm.equals(other.stamm) && endungsmuster == other.endungsmuster;
+  }
+
+  @Override
+  public String toString() {
+    return stamm + " " + endungsmuster;
+  }
+}
@@ -0,0 +1,204 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import de.nb.federkiel.feature.EnumStringFeatureType;
+import de.nb.federkiel.feature.FeatureTypeDictionary;
+import de.nb.federkiel.feature.StringFeatureValue;
+import de.nb.federkiel.feature.UnspecifiedFeatureValue;
+import de.nb.federkiel.interfaces.IFeatureType;
+import de.nb.federkiel.interfaces.IFeatureValue;
+import de.nb.federkiel.interfaces.IWordForm;
+
+/**
+ * Ein invertierter Index ueber eine (feste) Menge von Wortformen - etwa ein
+ * Adjektivparadigma oder alle Vollformen eines Lexikons: Zu jedem Merkmal und
+ * Wert haelt er die Menge der passenden Wortformen als Bitmenge. Eine Anfrage
+ * wie <i>kasus=dat, numerus=pl, staerke=schwach</i> wird so durch das
+ * Schneiden weniger Bitmengen beantwortet - ohne die Merkmale jeder einzelnen
+ * Wortform zu pruefen.
+ * <p>
+ * Ein unspezifizierter Wert ({@link UnspecifiedFeatureValue}) passt zu jedem
+ * Wert. Fuer Merkmale mit aufzaehlbaren Werten (vgl.
+ * {@link EnumStringFeatureType}) wird die Wortform dazu bereits beim Aufbau in
+ * die Bitmengen aller moeglichen Werte eingetragen, bei anderen Merkmalen
+ * (etwa der Nennform) erst bei der Anfrage.
+ */
+@Immutable
+@ThreadSafe
+public class Merkmalsindex {
+	private final ImmutableList<IWordForm> wortformen;
+
+	private final ImmutableMap<String, MerkmalsEintrag> eintraege;
+
+	/**
+	 * Erzeugt einen Index mit den Merkmalstypen aus
+	 * {@link GermanUtil#FEATURE_TYPE_DICTIONARY}.
+	 */
+	public Merkmalsindex(final Collection<? extends IWordForm> wortformen) {
+		this(wortformen, GermanUtil.FEATURE_TYPE_DICTIONARY);
+	}
+
+	public Merkmalsindex(final Collection<? extends IWordForm> wortformen,
+			final FeatureTypeDictionary featureTypeDictionary) {
+		this.wortformen = ImmutableList.copyOf(wortformen);
+
+		final Map<String, MerkmalsEintrag> eintraegeBuilder = new HashMap<>();
+		for (int i = 0; i < this.wortformen.size(); i++) {
+			final int index = i;
+			this.wortformen.get(i).getFeatures().forEach((name, value) -> eintraegeBuilder
+					.computeIfAbsent(name, n -> new MerkmalsEintrag(moeglicheWerte(featureTypeDictionary.get(n))))
+					.add(index, value));
+		}
+
+		eintraege = ImmutableMap.copyOf(eintraegeBuilder);
+	}
+
+	private static @Nullable ImmutableSet<IFeatureValue> moeglicheWerte(final @Nullable IFeatureType featureType) {
+		if (!(featureType instanceof EnumStringFeatureType)) {
+			return null;
+		}
+
+		return featureType.getAllPossibleValues();
+	}
+
+	/**
+	 * Gibt alle Wortformen zurueck, die zu allen diesen Merkmalen passen.
+	 *
+	 * @param merkmale
+	 *          Merkmalsnamen und (String-)Werte
+	 */
+	public ImmutableList<IWordForm> finde(final ImmutableMap<String, String> merkmale) {
+		final BitSet treffer = treffer(merkmale);
+
+		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+		for (int i = treffer.nextSetBit(0); i >= 0; i = treffer.nextSetBit(i + 1)) {
+			res.add(wortformen.get(i));
+		}
+
+		return res.build();
+	}
+
+	/**
+	 * Gibt die Indizes (in {@link #getWortformen()}) aller Wortformen zurueck, die
+	 * zu allen diesen Merkmalen passen.
+	 *
+	 * @param merkmale
+	 *          Merkmalsnamen und (String-)Werte
+	 * @throws IllegalArgumentException
+	 *           falls ein Wert fuer das Merkmal nicht moeglich ist
+	 */
+	public BitSet treffer(final ImmutableMap<String, String> merkmale) {
+		final BitSet res = new BitSet(wortformen.size());
+		res.set(0, wortformen.size());
+
+		for (final Map.Entry<String, String> merkmal : merkmale.entrySet()) {
+			final @Nullable MerkmalsEintrag eintrag = eintraege.get(merkmal.getKey());
+			if (eintrag == null) {
+				// keine Wortform hat dieses Merkmal
+				res.clear();
+				return res;
+			}
+
+			eintrag.schneide(res, StringFeatureValue.of(merkmal.getValue()), merkmal.getKey());
+			if (res.isEmpty()) {
+				return res;
+			}
+		}
+
+		return res;
+	}
+
+	public ImmutableList<IWordForm> getWortformen() {
+		return wortformen;
+	}
+
+	@Override
+	public String toString() {
+		return "Merkmalsindex (" + wortformen.size() + " Wortformen, " + eintraege.size() + " Merkmale)";
+	}
+
+	/**
+	 * Die Bitmengen zu einem Merkmal
+	 */
+	private static class MerkmalsEintrag {
+		/**
+		 * Die moeglichen Werte - <code>null</code>, wenn sie sich nicht aufzaehlen
+		 * lassen
+		 */
+		private final @Nullable ImmutableSet<IFeatureValue> moeglicheWerte;
+
+		/**
+		 * Die Wortformen je Wert. Bei aufzaehlbaren Werten einschliesslich der
+		 * Wortformen mit unspezifiziertem Wert.
+		 */
+		private final Map<IFeatureValue, BitSet> wortformenJeWert = new HashMap<>();
+
+		/**
+		 * Die Wortformen mit unspezifiziertem Wert - nur bei nicht aufzaehlbaren
+		 * Werten
+		 */
+		private final BitSet unspezifiziert = new BitSet();
+
+		MerkmalsEintrag(final @Nullable ImmutableSet<IFeatureValue> moeglicheWerte) {
+			this.moeglicheWerte = moeglicheWerte;
+		}
+
+		/**
+		 * Nur waehrend des Aufbaus!
+		 */
+		void add(final int index, final IFeatureValue wert) {
+			if (!(wert instanceof UnspecifiedFeatureValue)) {
+				wortformenJeWert.computeIfAbsent(wert, w -> new BitSet()).set(index);
+				return;
+			}
+
+			if (moeglicheWerte == null) {
+				unspezifiziert.set(index);
+				return;
+			}
+
+			for (final IFeatureValue moeglicherWert : moeglicheWerte) {
+				wortformenJeWert.computeIfAbsent(moeglicherWert, w -> new BitSet()).set(index);
+			}
+		}
+
+		/**
+		 * Entfernt aus der Bitmenge alle Wortformen, die nicht zu diesem Wert
+		 * passen.
+		 */
+		void schneide(final BitSet bitSet, final IFeatureValue wert, final String name) {
+			if (moeglicheWerte != null && !moeglicheWerte.contains(wert)) {
+				throw new IllegalArgumentException("Unexpected value " + wert + " for feature " + name + ".");
+			}
+
+			final @Nullable BitSet passend = wortformenJeWert.get(wert);
+
+			if (moeglicheWerte != null) {
+				if (passend == null) {
+					bitSet.clear();
+				} else {
+					bitSet.and(passend);
+				}
+				return;
+			}
+
+			final BitSet passendOderUnspezifiziert = (BitSet) unspezifiziert.clone();
+			if (passend != null) {
+				passendOderUnspezifiziert.or(passend);
+			}
+			bitSet.and(passendOderUnspezifiziert);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import de.nb.federkiel.lexikon.Lexeme;
+
+/**
+ * Speichert die Flexionsparadigmen vieler Lexeme (etwa eines ganzen Lexikons)
+ * platzsparend - jeweils als {@link KomprimiertesParadigma}, also als Stamm
+ * und geteiltes {@link Endungsmuster}. Die Paradigmen stammen aus der
+ * tatsaechlichen Ausgabe der Flektierer (z.B.
+ * {@link de.nb.federkiel.deutsch.grammatik.wortart.substantiv.SubstantivFlektierer#stdParadigma(Lexeme, String, boolean, boolean, boolean, boolean, de.nb.federkiel.deutsch.grammatik.wortart.substantiv.FremdwortTyp, boolean, boolean)}).
+ * <p>
+ * Die Paradigmen sind nach dem Lexem indiziert. Der Speicher haelt sie, bis er
+ * selbst nicht mehr referenziert wird - er ist fuer ein festes Lexikon gedacht,
+ * nicht als Cache fuer beliebige Lexeme.
+ */
+@ThreadSafe
+public class Paradigmenspeicher {
+  private final ConcurrentHashMap<Lexeme, KomprimiertesParadigma> paradigmen =
+      new ConcurrentHashMap<>();
+
+  public Paradigmenspeicher() {
+    super();
+  }
+
+  /**
+   * Speichert das Paradigma zu diesem Lexem (ein evtl. vorhandenes wird
+   * ersetzt).
+   *
+   * @param paradigma die Wortformen, indiziert per {@link Flexionszelle} -
+   *          <code>null</code> fuer Zellen ohne Wortform
+   */
+  public void put(final Lexeme lexeme, final String[] paradigma) {
+    paradigmen.put(lexeme, KomprimiertesParadigma.of(paradigma));
+  }
+
+  /**
+   * @return das Paradigma zum Lexem - oder <code>null</code>, falls keines
+   *         gespeichert ist
+   */
+  public @Nullable KomprimiertesParadigma get(final Lexeme lexeme) {
+    return paradigmen.get(lexeme);
+  }
+
+  /**
+   * @return die Wortform - oder <code>null</code>, falls fuer das Lexem kein
+   *         Paradigma gespeichert ist oder die Zelle keine Wortform hat
+   */
+  public @Nullable String getWortform(final Lexeme lexeme, final int zelle) {
+    final @Nullable KomprimiertesParadigma paradigma = get(lexeme);
+    if (paradigma == null) {
+      return null;
+    }
+
+    return paradigma.getWortform(zelle);
+  }
+
+  /**
+   * Gibt die Anzahl der gespeicherten Paradigmen zurueck.
+   */
+  public int size() {
+    return paradigmen.size();
+  }
+
+  /**
+   * Gibt die Anzahl der verschiedenen Endungsmuster der gespeicherten
+   * Paradigmen zurueck.
+   */
+  public int getAnzahlEndungsmuster() {
+    return (int) paradigmen.values().stream().map(KomprimiertesParadigma::getEndungsmuster)
+        .distinct().count();
+  }
+
+  @Override
+  public String toString() {
+    return "Paradigmenspeicher (" + size() + " Paradigmen, " + getAnzahlEndungsmuster()
+        + " Endungsmuster)";
+  }
+}
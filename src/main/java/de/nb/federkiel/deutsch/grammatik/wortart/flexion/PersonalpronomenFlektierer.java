@@ -27,12 +27,20 @@ import de.nb.federkiel.lexikon.Lexeme;
 public class PersonalpronomenFlektierer extends AbstractPronomenFlektierer {
   public static final String TYP = "Personalpronomen";
 
+  public static final PersonalpronomenFlektierer INSTANCE = new PersonalpronomenFlektierer();
+
   public PersonalpronomenFlektierer() {
     super();
   }
 
   public ImmutableCollection<IWordForm> irreflexiv(final Lexeme lexeme,
       final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "irreflexiv",
+        () -> buildIrreflexiv(lexeme, pos)).getWortformen();
+  }
+
+  private ImmutableCollection<IWordForm> buildIrreflexiv(final Lexeme lexeme,
+      final String pos) {
     final ImmutableList.Builder<IWordForm> res = ImmutableList
         .<IWordForm> builder();
 
@@ -141,6 +149,12 @@ public class PersonalpronomenFlektierer extends AbstractPronomenFlektierer {
 
   public ImmutableCollection<IWordForm> reflexiv(final Lexeme lexeme,
       final String pos) {
+    return Pronomenparadigmen.paradigma(lexeme, pos, "reflexiv",
+        () -> buildReflexiv(lexeme, pos)).getWortformen();
+  }
+
+  private ImmutableCollection<IWordForm> buildReflexiv(final Lexeme lexeme,
+      final String pos) {
     final ImmutableList.Builder<IWordForm> res = ImmutableList
         .<IWordForm> builder();
 
@@ -0,0 +1,399 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Die (heuristisch ermittelten) lautlichen Eigenschaften des Ausgangs eines
+ * Stamms oder einer Wortform - etwa, ob sie auf einen S-Laut oder auf einen
+ * unbetonten Vollvokal endet. Beim Flektieren werden diese Eigenschaften fuer
+ * denselben Stamm sehr haeufig abgefragt; das Profil ermittelt sie alle auf
+ * einmal - in einem einzigen Durchlauf vom Ende des Stamms her - und haelt sie
+ * als Bitmenge vor.
+ * <p>
+ * Die Profile werden je Stamm gecachet (begrenzt auf die zuletzt verwendeten
+ * Staemme).
+ * <p>
+ * Die Semantik der einzelnen Abfragen entspricht den gleichnamigen Methoden
+ * von {@link GermanUtil}.
+ */
+@Immutable
+@ThreadSafe
+public final class PhonologischesProfil {
+	private static final int MAXIMALE_ANZAHL_GECACHTER_PROFILE = 10000;
+
+	private static final LoadingCache<String, PhonologischesProfil> PROFILE = CacheBuilder.newBuilder()
+			.maximumSize(MAXIMALE_ANZAHL_GECACHTER_PROFILE).build(CacheLoader.from(PhonologischesProfil::new));
+
+	// Die Eigenschaften
+	private static final int LETZTES_ZEICHEN_IST_VOKAL = 1;
+	private static final int ENDET_AUF_BETONTEN_VOLLVOKAL = 1 << 1;
+	private static final int ENDET_AUF_UNBETONTEN_VOLLVOKAL = 1 << 2;
+	private static final int ENDET_AUF_VOLLVOKAL = 1 << 3;
+	private static final int HAT_KONSONANTISCHEN_WORTAUSGANG = 1 << 4;
+	private static final int ENDET_AUF_OBSTRUENT_PLUS_M_ODER_N = 1 << 5;
+	private static final int ENDET_AUF_S_LAUT = 1 << 6;
+	private static final int ENDET_AUF_SCH_LAUT = 1 << 7;
+	private static final int ENDET_AUF_LATEINISCHEM_OR = 1 << 8;
+	private static final int ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER = 1 << 9;
+	private static final int ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER_UNSICHER = 1 << 10;
+	private static final int ENDET_UNBETONT_MIT_SILBENREIM_EL_EN_END_EM_ER = 1 << 11;
+	private static final int ERLAUBT_ADJEKTIVISCHE_E_TILGUNG_BEI_SUFFIX_EN_UND_EM = 1 << 12;
+	private static final int IST_LATEIN_A_DEKLINATION = 1 << 13;
+
+	// Die Endungen, aus denen sich die Eigenschaften ergeben (vgl. die
+	// entsprechenden Methoden von GermanUtil)
+	private static final int LANGER_VOKAL = 1;
+	private static final int DIPHTHONG = 1 << 1;
+	private static final int NACKEDEI = 1 << 2;
+	private static final int SCHWA = 1 << 3;
+	private static final int S_LAUT = 1 << 4;
+	private static final int SCH_LAUT = 1 << 5;
+	private static final int M_ODER_N = 1 << 6;
+	private static final int NG_PLUS_M_ODER_N = 1 << 7;
+	private static final int OW_PLUS_M_ODER_N = 1 << 8;
+	private static final int S_LAUT_PLUS_M_ODER_N = 1 << 9;
+	private static final int DEHNUNGS_H_PLUS_M_ODER_N = 1 << 10;
+	private static final int OBSTRUENT_PLUS_M_ODER_N = 1 << 11;
+	private static final int OR = 1 << 12;
+	private static final int KEIN_LATEINISCHES_OR = 1 << 13;
+	private static final int E_EL_ER = 1 << 14;
+	private static final int E_EL_ER_UNSICHER = 1 << 15;
+	private static final int KEIN_E_EL_ER = 1 << 16;
+	private static final int EL_EN_END_EM_ER = 1 << 17;
+	private static final int KEIN_EL_EN_END_EM_ER = 1 << 18;
+	private static final int EL_ER = 1 << 19;
+	private static final int KEINE_E_TILGUNG = 1 << 20;
+	private static final int A = 1 << 21;
+	private static final int KEINE_LATEIN_A_DEKLINATION = 1 << 22;
+
+	private static final String[] S_LAUTE = { "s", "", "x", "z", "ce" }; // z.B. Interface
+
+	private static final String[] DEHNUNGS_H = { "ah", "eh", "ih", "oh", "uh", "h", "h", "h", "yh" };
+
+	private static final String[] OBSTRUENTEN = { "b", "c", "d", "f", "g", "h", "j", "k", "p", "q", "t", "v", "w" };
+
+	/**
+	 * Die Endungen - als Baum, der vom letzten Zeichen her durchlaufen wird
+	 */
+	private static final Endungsknoten ENDUNGEN = new Endungsknoten();
+
+	static {
+		ENDUNGEN.add(LANGER_VOKAL, GermanUtil.TYPISCHE_VERSCHRIFTUNGEN_LANGER_VOKALE);
+		ENDUNGEN.add(DIPHTHONG, GermanUtil.DIPHTHONGE);
+		ENDUNGEN.add(NACKEDEI, "Nackedei", "nackedei");
+		ENDUNGEN.add(SCHWA, "e");
+		ENDUNGEN.add(S_LAUT, S_LAUTE);
+		ENDUNGEN.add(SCH_LAUT, "sch", "sh"); // vielleicht Fremdwoerter
+		ENDUNGEN.add(M_ODER_N, "m", "n");
+		ENDUNGEN.add(NG_PLUS_M_ODER_N, plusMOderN("ng"));
+		ENDUNGEN.add(OW_PLUS_M_ODER_N, plusMOderN("ow", "Ow"));
+		ENDUNGEN.add(S_LAUT_PLUS_M_ODER_N, plusMOderN(S_LAUTE));
+		ENDUNGEN.add(DEHNUNGS_H_PLUS_M_ODER_N, plusMOderN(DEHNUNGS_H));
+		ENDUNGEN.add(OBSTRUENT_PLUS_M_ODER_N, plusMOderN(OBSTRUENTEN));
+		ENDUNGEN.add(OR, "or");
+		ENDUNGEN.add(KEIN_LATEINISCHES_OR, "cor", "hor", "oor", "qor", "or", "wor", "zor");
+		ENDUNGEN.add(E_EL_ER, "e", "el", "er");
+		ENDUNGEN.add(E_EL_ER_UNSICHER, "ie", "oe", "iel", "ier");
+		ENDUNGEN.add(KEIN_E_EL_ER, "ce", "ee", "eel", "schmoel", "eer");
+		ENDUNGEN.add(EL_EN_END_EM_ER, "el", "en", "end", "em", "er");
+		ENDUNGEN.add(KEIN_EL_EN_END_EM_ER, "eel", "schmoel", "een", "eend", "eem", "eer");
+		ENDUNGEN.add(EL_ER, "el", "er");
+		ENDUNGEN.add(KEINE_E_TILGUNG, "eel", "eer", "iel", "ier");
+		ENDUNGEN.add(A, "a");
+		ENDUNGEN.add(KEINE_LATEIN_A_DEKLINATION, "aa", "ca", "ha", "ja", "enda", "qa", "a", "wa", "za");
+	}
+
+	private final String wortform;
+
+	private final int merkmale;
+
+	private PhonologischesProfil(final String wortform) {
+		super();
+		this.wortform = wortform;
+		merkmale = berechne(wortform);
+	}
+
+	/**
+	 * Gibt das Profil fuer diesen Stamm (oder diese Wortform) zurueck.
+	 */
+	public static PhonologischesProfil of(final String wortform) {
+		return PROFILE.getUnchecked(wortform);
+	}
+
+	public String getWortform() {
+		return wortform;
+	}
+
+	public boolean letztesZeichenIstVokal() {
+		return hat(LETZTES_ZEICHEN_IST_VOKAL);
+	}
+
+	/**
+	 * Diese Methode ist eher Heuristik!!!
+	 */
+	public boolean endetAufBetontenVollvokal() {
+		return hat(ENDET_AUF_BETONTEN_VOLLVOKAL);
+	}
+
+	/**
+	 * Diese Methode ist eher Heuristik!!!
+	 */
+	public boolean endetAufUnbetontenVollvokal() {
+		return hat(ENDET_AUF_UNBETONTEN_VOLLVOKAL);
+	}
+
+	public boolean endetAufVollvokal() {
+		return hat(ENDET_AUF_VOLLVOKAL);
+	}
+
+	/**
+	 * @see GermanUtil#hatKonsonantischenWortausgang(String)
+	 */
+	public boolean hatKonsonantischenWortausgang() {
+		return hat(HAT_KONSONANTISCHEN_WORTAUSGANG);
+	}
+
+	/**
+	 * @param fremdwortAmEndeBetont
+	 *          ob das Wort ein am Ende betontes Fremdwort ist
+	 */
+	public boolean istFremdwortUndEndetAufBetontenVollvokal(final boolean fremdwortAmEndeBetont) {
+		// Ein am Ende betontes Fremdwort, das auf einen Vokal endet,
+		// endet auf einen betonten Vollvokal.
+		return fremdwortAmEndeBetont && !hatKonsonantischenWortausgang();
+	}
+
+	public boolean endetAufObstruentPlusMOderN() {
+		return hat(ENDET_AUF_OBSTRUENT_PLUS_M_ODER_N);
+	}
+
+	public boolean endetAufSLaut() {
+		return hat(ENDET_AUF_S_LAUT);
+	}
+
+	public boolean endetAufSchLaut() {
+		return hat(ENDET_AUF_SCH_LAUT);
+	}
+
+	public boolean endetAufLateinischemOr() {
+		return hat(ENDET_AUF_LATEINISCHEM_OR);
+	}
+
+	/**
+	 * @return <code>null</code>, falls sich die Heuristik nicht entscheiden kann
+	 */
+	public @Nullable Boolean endetUnbetontMitSilbenreimEELEr() {
+		if (hat(ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER_UNSICHER)) {
+			return null;
+		}
+
+		return hat(ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER);
+	}
+
+	public boolean endetUnbetontMitSilbenreimElEnEndEmEr() {
+		return hat(ENDET_UNBETONT_MIT_SILBENREIM_EL_EN_END_EM_ER);
+	}
+
+	/**
+	 * @see GermanUtil#erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(String)
+	 */
+	public boolean erlaubtAdjektivischeETilgungBeiSuffixEnUndEm() {
+		return hat(ERLAUBT_ADJEKTIVISCHE_E_TILGUNG_BEI_SUFFIX_EN_UND_EM);
+	}
+
+	public boolean isLateinADeklination() {
+		return hat(IST_LATEIN_A_DEKLINATION);
+	}
+
+	private boolean hat(final int merkmal) {
+		return (merkmale & merkmal) != 0;
+	}
+
+	/**
+	 * Ermittelt alle Eigenschaften - in einem Durchlauf vom Ende der Wortform
+	 * her.
+	 */
+	private static int berechne(final String wortform) {
+		int endungen = 0;
+		Endungsknoten knoten = ENDUNGEN;
+		for (int i = wortform.length() - 1; i >= 0; i--) {
+			knoten = knoten.get(wortform.charAt(i));
+			if (knoten == null) {
+				break;
+			}
+
+			endungen |= knoten.endungen;
+		}
+
+		final boolean letztesZeichenIstVokal = !wortform.isEmpty()
+				&& GermanUtil.isVokal(wortform.charAt(wortform.length() - 1));
+
+		return berechneVokale(endungen, letztesZeichenIstVokal) | berechneKonsonanten(endungen)
+				| berechneSilbenreime(endungen, wortform.length());
+	}
+
+	private static int berechneVokale(final int endungen, final boolean letztesZeichenIstVokal) {
+		final boolean langerVokal = (endungen & LANGER_VOKAL) != 0;
+		final boolean diphthong = (endungen & DIPHTHONG) != 0;
+		final boolean nackedei = (endungen & NACKEDEI) != 0;
+		// Ein (einzelnes) "e" am Ende ist vermutlich ein Schwa
+		final boolean schwa = (endungen & SCHWA) != 0;
+
+		int res = 0;
+		if (letztesZeichenIstVokal) {
+			res |= LETZTES_ZEICHEN_IST_VOKAL;
+		}
+		if (langerVokal || (!nackedei && diphthong)) {
+			res |= ENDET_AUF_BETONTEN_VOLLVOKAL;
+		}
+		if (!langerVokal && (nackedei || (!diphthong && !schwa && letztesZeichenIstVokal))) {
+			res |= ENDET_AUF_UNBETONTEN_VOLLVOKAL;
+		}
+		if (langerVokal || diphthong || (!schwa && letztesZeichenIstVokal)) {
+			res |= ENDET_AUF_VOLLVOKAL;
+		}
+		if (!langerVokal && !diphthong && !letztesZeichenIstVokal) {
+			res |= HAT_KONSONANTISCHEN_WORTAUSGANG;
+		}
+
+		return res;
+	}
+
+	private static int berechneKonsonanten(final int endungen) {
+		int res = 0;
+		if ((endungen & S_LAUT) != 0) {
+			res |= ENDET_AUF_S_LAUT;
+		}
+		if ((endungen & SCH_LAUT) != 0) {
+			res |= ENDET_AUF_SCH_LAUT;
+		}
+		// Vgl. GermanUtil#endetAufObstruent(): ng ist ein Sonorant, ow wohl ein
+		// Diphthong, S-Laute sind Obstruenten, ein Dehnungs-h ist keiner
+		if ((endungen & M_ODER_N) != 0 && (endungen & (NG_PLUS_M_ODER_N | OW_PLUS_M_ODER_N)) == 0
+				&& ((endungen & S_LAUT_PLUS_M_ODER_N) != 0
+						|| ((endungen & DEHNUNGS_H_PLUS_M_ODER_N) == 0 && (endungen & OBSTRUENT_PLUS_M_ODER_N) != 0))) {
+			res |= ENDET_AUF_OBSTRUENT_PLUS_M_ODER_N;
+		}
+		if ((endungen & OR) != 0 && (endungen & KEIN_LATEINISCHES_OR) == 0) {
+			res |= ENDET_AUF_LATEINISCHEM_OR;
+		}
+		if ((endungen & A) != 0 && (endungen & KEINE_LATEIN_A_DEKLINATION) == 0) {
+			res |= IST_LATEIN_A_DEKLINATION;
+		}
+
+		return res;
+	}
+
+	private static int berechneSilbenreime(final int endungen, final int laenge) {
+		int res = 0;
+		if ((endungen & KEIN_E_EL_ER) == 0) {
+			if ((endungen & E_EL_ER_UNSICHER) != 0) {
+				res |= ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER_UNSICHER;
+			} else if ((endungen & E_EL_ER) != 0) {
+				res |= ENDET_UNBETONT_MIT_SILBENREIM_E_EL_ER;
+			}
+		}
+		if ((endungen & EL_EN_END_EM_ER) != 0 && (endungen & KEIN_EL_EN_END_EM_ER) == 0) {
+			res |= ENDET_UNBETONT_MIT_SILBENREIM_EL_EN_END_EM_ER;
+		}
+		if ((endungen & EL_ER) != 0 && (endungen & KEINE_E_TILGUNG) == 0 && laenge > 2) {
+			res |= ERLAUBT_ADJEKTIVISCHE_E_TILGUNG_BEI_SUFFIX_EN_UND_EM;
+		}
+
+		return res;
+	}
+
+	private static String[] plusMOderN(final String... endungen) {
+		final String[] res = new String[endungen.length * 2];
+		for (int i = 0; i < endungen.length; i++) {
+			res[2 * i] = endungen[i] + "m";
+			res[2 * i + 1] = endungen[i] + "n";
+		}
+
+		return res;
+	}
+
+	@Override
+	public int hashCode() {
+		return wortform.hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final PhonologischesProfil other = (PhonologischesProfil) obj;
+		return wortform.equals(other.wortform);
+	}
+
+	@Override
+	public String toString() {
+		return wortform;
+	}
+
+	/**
+	 * Ein Knoten im Baum der Endungen: Der Weg von der Wurzel zum Knoten ist eine
+	 * Endung (rueckwaerts gelesen). Wird nur beim Laden der Klasse veraendert.
+	 */
+	private static final class Endungsknoten {
+		private char[] zeichen = new char[0];
+
+		private Endungsknoten[] kinder = new Endungsknoten[0];
+
+		/**
+		 * Die Endungen, die genau hier enden
+		 */
+		private int endungen;
+
+		void add(final int endung, final String... strings) {
+			for (final String string : strings) {
+				Endungsknoten knoten = this;
+				for (int i = string.length() - 1; i >= 0; i--) {
+					knoten = knoten.getOderNeu(string.charAt(i));
+				}
+
+				knoten.endungen |= endung;
+			}
+		}
+
+		@Nullable
+		Endungsknoten get(final char c) {
+			for (int i = 0; i < zeichen.length; i++) {
+				if (zeichen[i] == c) {
+					return kinder[i];
+				}
+			}
+
+			return null;
+		}
+
+		private Endungsknoten getOderNeu(final char c) {
+			final @Nullable Endungsknoten vorhanden = get(c);
+			if (vorhanden != null) {
+				return vorhanden;
+			}
+
+			final Endungsknoten res = new Endungsknoten();
+			zeichen = Arrays.copyOf(zeichen, zeichen.length + 1);
+			zeichen[zeichen.length - 1] = c;
+			kinder = Arrays.copyOf(kinder, kinder.length + 1);
+			kinder[kinder.length - 1] = res;
+			return res;
+		}
+	}
+}
@@ -23,24 +23,30 @@ public class PossessivpronomenFlektierer
 		extends AbstractPronomenFlektierer {
 	public static final String TYP = "Possessivpronomen";
 
+	public static final PossessivpronomenFlektierer INSTANCE = new PossessivpronomenFlektierer();
+
 	public PossessivpronomenFlektierer() {
 		super();
 	}
 
 	public Collection<IWordForm> possessivAttributiv(final Lexeme lexeme, final String pos) {
-		return possessiv(
-				lexeme,
-				NomSgMaskUndNomAkkSgNeutrModus.ENDUNGSLOS, pos,
-				VorgabeFuerNachfolgendesAdjektiv.ERLAUBT_NUR_SCHWACH); // "sein (Auto)"
+		return Pronomenparadigmen.paradigma(lexeme, pos, "possessivAttributiv",
+				() -> possessiv(
+						lexeme,
+						NomSgMaskUndNomAkkSgNeutrModus.ENDUNGSLOS, pos,
+						VorgabeFuerNachfolgendesAdjektiv.ERLAUBT_NUR_SCHWACH)) // "sein (Auto)"
+				.getWortformen();
 	}
 
 	public Collection<IWordForm> possessivSubstituierend(final Lexeme lexeme,
 			final String pos, final String stamm) {
-		return possessiv(
-				lexeme,
-				NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG_UND_NOM_AKK_AUCH_NUR_MIT_S_STATT_ES
-				// "(Es ist) seines.", "(Es ist) seins."
-				, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN);
+		return Pronomenparadigmen.paradigma(lexeme, pos, "possessivSubstituierend",
+				() -> possessiv(
+						lexeme,
+						NomSgMaskUndNomAkkSgNeutrModus.MIT_ENDUNG_UND_NOM_AKK_AUCH_NUR_MIT_S_STATT_ES
+						// "(Es ist) seines.", "(Es ist) seins."
+						, pos, VorgabeFuerNachfolgendesAdjektiv.NICHT_ERZEUGEN))
+				.getWortformen();
 	}
 
 	/**
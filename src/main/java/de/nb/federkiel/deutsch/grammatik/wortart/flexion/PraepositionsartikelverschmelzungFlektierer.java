@@ -6,20 +6,34 @@ import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.NEUTRUM;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.AKKUSATIV;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.DATIV;
 import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.SINGULAR;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.AN;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.AUF;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.BEI;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.DURCH;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.FUER;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.IN;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.UM;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.VON;
+import static de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition.ZU;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.REG_KASUS_KEY;
 
+import javax.annotation.Nullable;
+
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
 
 import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition;
 import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
 import de.nb.federkiel.interfaces.IWordForm;
 import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.LexemeRegistry;
 import de.nb.federkiel.lexikon.Wortform;
 
 public class PraepositionsartikelverschmelzungFlektierer implements IFlektierer {
@@ -27,10 +41,55 @@ public class PraepositionsartikelverschmelzungFlektierer implements IFlektierer
 
 	public static final String TYP = "mitArtikelVerschmolzenePraeposition";
 
+	public static final PraepositionsartikelverschmelzungFlektierer INSTANCE = new PraepositionsartikelverschmelzungFlektierer();
+
+	/**
+	 * Die (standardsprachlichen) Verschmelzungen von Prposition und bestimmtem
+	 * Artikel im Singular, nach Prposition und Kasus, jeweils je Genus -
+	 * z.B. <i>zu</i> + <i>der</i> = <i>zur</i>. Umgangssprachliche Formen wie
+	 * <i>hinterm</i> oder <i>frn</i> fehlen hier - sie werden zwar erkannt,
+	 * aber nicht erzeugt.
+	 */
+	// @formatter:off
+	private static final ImmutableTable<Praeposition, Kasus, ImmutableMap<Genus, String>> VERSCHMELZUNGEN =
+			ImmutableTable.<Praeposition, Kasus, ImmutableMap<Genus, String>> builder()
+					.put(AN, DATIV, ImmutableMap.of(MASKULINUM, "am", NEUTRUM, "am"))
+					.put(AN, AKKUSATIV, ImmutableMap.of(NEUTRUM, "ans"))
+					.put(AUF, AKKUSATIV, ImmutableMap.of(NEUTRUM, "aufs"))
+					.put(BEI, DATIV, ImmutableMap.of(MASKULINUM, "beim", NEUTRUM, "beim"))
+					.put(DURCH, AKKUSATIV, ImmutableMap.of(NEUTRUM, "durchs"))
+					.put(FUER, AKKUSATIV, ImmutableMap.of(NEUTRUM, "frs"))
+					.put(IN, DATIV, ImmutableMap.of(MASKULINUM, "im", NEUTRUM, "im"))
+					.put(IN, AKKUSATIV, ImmutableMap.of(NEUTRUM, "ins"))
+					.put(UM, AKKUSATIV, ImmutableMap.of(NEUTRUM, "ums"))
+					.put(VON, DATIV, ImmutableMap.of(MASKULINUM, "vom", NEUTRUM, "vom"))
+					.put(ZU, DATIV, ImmutableMap.of(MASKULINUM, "zum", FEMININUM, "zur", NEUTRUM, "zum"))
+					.build();
+	// @formatter:on
+
 	public PraepositionsartikelverschmelzungFlektierer() {
 		super();
 	}
 
+	/**
+	 * Gibt die Verschmelzung dieser Prposition mit dem bestimmten Artikel
+	 * zurck (<i>im</i>, <i>zur</i>) - oder <code>null</code>, falls die
+	 * Prposition hier nicht mit dem Artikel verschmilzt (etwa im Plural).
+	 */
+	public static @Nullable String verschmelzeMitBestimmtemArtikel(final Praeposition praeposition, final Kasus kasus,
+			final Numerus numerus, final Genus genus) {
+		if (numerus != SINGULAR) {
+			return null;
+		}
+
+		final @Nullable ImmutableMap<Genus, String> verschmelzungenJeGenus = VERSCHMELZUNGEN.get(praeposition, kasus);
+		if (verschmelzungenJeGenus == null) {
+			return null;
+		}
+
+		return verschmelzungenJeGenus.get(genus);
+	}
+
 	public ImmutableCollection<IWordForm> anDatVerschmelzung(final String pos) {
 		final Lexeme lexeme = buildAPPARTLexem("an", DATIV);
 
@@ -228,7 +287,8 @@ public class PraepositionsartikelverschmelzungFlektierer implements IFlektierer
               .build());
     // @formatter:on
 
-		return new Lexeme(GermanLexemeType.PRAEPOSITION_MIT_INKORPORIERTEM_ARTIKEL, praeposition + "-", features);
+		return LexemeRegistry
+				.intern(new Lexeme(GermanLexemeType.PRAEPOSITION_MIT_INKORPORIERTEM_ARTIKEL, praeposition + "-", features));
 	}
 
 	private static Wortform buildAPPRARTWortform(final Lexeme lexeme, final String pos, final Numerus numerus,
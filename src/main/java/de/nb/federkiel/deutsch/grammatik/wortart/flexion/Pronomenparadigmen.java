@@ -0,0 +1,145 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.FEMININUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.MASKULINUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.NEUTRUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.AKKUSATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.DATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.GENITIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.NOMINATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.PLURAL;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.SINGULAR;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.event.OperationTimer;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.lexikon.Lexeme;
+
+/**
+ * Die Flexionsparadigmen der Pronomen (Personal-, Demonstrativ-, Indefinit-
+ * und Possessivpronomen). Pronomen sind eine geschlossene Klasse - jedes
+ * Paradigma wird deshalb nur einmal (beim ersten Bedarf) erzeugt und danach
+ * immer wieder verwendet.
+ * <p>
+ * Die Paradigmen stehen in einer (statischen) Tabelle, nach Nennform des
+ * Lexems, Flexionsart (etwa <i>irreflexiv</i>) und Wortart - sie bleiben also
+ * erhalten, auch wenn das Lexem-Objekt nicht mehr referenziert wird. Pronomen
+ * mit gleicher Nennform, Flexionsart und Wortart teilen sich ihr Paradigma. Die
+ * Wortformen einer Zelle (<i>Dativ Plural, 3. Person</i>) findet der
+ * {@link Merkmalsindex} des Paradigmas.
+ * <p>
+ * Ausserdem enthaelt die Klasse die Tabelle der Relativpronomen (<i>der</i>,
+ * <i>dessen</i>, <i>denen</i>, ...).
+ */
+@ThreadSafe
+public final class Pronomenparadigmen {
+  /**
+   * Die Relativpronomen, indiziert per
+   * {@link Flexionszelle#pronomenzelle(Kasus, Numerus, Genus)}
+   */
+  private static final String[] RELATIVPRONOMEN = relativpronomen();
+
+  /**
+   * Die Paradigmen, nach Nennform, Flexionsart und Wortart
+   */
+  private static final ConcurrentHashMap<List<String>, Merkmalsindex> PARADIGMEN =
+      new ConcurrentHashMap<>();
+
+  private Pronomenparadigmen() {}
+
+  /**
+   * Gibt das Paradigma dieser Flexionsart zu diesem Lexem zurueck. Gibt es
+   * (noch) keines, wird es mit dem <code>flektierer</code> erzeugt und
+   * abgelegt. (Erzeugen mehrere Threads gleichzeitig dasselbe Paradigma, gewinnt
+   * das erste.)
+   *
+   * @param flexionsart etwa <i>irreflexiv</i> oder <i>jemandNiemand</i>
+   */
+  static Merkmalsindex paradigma(final Lexeme lexeme, final String pos,
+      final String flexionsart,
+      final Supplier<? extends Collection<IWordForm>> flektierer) {
+    final List<String> schluessel = schluessel(lexeme, flexionsart, pos);
+
+    final @Nullable Merkmalsindex vorhanden = PARADIGMEN.get(schluessel);
+    if (vorhanden != null) {
+      return vorhanden;
+    }
+
+    // Nicht computeIfAbsent(): Der flektierer darf selbst weitere Paradigmen
+    // anfordern.
+    final Merkmalsindex neu = erzeuge(flexionsart, flektierer);
+    final @Nullable Merkmalsindex res = PARADIGMEN.putIfAbsent(schluessel, neu);
+    return res != null ? res : neu;
+  }
+
+  private static Merkmalsindex erzeuge(final String flexionsart,
+      final Supplier<? extends Collection<IWordForm>> flektierer) {
+    Regelbeobachtung.zaehle("Pronomenparadigmen.erzeugt", flexionsart);
+
+    final OperationTimer messung = Regelbeobachtung.starte("Pronomenparadigmen.erzeugt", flexionsart);
+    try {
+      final Merkmalsindex res = new Merkmalsindex(flektierer.get());
+      messung.setNumberOfAlternatives(res.getWortformen().size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  /**
+   * @return das Paradigma dieser Flexionsart zu diesem Lexem - oder
+   *         <code>null</code>, falls (noch) keines erzeugt wurde
+   */
+  public static @Nullable Merkmalsindex get(final Lexeme lexeme, final String pos,
+      final String flexionsart) {
+    return PARADIGMEN.get(schluessel(lexeme, flexionsart, pos));
+  }
+
+  /**
+   * Gibt das Relativpronomen zurueck: <i>der</i>, <i>dessen</i>,
+   * <i>denen</i> o.Ae.
+   *
+   * @param genus im Plural irrelevant (darf dann auch <code>null</code> sein)
+   */
+  public static String relativpronomen(final Kasus kasus, final Numerus numerus,
+      final @Nullable Genus genus) {
+    return RELATIVPRONOMEN[Flexionszelle.pronomenzelle(kasus, numerus, genus)];
+  }
+
+  private static List<String> schluessel(final Lexeme lexeme, final String flexionsart,
+      final String pos) {
+    return ImmutableList.of(lexeme.getCanonicalizedForm(), flexionsart, pos);
+  }
+
+  private static String[] relativpronomen() {
+    final String[] res = new String[Flexionszelle.ANZAHL_PRONOMEN_ZELLEN];
+
+    relativpronomen(res, SINGULAR, MASKULINUM, "der", "dessen", "dem", "den");
+    relativpronomen(res, SINGULAR, FEMININUM, "die", "deren", "der", "die");
+    relativpronomen(res, SINGULAR, NEUTRUM, "das", "dessen", "dem", "das");
+    relativpronomen(res, PLURAL, null, "die", "deren", "denen", "die");
+
+    return res;
+  }
+
+  private static void relativpronomen(final String[] res, final Numerus numerus,
+      final @Nullable Genus genus, final String nom, final String gen, final String dat,
+      final String akk) {
+    res[Flexionszelle.pronomenzelle(NOMINATIV, numerus, genus)] = nom;
+    res[Flexionszelle.pronomenzelle(GENITIV, numerus, genus)] = gen;
+    res[Flexionszelle.pronomenzelle(DATIV, numerus, genus)] = dat;
+    res[Flexionszelle.pronomenzelle(AKKUSATIV, numerus, genus)] = akk;
+  }
+}
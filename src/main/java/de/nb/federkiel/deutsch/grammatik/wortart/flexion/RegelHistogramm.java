@@ -0,0 +1,125 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+/**
+ * Zaehlt im Speicher, wie oft welche Regel angewendet wurde - und (falls
+ * gewuenscht) wie lange die Regeln insgesamt gedauert haben.
+ */
+@ThreadSafe
+public class RegelHistogramm implements IRegelbeobachter {
+  private final boolean zeitmessungGewuenscht;
+
+  private final ConcurrentHashMap<String, LongAdder> anzahlen = new ConcurrentHashMap<>();
+
+  private final ConcurrentHashMap<String, LongAdder> nanos = new ConcurrentHashMap<>();
+
+  /**
+   * Erzeugt ein Histogramm, das nur zaehlt (keine Zeiten misst).
+   */
+  public RegelHistogramm() {
+    this(false);
+  }
+
+  public RegelHistogramm(final boolean zeitmessungGewuenscht) {
+    this.zeitmessungGewuenscht = zeitmessungGewuenscht;
+  }
+
+  @Override
+  public void regelAngewendet(final String regel) {
+    anzahlen.computeIfAbsent(regel, r -> new LongAdder()).increment();
+  }
+
+  @Override
+  public boolean isZeitmessungGewuenscht() {
+    return zeitmessungGewuenscht;
+  }
+
+  @Override
+  public void zeitGemessen(final String regel, final long dauerInNanos) {
+    nanos.computeIfAbsent(regel, r -> new LongAdder()).add(dauerInNanos);
+  }
+
+  /**
+   * @return wie oft diese Regel angewendet wurde
+   */
+  public long getAnzahl(final String regel) {
+    final LongAdder res = anzahlen.get(regel);
+    if (res == null) {
+      return 0;
+    }
+
+    return res.sum();
+  }
+
+  /**
+   * @return wie lange diese Regel insgesamt gedauert hat (in Nanosekunden)
+   */
+  public long getNanos(final String regel) {
+    final LongAdder res = nanos.get(regel);
+    if (res == null) {
+      return 0;
+    }
+
+    return res.sum();
+  }
+
+  /**
+   * @return wie oft welche Regel angewendet wurde - nach Regeln sortiert
+   */
+  public ImmutableSortedMap<String, Long> getAnzahlen() {
+    return summen(anzahlen);
+  }
+
+  /**
+   * @return wie lange welche Regel insgesamt gedauert hat (in Nanosekunden) -
+   *         nach Regeln sortiert
+   */
+  public ImmutableSortedMap<String, Long> getZeiten() {
+    return summen(nanos);
+  }
+
+  private static ImmutableSortedMap<String, Long> summen(
+      final ConcurrentHashMap<String, LongAdder> adders) {
+    final ImmutableSortedMap.Builder<String, Long> res = ImmutableSortedMap.naturalOrder();
+    for (final Map.Entry<String, LongAdder> entry : adders.entrySet()) {
+      res.put(entry.getKey(), entry.getValue().sum());
+    }
+
+    return res.build();
+  }
+
+  /**
+   * Setzt alle Zaehler (und Zeiten) zurueck.
+   */
+  public void zuruecksetzen() {
+    anzahlen.clear();
+    nanos.clear();
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder res = new StringBuilder();
+    for (final Map.Entry<String, Long> entry : getAnzahlen().entrySet()) {
+      res.append(entry.getKey());
+      res.append(": ");
+      res.append(entry.getValue());
+      res.append("\n");
+    }
+
+    for (final Map.Entry<String, Long> entry : getZeiten().entrySet()) {
+      res.append(entry.getKey());
+      res.append(": ");
+      res.append(entry.getValue() / 1000);
+      res.append(" s\n");
+    }
+
+    return res.toString();
+  }
+}
@@ -0,0 +1,112 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import de.nb.federkiel.event.IOperationEventListener;
+import de.nb.federkiel.event.OperationEvents;
+import de.nb.federkiel.event.OperationTimer;
+
+/**
+ * Meldet angewendete Regeln an den registrierten {@link IRegelbeobachter}.
+ * Standardmaessig ist keiner registriert - die Meldungen kosten dann (fast)
+ * nichts: Es werden weder Strings zusammengesetzt noch Zeiten gemessen.
+ * <p>
+ * Die Flektierer ermitteln Stammformen, Ausnahmen, Flexionsklassen und
+ * Paradigmen nur einmal je Lexem und cachen sie. Die Regelzaehler in diesen
+ * Berechnungen zaehlen daher, wie oft eine Regel <i>beim Berechnen</i>
+ * angewendet wurde (also bei Cache-Misses) - nicht, wie oft sie bei Aufrufen
+ * zum Tragen kam. Zeiten werden dagegen an den oeffentlichen Einstiegspunkten
+ * der Flektierer gemessen (etwa <i>VerbFlektierer.stdFin</i>) und umfassen
+ * damit auch Cache-Treffer. (Einzige Ausnahme sind Messungen, die ausdruecklich
+ * das Erzeugen betreffen, etwa <i>Pronomenparadigmen.erzeugt</i>.)
+ * <p>
+ * Die Zeitmessungen gehen auch an {@link OperationEvents} - an den Stellen, die
+ * hier gemessen werden, gibt es keine zweite Messung.
+ */
+@ThreadSafe
+public final class Regelbeobachtung {
+  /**
+   * Der Beobachter, der nichts tut
+   */
+  public static final IRegelbeobachter KEINER = regel -> {
+    // nichts zu tun
+  };
+
+  private static volatile IRegelbeobachter beobachter = KEINER;
+
+  private Regelbeobachtung() {}
+
+  public static IRegelbeobachter getBeobachter() {
+    return beobachter;
+  }
+
+  /**
+   * Registriert diesen Beobachter - anstelle des bisherigen.
+   *
+   * @param neuerBeobachter {@link #KEINER}, um die Beobachtung zu beenden
+   */
+  public static void setBeobachter(final IRegelbeobachter neuerBeobachter) {
+    if (neuerBeobachter == null) {
+      throw new NullPointerException("Beobachter ist null - KEINER verwenden!");
+    }
+
+    beobachter = neuerBeobachter;
+  }
+
+  /**
+   * Meldet, dass diese Regel angewendet wurde.
+   */
+  public static void zaehle(final String regel) {
+    final IRegelbeobachter aktuell = beobachter;
+    if (aktuell != KEINER) {
+      aktuell.regelAngewendet(regel);
+    }
+  }
+
+  /**
+   * Meldet, dass diese Regel mit diesem Ergebnis angewendet wurde - etwa
+   * <i>SubstantivFlektierer.flexionsklasse: STARK_I</i>. Der String wird nur
+   * zusammengesetzt, wenn tatsaechlich ein Beobachter registriert ist.
+   */
+  public static void zaehle(final String regel, final Object ergebnis) {
+    final IRegelbeobachter aktuell = beobachter;
+    if (aktuell != KEINER) {
+      aktuell.regelAngewendet(regel + ": " + ergebnis);
+    }
+  }
+
+  /**
+   * Beginnt eine Zeitmessung. Die Messung ist in einem <code>finally</code>-Block
+   * mit {@link OperationTimer#end()} zu beenden; die Zeit geht dann an den
+   * Beobachter (falls er Zeiten messen moechte) und an {@link OperationEvents}
+   * (falls dort ein Listener gesetzt ist).
+   *
+   * @param gegenstand etwa das Lexem - kann auch <code>null</code> sein
+   * @return {@link OperationTimer#DISABLED}, falls keine Zeiten gemessen werden
+   *         sollen
+   */
+  public static OperationTimer starte(final String regel, final @Nullable Object gegenstand) {
+    final IRegelbeobachter aktuell = beobachter;
+    final boolean zeitmessungGewuenscht = aktuell != KEINER && aktuell.isZeitmessungGewuenscht();
+    final @Nullable IOperationEventListener listener = OperationEvents.getListener();
+
+    if (!zeitmessungGewuenscht) {
+      if (listener == null) {
+        return OperationTimer.DISABLED;
+      }
+
+      return OperationTimer.start(regel, gegenstand, listener);
+    }
+
+    if (listener == null) {
+      return OperationTimer.start(regel, gegenstand,
+          event -> aktuell.zeitGemessen(event.getOperation(), event.getDurationNanos()));
+    }
+
+    return OperationTimer.start(regel, gegenstand, event -> {
+      aktuell.zeitGemessen(event.getOperation(), event.getDurationNanos());
+      listener.operationFinished(event);
+    });
+  }
+}
@@ -12,6 +12,7 @@ import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.PRAES
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.PRAETERITUM;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -27,6 +28,7 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.valenz.Valenz;
 import de.nb.federkiel.deutsch.grammatik.valenz.Valenzvariante;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.StringFeatureLogicUtil;
 import de.nb.federkiel.interfaces.IWordForm;
@@ -328,6 +330,8 @@ public final class VerbFlektierer implements IFlektierer {
       // ...
       );
 
+  public static final VerbFlektierer INSTANCE = new VerbFlektierer();
+
   public VerbFlektierer() {
     super();
   }
@@ -364,6 +368,18 @@ public final class VerbFlektierer implements IFlektierer {
    */
   public Collection<IWordForm> stdFin(final Valenzvariante valenzvariante, final Lexeme lexeme,
       final String pos) {
+    final OperationTimer messung = Regelbeobachtung.starte("VerbFlektierer.stdFin", lexeme);
+    try {
+      final Collection<IWordForm> res = stdFinUngemessen(valenzvariante, lexeme, pos);
+      messung.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      messung.end();
+    }
+  }
+
+  private Collection<IWordForm> stdFinUngemessen(final Valenzvariante valenzvariante,
+      final Lexeme lexeme, final String pos) {
     final Collection<IWordForm> auxFin = auxFin(valenzvariante, lexeme, pos);
     if (auxFin != null) {
       return auxFin;
@@ -375,17 +391,56 @@ public final class VerbFlektierer implements IFlektierer {
     }
 
     final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    stdFinOhneAusnahmeverben(valenzvariante.getValenz(), lexeme, pos, res::add);
+    return res.build();
+  }
 
-    final String stammGemaessInfinitiv = stammGemaessInfinitiv(lexeme);
+  /**
+   * Wie {@link #stdFin(Valenzvariante, Lexeme, String)} - die Wortformen werden jedoch direkt an
+   * den <code>sink</code> bergeben.
+   */
+  public void stdFin(final Valenzvariante valenzvariante, final Lexeme lexeme, final String pos,
+      final Consumer<? super IWordForm> sink) {
+    final OperationTimer messung = Regelbeobachtung.starte("VerbFlektierer.stdFin", lexeme);
+    try {
+      stdFinUngemessen(valenzvariante, lexeme, pos, messung.counting(sink));
+      messung.setNumberOfAlternativesCounted();
+    } finally {
+      messung.end();
+    }
+  }
 
-    final Basisformen ausnahmeformen = findAusnahme(lexeme.getCanonicalizedForm()); // ggf. null
+  private void stdFinUngemessen(final Valenzvariante valenzvariante, final Lexeme lexeme,
+      final String pos, final Consumer<? super IWordForm> sink) {
+    final Collection<IWordForm> auxFin = auxFin(valenzvariante, lexeme, pos);
+    if (auxFin != null) {
+      auxFin.forEach(sink);
+      return;
+    }
 
-    res.addAll(stdPraesens(lexeme, pos, valenzvariante.getValenz(), ausnahmeformen,
-        stammGemaessInfinitiv));
-    res.addAll(stdPraeteritum(lexeme, pos, valenzvariante.getValenz(), ausnahmeformen,
-        stammGemaessInfinitiv));
+    final Collection<IWordForm> modFin = modFin(valenzvariante, lexeme, pos);
+    if (modFin != null) {
+      modFin.forEach(sink);
+      return;
+    }
 
-    return res.build();
+    stdFinOhneAusnahmeverben(valenzvariante.getValenz(), lexeme, pos, sink);
+  }
+
+  /**
+   * Finite Formen eines Verbs, das weder Hilfs- noch Modalverb ist
+   */
+  private static void stdFinOhneAusnahmeverben(final Valenz valenz, final Lexeme lexeme,
+      final String pos, final Consumer<? super IWordForm> sink) {
+    final boolean fordertSubjekt = valenz.fordertSubjekt();
+
+    // Die Strings werden nur einmal je Lexem ermittelt - hier kommen nur noch
+    // die Ergaenzungen und Angaben gemaess der Valenz hinzu.
+    for (final Finitform finitform : Verbmorphologie.of(lexeme).getFinitformen()) {
+      if (fordertSubjekt || !finitform.erfordertSubjekt()) {
+        sink.accept(finitform.toWordForm(lexeme, pos, valenz));
+      }
+    }
   }
 
   /**
@@ -541,21 +596,50 @@ public final class VerbFlektierer implements IFlektierer {
       return auxImp;
     }
 
-    if (!valenzvariante.getValenz().fordertSubjekt()) {
-      return ImmutableList.of();
+    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    stdImpOhneAusnahmeverben(valenzvariante.getValenz(), lexeme, pos, res::add);
+    return res.build();
+  }
+
+  /**
+   * Wie {@link #stdImp(Valenzvariante, Lexeme, String)} - die Wortformen werden jedoch direkt an
+   * den <code>sink</code> bergeben.
+   */
+  public void stdImp(final Valenzvariante valenzvariante, final Lexeme lexeme, final String pos,
+      final Consumer<? super IWordForm> sink) {
+    final Collection<IWordForm> auxImp = auxImp(valenzvariante, lexeme, pos);
+    if (auxImp != null) {
+      auxImp.forEach(sink);
+      return;
     }
 
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    stdImpOhneAusnahmeverben(valenzvariante.getValenz(), lexeme, pos, sink);
+  }
 
-    final String stammGemaessInfinitiv = stammGemaessInfinitiv(lexeme);
+  /**
+   * Imperative eines Verbs, das kein Hilfsverb ist
+   */
+  private static void stdImpOhneAusnahmeverben(final Valenz valenz, final Lexeme lexeme,
+      final String pos, final Consumer<? super IWordForm> sink) {
+    if (!valenz.fordertSubjekt()) {
+      return;
+    }
 
-    final Basisformen ausnahmeformen = findAusnahme(lexeme.getCanonicalizedForm()); // ggf. null
+    final Verbmorphologie morphologie = Verbmorphologie.of(lexeme);
 
-    res.addAll(
-        stdImpSg(lexeme, pos, valenzvariante.getValenz(), ausnahmeformen, stammGemaessInfinitiv));
-    res.addAll(stdImpPl(lexeme, pos, valenzvariante.getValenz(), stammGemaessInfinitiv));
+    stdImp(lexeme, pos, valenz, SINGULAR, morphologie.getImpSgStrings(), sink);
+    stdImp(lexeme, pos, valenz, SINGULAR, morphologie.getImpPlStrings(), sink);
+  }
 
-    return res.build();
+  private static void stdImp(final Lexeme lexeme, final String pos, final Valenz valenz,
+      final Numerus numerus, final Collection<String> strings,
+      final Consumer<? super IWordForm> sink) {
+    for (final String string : strings) {
+      final Wortform imp = stdImp(lexeme, pos, valenz, numerus, string);
+      if (imp != null) {
+        sink.accept(imp);
+      }
+    }
   }
 
   /**
@@ -565,8 +649,7 @@ public final class VerbFlektierer implements IFlektierer {
   public ImmutableList<Pair<String, Valenz>> stdPartPerfStringsSofernAusserhalbDesVerbalkomplexesVerwendbar(
       final Valenzvariante valenzvariante, final Lexeme lexeme, final String pos) {
     // Duden Bd. 4 2006, 831
-    final Basisformen ausnahmeBasisformen = findAusnahme(valenzvariante.getCanonicalForm()); // ggf.
-                                                                                             // false
+    final Basisformen ausnahmeBasisformen = Verbmorphologie.of(lexeme).getAusnahmeformen(); // ggf. null
 
     final Collection<String> wordFormStrings = stdPartPerfStrings(valenzvariante, lexeme, pos);
 
@@ -683,36 +766,26 @@ public final class VerbFlektierer implements IFlektierer {
       return modPartPerfStrings;
     }
 
-    final ImmutableList.Builder<String> res = ImmutableList.builder();
-
-    final String stammGemaessInfinitiv = stammGemaessInfinitiv(lexeme);
-
-    final Basisformen ausnahmeformen = findAusnahme(lexeme.getCanonicalizedForm()); // ggf. null
-
-    res.addAll(stdPartPerfStrings(lexeme, pos, valenzvariante.getValenz(), ausnahmeformen,
-        stammGemaessInfinitiv));
-
-    return res.build();
+    return Verbmorphologie.of(lexeme).getPartPerfStrings();
   }
 
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  private static Collection<IWordForm> stdImpSg(final Lexeme lexeme, final String pos,
-      final Valenz valenz,
-      final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+  private static Collection<String> stdImpSgStrings(final Basisformen ausnahmeformen,
+      final String stammGemaessInfinitiv) {
     if (ausnahmeformen != null) {
-      return stdImp(lexeme, pos, valenz, SINGULAR, ausnahmeformen.getImpSgAltern());
+      return ausnahmeformen.getImpSgAltern();
     }
 
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    final ImmutableList.Builder<String> res = ImmutableList.builder();
 
     // Duden 609
-    if (!GermanUtil.endetAufObstruentPlusMOderN(stammGemaessInfinitiv)) {
+    if (!PhonologischesProfil.of(stammGemaessInfinitiv).endetAufObstruentPlusMOderN()) {
       // geh(!)
       // trauer(!), lchel(!) - zumindest "in der Alltagssprache"
       // (aber nicht atm!*, sondern atme!)
-      addStdImpIfNotNul(res, lexeme, pos, valenz, SINGULAR, stammGemaessInfinitiv);
+      res.add(stammGemaessInfinitiv);
     }
 
     // Duden 609 meint auch: "Verben deren Stamm auf d oder t [...] endet,
@@ -721,10 +794,10 @@ public final class VerbFlektierer implements IFlektierer {
 
     // gehe(!), trauere(!), lchele(!)
 
-    res.addAll(stdImp(lexeme, pos, valenz, SINGULAR,
+    res.addAll(
         // Duden 609
         // trauern -> traure(!), lcheln -> lchle(!)
-        tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stammGemaessInfinitiv, "e")));
+        tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stammGemaessInfinitiv, "e"));
 
     return res.build();
   }
@@ -732,8 +805,8 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  private static Collection<String> stdPartPerfStrings(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+  private static Collection<String> stdPartPerfStrings(final Basisformen ausnahmeformen,
+      final String stammGemaessInfinitiv) {
     if (stammGemaessInfinitiv.equals("wiss")) {
       return ImmutableList.of("gewusst");
     }
@@ -751,16 +824,10 @@ public final class VerbFlektierer implements IFlektierer {
     // @formatter:on
   }
 
-  /**
-   * @param ausnahmeformen <code>null</code> erlaubt
-   */
-  private static Collection<IWordForm> stdImpPl(final Lexeme lexeme, final String pos,
-      final Valenz valenz,
-      final String stammGemaessInfinitiv) {
+  private static Collection<String> stdImpPlStrings(final String stammGemaessInfinitiv) {
     // Duden 609: "Im Plural werden Prsensformen verwendet."
     // geht(!)
-    return ImmutableList.copyOf(
-        stdImp(lexeme, pos, valenz, SINGULAR, stdP2PlPraesIndStrings(stammGemaessInfinitiv)));
+    return stdP2PlPraesIndStrings(stammGemaessInfinitiv);
   }
 
   /**
@@ -769,25 +836,33 @@ public final class VerbFlektierer implements IFlektierer {
    */
   private static Basisformen findAusnahme(final String inputInfinitiv) {
     // @formatter:off
-    return AUSNAHMEENDEN.stream()
+    final Basisformen res = AUSNAHMEENDEN.stream()
         .map(basisform -> basisform.erzeugeKopieMitPraefix(inputInfinitiv))
-        .filter(res -> res != null)
+        .filter(kopie -> kopie != null)
         .findFirst()
         .orElse(null);
     // @formatter:on
+
+    if (res != null) {
+      Regelbeobachtung.zaehle("VerbFlektierer.findAusnahme");
+    }
+
+    return res;
   }
 
   /**
+   * Alle finiten Formen eines Verbs - unabhngig von der Valenz, also auch die
+   * Formen, die es nur gibt, wenn die Valenz ein Subjekt fordert (vgl.
+   * {@link Finitform#erfordertSubjekt()}).
+   *
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  private Iterable<? extends IWordForm> stdPraesens(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
-
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static ImmutableList<Finitform> stdFinitformen(final String infinitiv,
+      final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    res.addAll(stdPraesensInd(lexeme, pos, valenz, ausnahmeformen, stammGemaessInfinitiv));
-    res.addAll(stdPraesKonjUndPraetStarkKonj(lexeme, pos, valenz, PRAESENS,
-        stammGemaessInfinitiv));
+    res.addAll(stdPraesens(infinitiv, ausnahmeformen, stammGemaessInfinitiv));
+    res.addAll(stdPraeteritum(ausnahmeformen, stammGemaessInfinitiv));
 
     return res.build();
   }
@@ -795,17 +870,26 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  @SuppressWarnings("static-method")
-  private Collection<IWordForm> stdPraesensInd(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen,
-      final String stammPraesIndGemaessInfinitiv) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static Collection<Finitform> stdPraesens(final String infinitiv,
+      final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
 
-    res.addAll(stdSgPraesInd(lexeme, pos, valenz, ausnahmeformen, stammPraesIndGemaessInfinitiv));
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPlPraesInd(lexeme, pos, valenz, stammPraesIndGemaessInfinitiv));
-    }
+    res.addAll(stdPraesensInd(infinitiv, ausnahmeformen, stammGemaessInfinitiv));
+    res.addAll(stdPraesKonjUndPraetStarkKonj(PRAESENS, stammGemaessInfinitiv));
+
+    return res.build();
+  }
+
+  /**
+   * @param ausnahmeformen <code>null</code> erlaubt
+   */
+  private static Collection<Finitform> stdPraesensInd(final String infinitiv,
+      final Basisformen ausnahmeformen, final String stammPraesIndGemaessInfinitiv) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
+
+    res.addAll(stdSgPraesInd(ausnahmeformen, stammPraesIndGemaessInfinitiv));
+    res.addAll(stdPlPraesInd(infinitiv, stammPraesIndGemaessInfinitiv));
 
     return res.build();
   }
@@ -813,55 +897,45 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  private static Collection<IWordForm> stdSgPraesInd(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen,
+  private static Collection<Finitform> stdSgPraesInd(final Basisformen ausnahmeformen,
       final String stammPraesIndGemaessInfinitiv) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPraesInd(lexeme, pos, valenz, "1", null, SINGULAR, false,
-          stdP1SgPraesIndStrings(stammPraesIndGemaessInfinitiv)));
+    res.addAll(stdPraesInd("1", null, SINGULAR, false,
+        stdP1SgPraesIndStrings(stammPraesIndGemaessInfinitiv)));
 
-      res.addAll(stdPraesInd(lexeme, pos, valenz, "2", null, SINGULAR, false,
-          stdP2SgPraesIndStrings(ausnahmeformen, stammPraesIndGemaessInfinitiv)));
-    }
+    res.addAll(stdPraesInd("2", null, SINGULAR, false,
+        stdP2SgPraesIndStrings(ausnahmeformen, stammPraesIndGemaessInfinitiv)));
 
-    res.addAll(stdPraesInd(lexeme, pos, valenz, "3", MASKULINUM, SINGULAR, false,
+    res.addAll(stdPraesInd("3", MASKULINUM, SINGULAR, false,
         stdP3SgPraesIndStrings(ausnahmeformen, stammPraesIndGemaessInfinitiv)));
-    res.addAll(stdPraesInd(lexeme, pos, valenz, "3", FEMININUM, SINGULAR, false,
+    res.addAll(stdPraesInd("3", FEMININUM, SINGULAR, false,
         stdP3SgPraesIndStrings(ausnahmeformen, stammPraesIndGemaessInfinitiv)));
-    res.addAll(stdPraesInd(lexeme, pos, valenz, "3", NEUTRUM, SINGULAR, false,
+    res.addAll(stdPraesInd("3", NEUTRUM, SINGULAR, false,
         stdP3SgPraesIndStrings(ausnahmeformen, stammPraesIndGemaessInfinitiv)));
 
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPlPraesInd(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final String stammPraesInd) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
-
-    final String infinitiv = lexeme.getCanonicalizedForm();
+  private static Collection<Finitform> stdPlPraesInd(final String infinitiv,
+      final String stammPraesInd) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
     // lachen, lcheln
-    res.addAll(
-        stdPraesInd(lexeme, pos, valenz, "1", null, PLURAL, false, ImmutableList.of(infinitiv)));
+    res.addAll(stdPraesInd("1", null, PLURAL, false, ImmutableList.of(infinitiv)));
 
-    res.addAll(stdPraesInd(lexeme, pos, valenz, "2", null, PLURAL, false,
-        stdP2PlPraesIndStrings(stammPraesInd)));
+    res.addAll(stdPraesInd("2", null, PLURAL, false, stdP2PlPraesIndStrings(stammPraesInd)));
 
     // lachen, lcheln
-    res.addAll(
-        stdPraesInd(lexeme, pos, valenz, "3", null, PLURAL, false, ImmutableList.of(infinitiv)));
-    res.addAll(
-        stdPraesInd(lexeme, pos, valenz, "3", null, PLURAL, true, ImmutableList.of(infinitiv)));
+    res.addAll(stdPraesInd("3", null, PLURAL, false, ImmutableList.of(infinitiv)));
+    res.addAll(stdPraesInd("3", null, PLURAL, true, ImmutableList.of(infinitiv)));
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPraesInd(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final String person, final Genus genus, final Numerus numerus,
-      final boolean hoeflichkeitsform, final Collection<String> strings) {
-    return stdFin(lexeme, pos, valenz, person, genus, numerus, hoeflichkeitsform, PRAESENS,
-        INDIKATIV, strings);
+  private static Collection<Finitform> stdPraesInd(final String person, final Genus genus,
+      final Numerus numerus, final boolean hoeflichkeitsform, final Collection<String> strings) {
+    return stdFinitformen(person, genus, numerus, hoeflichkeitsform, PRAESENS, INDIKATIV,
+        strings);
   }
 
   private static Collection<String> stdP1SgPraesIndStrings(final String stammPraesInd) {
@@ -890,8 +964,9 @@ public final class VerbFlektierer implements IFlektierer {
     }
 
     final ImmutableList.Builder<String> res = ImmutableList.builder();
+    final PhonologischesProfil profil = PhonologischesProfil.of(stammPraesIndGemaessInfinitiv);
 
-    if (GermanUtil.endetAufSLaut(stammPraesIndGemaessInfinitiv)) {
+    if (profil.endetAufSLaut()) {
       // Sonderfall: rasen, kssen
       // du ras-t, du kss-t
       res.addAll(tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(
@@ -904,8 +979,7 @@ public final class VerbFlektierer implements IFlektierer {
 
     // In jedem Fall:
     // Wenn der Stamm auf -s oder -sch endet...
-    if (GermanUtil.endetAufSLaut(stammPraesIndGemaessInfinitiv)
-        || GermanUtil.endetAufSchLaut(stammPraesIndGemaessInfinitiv)) {
+    if (profil.endetAufSLaut() || profil.endetAufSchLaut()) {
       // ..., so
       // KANN auch ein e eingeschoben werden (Duden 4, 2006 618)
       // du rasest, du kssest, du naschest ("poetisch, veraltet")
@@ -957,6 +1031,7 @@ public final class VerbFlektierer implements IFlektierer {
 
     // Duden 4 2006 617
     if (eEinschubZwingend(stamm, endung)) {
+      Regelbeobachtung.zaehle("VerbFlektierer.eEinschubZwingend");
       // (er) redet, (du) atmest
       res.add(stamm + "e" + endung);
     } else {
@@ -987,7 +1062,7 @@ public final class VerbFlektierer implements IFlektierer {
     // eingefgt wird
     // (du wandelst, Duden 620).
 
-    if (!StringUtil.endsWith(stamm, "d", "t") && !GermanUtil.endetAufObstruentPlusMOderN(stamm)) {
+    if (!StringUtil.endsWith(stamm, "d", "t") && !PhonologischesProfil.of(stamm).endetAufObstruentPlusMOderN()) {
       return false;
     }
 
@@ -1058,23 +1133,22 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  @SuppressWarnings("static-method")
-  private Collection<IWordForm> stdPraeteritumInd(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+  private static Collection<Finitform> stdPraeteritumInd(final Basisformen ausnahmeformen,
+      final String stammGemaessInfinitiv) {
     if (stammGemaessInfinitiv.equals("wiss")) {
-      return stdPraeteritumSchwach(lexeme, pos, valenz, "wuss", INDIKATIV);
+      return stdPraeteritumSchwach("wuss", INDIKATIV);
     }
 
     if (ausnahmeformen != null) {
-      final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+      final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
       for (final String p1SgPraetInd : ausnahmeformen.getP1SgPraetIndAltern()) {
         if (p1SgPraetInd.endsWith("te")) {
           // nicht stark
           final String stammPraetInd = p1SgPraetInd.substring(0, p1SgPraetInd.length() - 2);
-          res.addAll(stdPraeteritumSchwach(lexeme, pos, valenz, stammPraetInd, INDIKATIV));
+          res.addAll(stdPraeteritumSchwach(stammPraetInd, INDIKATIV));
         } else {
-          res.addAll(stdPraeteritumIndStark(lexeme, pos, valenz, p1SgPraetInd));
+          res.addAll(stdPraeteritumIndStark(p1SgPraetInd));
         }
       }
 
@@ -1082,77 +1156,62 @@ public final class VerbFlektierer implements IFlektierer {
     }
 
     // Keine Ausnahme -> schwach
-    return stdPraeteritumSchwach(lexeme, pos, valenz, stammGemaessInfinitiv, INDIKATIV);
+    return stdPraeteritumSchwach(stammGemaessInfinitiv, INDIKATIV);
   }
 
-  private static Collection<IWordForm> stdPraeteritumSchwach(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final String stammPraetSchwach, final String modus) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
-
-    res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, stammPraetSchwach, SINGULAR, modus,
-        "te", "test", "te"));
+  private static Collection<Finitform> stdPraeteritumSchwach(final String stammPraetSchwach,
+      final String modus) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, stammPraetSchwach, PLURAL, modus,
-          "ten", "tet", "ten"));
-    }
+    res.addAll(
+        stdPraetSchwachUndIndStark(stammPraetSchwach, SINGULAR, modus, "te", "test", "te"));
+    res.addAll(stdPraetSchwachUndIndStark(stammPraetSchwach, PLURAL, modus, "ten", "tet", "ten"));
 
     return res.build();
   }
 
-  private static Iterable<? extends IWordForm> stdPraeteritumIndStark(final Lexeme lexeme,
-      final String pos, final Valenz valenz, final String stammPraetInd) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
-
-    res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, stammPraetInd, SINGULAR, INDIKATIV,
-        "", "st", ""));
+  private static Collection<Finitform> stdPraeteritumIndStark(final String stammPraetInd) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, stammPraetInd, PLURAL, INDIKATIV,
-          "en", "t", "en"));
-    }
+    res.addAll(stdPraetSchwachUndIndStark(stammPraetInd, SINGULAR, INDIKATIV, "", "st", ""));
+    res.addAll(stdPraetSchwachUndIndStark(stammPraetInd, PLURAL, INDIKATIV, "en", "t", "en"));
 
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPraetSchwachUndIndStark(final Lexeme lexeme,
-      final String pos,
-      final Valenz valenz, final String stammPraetInd, final Numerus numerus, final String modus,
-      final String p1Suffix, final String p2Suffix, final String p3Suffix) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static Collection<Finitform> stdPraetSchwachUndIndStark(final String stammPraetInd,
+      final Numerus numerus, final String modus, final String p1Suffix, final String p2Suffix,
+      final String p3Suffix) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "1", null, numerus, false, modus,
-          stdPraetIndStrings(stammPraetInd, p1Suffix)));
+    res.addAll(stdPraetSchwachUndIndStark("1", null, numerus, false, modus,
+        stdPraetIndStrings(stammPraetInd, p1Suffix)));
 
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "2", null, numerus, false, modus,
-          stdPraetIndStrings(stammPraetInd, p2Suffix)));
-    }
+    res.addAll(stdPraetSchwachUndIndStark("2", null, numerus, false, modus,
+        stdPraetIndStrings(stammPraetInd, p2Suffix)));
 
     if (numerus.equals(SINGULAR)) {
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "3", MASKULINUM, numerus, false,
-          modus, stdPraetIndStrings(stammPraetInd, p3Suffix)));
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "3", FEMININUM, numerus, false,
-          modus, stdPraetIndStrings(stammPraetInd, p3Suffix)));
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "3", NEUTRUM, numerus, false,
-          modus, stdPraetIndStrings(stammPraetInd, p3Suffix)));
+      res.addAll(stdPraetSchwachUndIndStark("3", MASKULINUM, numerus, false, modus,
+          stdPraetIndStrings(stammPraetInd, p3Suffix)));
+      res.addAll(stdPraetSchwachUndIndStark("3", FEMININUM, numerus, false, modus,
+          stdPraetIndStrings(stammPraetInd, p3Suffix)));
+      res.addAll(stdPraetSchwachUndIndStark("3", NEUTRUM, numerus, false, modus,
+          stdPraetIndStrings(stammPraetInd, p3Suffix)));
     } else {
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "3", null, numerus, false, modus,
+      res.addAll(stdPraetSchwachUndIndStark("3", null, numerus, false, modus,
           stdPraetIndStrings(stammPraetInd, p3Suffix)));
       // Hflichkeitsform
-      res.addAll(stdPraetSchwachUndIndStark(lexeme, pos, valenz, "3", null, numerus, true, modus,
+      res.addAll(stdPraetSchwachUndIndStark("3", null, numerus, true, modus,
           stdPraetIndStrings(stammPraetInd, p3Suffix)));
     }
 
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPraetSchwachUndIndStark(final Lexeme lexeme,
-      final String pos,
-      final Valenz valenz, final String person, final Genus genus, final Numerus numerus,
-      final boolean hoeflichkeitsform, final String modus, final Collection<String> strings) {
-    return stdFin(lexeme, pos, valenz, person, genus, numerus, hoeflichkeitsform, PRAETERITUM,
-        modus, strings);
+  private static Collection<Finitform> stdPraetSchwachUndIndStark(final String person,
+      final Genus genus, final Numerus numerus, final boolean hoeflichkeitsform,
+      final String modus, final Collection<String> strings) {
+    return stdFinitformen(person, genus, numerus, hoeflichkeitsform, PRAETERITUM, modus, strings);
   }
 
   private static ImmutableCollection<String> stdPraetIndStrings(final String stammPraetInd,
@@ -1176,65 +1235,60 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  private Collection<IWordForm> stdPraeteritum(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+  private static Collection<Finitform> stdPraeteritum(final Basisformen ausnahmeformen,
+      final String stammGemaessInfinitiv) {
 
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    res.addAll(stdPraeteritumInd(lexeme, pos, valenz, ausnahmeformen, stammGemaessInfinitiv));
-    res.addAll(stdPraeteritumKonj(lexeme, pos, valenz, ausnahmeformen, stammGemaessInfinitiv));
+    res.addAll(stdPraeteritumInd(ausnahmeformen, stammGemaessInfinitiv));
+    res.addAll(stdPraeteritumKonj(ausnahmeformen, stammGemaessInfinitiv));
 
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPraesKonjUndPraetStarkKonj(final Lexeme lexeme,
-      final String pos,
-      final Valenz valenz, final String tempus, final String stammPraesKonj) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static Collection<Finitform> stdPraesKonjUndPraetStarkKonj(final String tempus,
+      final String stammPraesKonj) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    res.addAll(stdSgPraesKonjUndPraetStarkKonj(lexeme, pos, valenz, tempus, stammPraesKonj));
+    res.addAll(stdSgPraesKonjUndPraetStarkKonj(tempus, stammPraesKonj));
+    res.addAll(stdPlPraesKonjUndPraetStarkKonj(tempus, stammPraesKonj));
 
-    if (valenz.fordertSubjekt()) {
-      res.addAll(stdPlPraesKonjUndPraetStarkKonj(lexeme, pos, valenz, tempus, stammPraesKonj));
-    }
     return res.build();
   }
 
-  private static Collection<IWordForm> stdSgPraesKonjUndPraetStarkKonj(final Lexeme lexeme,
-      final String pos, final Valenz valenz, final String tempus, final String stamm) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static Collection<Finitform> stdSgPraesKonjUndPraetStarkKonj(final String tempus,
+      final String stamm) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
-    if (valenz.fordertSubjekt()) {
-      // dass ich lache?
-      res.addAll(stdKonj(lexeme, pos, valenz, "1", SINGULAR, tempus,
-          tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "e")));
+    // dass ich lache?
+    res.addAll(stdKonj("1", SINGULAR, tempus,
+        tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "e")));
 
-      // dass du lachest
-      res.addAll(stdKonj(lexeme, pos, valenz, "2", SINGULAR, tempus,
-          tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "est")));
-    }
+    // dass du lachest
+    res.addAll(stdKonj("2", SINGULAR, tempus,
+        tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "est")));
 
     // dass er lache
-    res.addAll(stdKonj(lexeme, pos, valenz, "3", SINGULAR, tempus,
+    res.addAll(stdKonj("3", SINGULAR, tempus,
         tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "e")));
 
     return res.build();
   }
 
-  private static Collection<IWordForm> stdPlPraesKonjUndPraetStarkKonj(final Lexeme lexeme,
-      final String pos, final Valenz valenz, final String tempus, final String stamm) {
-    final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+  private static Collection<Finitform> stdPlPraesKonjUndPraetStarkKonj(final String tempus,
+      final String stamm) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
     // dass wir lachen?, dass wir lchlen?
-    res.addAll(stdKonj(lexeme, pos, valenz, "1", PLURAL, tempus,
+    res.addAll(stdKonj("1", PLURAL, tempus,
         tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "en")));
 
     // dass ihr lachet
-    res.addAll(stdKonj(lexeme, pos, valenz, "2", PLURAL, tempus,
+    res.addAll(stdKonj("2", PLURAL, tempus,
         tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "et")));
 
     // dass sie lachen?
-    res.addAll(stdKonj(lexeme, pos, valenz, "3", PLURAL, tempus,
+    res.addAll(stdKonj("3", PLURAL, tempus,
         tilgeGgfEAusStammUndFuegeGgfEVorEndungEinUndHaengeEndungAn(stamm, "en")));
 
     return res.build();
@@ -1243,24 +1297,22 @@ public final class VerbFlektierer implements IFlektierer {
   /**
    * @param ausnahmeformen <code>null</code> erlaubt
    */
-  @SuppressWarnings("static-method")
-  private Collection<IWordForm> stdPraeteritumKonj(final Lexeme lexeme, final String pos,
-      final Valenz valenz, final Basisformen ausnahmeformen, final String stammGemaessInfinitiv) {
+  private static Collection<Finitform> stdPraeteritumKonj(final Basisformen ausnahmeformen,
+      final String stammGemaessInfinitiv) {
     if (stammGemaessInfinitiv.equals("wiss")) {
       // Duden 4 2006, 645
-      return stdPraeteritumSchwach(lexeme, pos, valenz, "wss", KONJUNKTIV);
+      return stdPraeteritumSchwach("wss", KONJUNKTIV);
     }
 
     if (ausnahmeformen != null) {
-      final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+      final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
 
       for (final String p1SgPraetKonj : ausnahmeformen.getP1SgPraetKonjAltern()) {
         if (p1SgPraetKonj.endsWith("te")) {
           final String stammPraetKonj = p1SgPraetKonj.substring(0, p1SgPraetKonj.length() - 2);
-          res.addAll(stdPraeteritumSchwach(lexeme, pos, valenz, stammPraetKonj, KONJUNKTIV));
+          res.addAll(stdPraeteritumSchwach(stammPraetKonj, KONJUNKTIV));
         } else {
-          res.addAll(
-              stdPraesKonjUndPraetStarkKonj(lexeme, pos, valenz, PRAETERITUM, p1SgPraetKonj));
+          res.addAll(stdPraesKonjUndPraetStarkKonj(PRAETERITUM, p1SgPraetKonj));
         }
       }
 
@@ -1268,7 +1320,38 @@ public final class VerbFlektierer implements IFlektierer {
     }
 
     // Keine Ausnahme -> schwach
-    return stdPraeteritumSchwach(lexeme, pos, valenz, stammGemaessInfinitiv, KONJUNKTIV);
+    return stdPraeteritumSchwach(stammGemaessInfinitiv, KONJUNKTIV);
+  }
+
+  /**
+   * Wie {@link #stdKonj(Lexeme, String, Valenz, String, Numerus, String, Collection)} - aber
+   * unabhngig von der Valenz
+   */
+  private static Collection<Finitform> stdKonj(final String person, final Numerus numerus,
+      final String tempus, final Collection<String> strings) {
+    final ImmutableList.Builder<Finitform> res = ImmutableList.builder();
+    for (final String string : strings) {
+      if (person.equals("3") && numerus.equals(SINGULAR)) {
+        res.add(new Finitform(person, MASKULINUM, numerus, false, tempus, KONJUNKTIV, string));
+        res.add(new Finitform(person, FEMININUM, numerus, false, tempus, KONJUNKTIV, string));
+        res.add(new Finitform(person, NEUTRUM, numerus, false, tempus, KONJUNKTIV, string));
+      } else {
+        res.add(new Finitform(person, null, numerus, false, tempus, KONJUNKTIV, string));
+        if (person.equals("3") && numerus.equals(PLURAL)) {
+          // "Sie"-Form
+          res.add(new Finitform(person, null, numerus, true, tempus, KONJUNKTIV, string));
+        }
+      }
+    }
+
+    return res.build();
+  }
+
+  private static Collection<Finitform> stdFinitformen(final String person, final Genus genus,
+      final Numerus numerus, final boolean hoeflichkeitsform, final String tempus,
+      final String modus, final Collection<String> strings) {
+    return strings.stream().map(string -> new Finitform(person, genus, numerus,
+        hoeflichkeitsform, tempus, modus, string)).collect(toImmutableList());
   }
 
   private static Collection<IWordForm> seinFin(final Valenz valenz, final Lexeme lexeme,
@@ -1962,6 +2045,109 @@ public final class VerbFlektierer implements IFlektierer {
 		return WortformUtil.buildVerbFormInf(lexeme, pos, ergaenzungenUndAngabenFuerInf);
   }
 
+  /**
+   * Die aus einem Verb-Lexem abgeleiteten Informationen (ggf. Ausnahmeformen), die pro Lexem nur
+   * einmal ermittelt werden.
+   * <p>
+   * Dazu gehren auch die Strings aller Formen, die nicht von der Valenz abhngen - ein Verb
+   * mit mehreren Valenzvarianten wird also nur einmal konjugiert.
+   */
+  @Immutable
+  private static final class Verbmorphologie {
+    private final @Nullable Basisformen ausnahmeformen;
+
+    private final ImmutableList<Finitform> finitformen;
+
+    private final Collection<String> impSgStrings;
+
+    private final Collection<String> impPlStrings;
+
+    private final Collection<String> partPerfStrings;
+
+    private Verbmorphologie(final Lexeme lexeme) {
+      super();
+      final String stammGemaessInfinitiv = stammGemaessInfinitiv(lexeme);
+      ausnahmeformen = findAusnahme(lexeme.getCanonicalizedForm());
+
+      finitformen = stdFinitformen(lexeme.getCanonicalizedForm(), ausnahmeformen,
+          stammGemaessInfinitiv);
+      impSgStrings = stdImpSgStrings(ausnahmeformen, stammGemaessInfinitiv);
+      impPlStrings = stdImpPlStrings(stammGemaessInfinitiv);
+      partPerfStrings = stdPartPerfStrings(ausnahmeformen, stammGemaessInfinitiv);
+    }
+
+    static Verbmorphologie of(final Lexeme lexeme) {
+      return lexeme.getMorphologieprofil(Verbmorphologie.class, Verbmorphologie::new);
+    }
+
+    @Nullable
+    Basisformen getAusnahmeformen() {
+      return ausnahmeformen;
+    }
+
+    ImmutableList<Finitform> getFinitformen() {
+      return finitformen;
+    }
+
+    Collection<String> getImpSgStrings() {
+      return impSgStrings;
+    }
+
+    Collection<String> getImpPlStrings() {
+      return impPlStrings;
+    }
+
+    Collection<String> getPartPerfStrings() {
+      return partPerfStrings;
+    }
+  }
+
+  /**
+   * Eine finite Verbform ohne Ergnzungen und Angaben - die hngen von der Valenz ab.
+   */
+  @Immutable
+  private static final class Finitform {
+    private final String person;
+
+    private final @Nullable Genus genus;
+
+    private final Numerus numerus;
+
+    private final boolean hoeflichkeitsform;
+
+    private final String tempus;
+
+    private final String modus;
+
+    private final String string;
+
+    Finitform(final String person, final @Nullable Genus genus, final Numerus numerus,
+        final boolean hoeflichkeitsform, final String tempus, final String modus,
+        final String string) {
+      super();
+      this.person = person;
+      this.genus = genus;
+      this.numerus = numerus;
+      this.hoeflichkeitsform = hoeflichkeitsform;
+      this.tempus = tempus;
+      this.modus = modus;
+      this.string = string;
+    }
+
+    /**
+     * Gibt zurck, ob es diese Form nur gibt, wenn die Valenz ein Subjekt fordert - das gilt
+     * fr alle Formen auer der 3. Person Singular (<i>Mich friert.</i>).
+     */
+    boolean erfordertSubjekt() {
+      return !person.equals("3") || !numerus.equals(SINGULAR);
+    }
+
+    IWordForm toWordForm(final Lexeme lexeme, final String pos, final Valenz valenz) {
+      return stdFin(lexeme, pos, valenz, person, genus, numerus, hoeflichkeitsform, tempus, modus,
+          string);
+    }
+  }
+
   private static enum Perfektbildung {
     HABEN, SEIN
   }
@@ -0,0 +1,217 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Eine Sicht auf einen (ggf. veraenderten) Stamm mit Endung - etwa
+ * <i>finst|r|er</i> fuer den e-getilgten Komparativ von <i>finster</i> oder
+ * <i>G&auml;st|e</i> fuer den umgelauteten Plural von <i>Gast</i>. Die
+ * Flektierer koennen so Kandidaten bilden und pruefen (etwa mit
+ * {@link #endetAuf(String)}), ohne jedesmal Zwischen-Strings zu erzeugen. Erst
+ * {@link #toString()} erzeugt den <code>String</code> - in einem Schritt und
+ * ueber einen Puffer je Thread.
+ * <p>
+ * Gegenueber der Basis kann der Baustein am Ende gekuerzt sein, ein Zeichen
+ * kann getilgt und eines ersetzt sein (Umlaut), ausserdem kann eine Endung
+ * angehaengt und das erste Zeichen grossgeschrieben sein.
+ */
+@Immutable
+@ThreadSafe
+public final class Wortbaustein implements CharSequence {
+	private static final int KEIN_INDEX = -1;
+
+	/**
+	 * Puffer zum Erzeugen der Strings - wird bei Bedarf vergroessert
+	 */
+	private static final ThreadLocal<char[]> PUFFER = ThreadLocal.withInitial(() -> new char[64]);
+
+	private final String basis;
+
+	/**
+	 * Wie viele Zeichen der Basis verwendet werden (vom Anfang an)
+	 */
+	private final int basisLaenge;
+
+	/**
+	 * Index des getilgten Zeichens in der Basis - oder {@link #KEIN_INDEX}
+	 */
+	private final int getilgt;
+
+	/**
+	 * Index des ersetzten Zeichens in der Basis - oder {@link #KEIN_INDEX}
+	 */
+	private final int ersetzt;
+
+	private final char ersatz;
+
+	private final String endung;
+
+	private final boolean grossgeschrieben;
+
+	private Wortbaustein(final String basis, final int basisLaenge, final int getilgt,
+			final int ersetzt, final char ersatz, final String endung, final boolean grossgeschrieben) {
+		this.basis = basis;
+		this.basisLaenge = basisLaenge;
+		this.getilgt = getilgt;
+		this.ersetzt = ersetzt;
+		this.ersatz = ersatz;
+		this.endung = endung;
+		this.grossgeschrieben = grossgeschrieben;
+	}
+
+	public static Wortbaustein of(final String basis) {
+		return new Wortbaustein(basis, basis.length(), KEIN_INDEX, KEIN_INDEX, ' ', "", false);
+	}
+
+	/**
+	 * Gibt den Baustein ohne die letzten Zeichen der Basis zurueck (<i>Atlas</i>
+	 * -&gt; <i>Atl</i>).
+	 *
+	 * @throws IllegalStateException
+	 *           falls bereits eine Endung angehaengt ist
+	 */
+	public Wortbaustein ohneLetzte(final int anzahl) {
+		if (!endung.isEmpty()) {
+			throw new IllegalStateException("Endung bereits angehaengt: " + this);
+		}
+
+		final int neueBasisLaenge = basisLaenge - anzahl;
+		return new Wortbaustein(basis, neueBasisLaenge, getilgt < neueBasisLaenge ? getilgt : KEIN_INDEX,
+				ersetzt < neueBasisLaenge ? ersetzt : KEIN_INDEX, ersatz, endung, grossgeschrieben);
+	}
+
+	/**
+	 * Gibt den Baustein ohne dieses Zeichen der Basis zurueck (e-Tilgung:
+	 * <i>finster</i> -&gt; <i>finstr</i>).
+	 *
+	 * @param index
+	 *          Index in der Basis
+	 */
+	public Wortbaustein mitTilgung(final int index) {
+		if (getilgt != KEIN_INDEX) {
+			throw new IllegalStateException("Bereits ein Zeichen getilgt: " + this);
+		}
+
+		return new Wortbaustein(basis, basisLaenge, index, ersetzt, ersatz, endung, grossgeschrieben);
+	}
+
+	/**
+	 * Gibt den Baustein zurueck, in dem dieses Zeichen der Basis ersetzt ist
+	 * (Umlaut: <i>Gast</i> -&gt; <i>G&auml;st</i>).
+	 *
+	 * @param index
+	 *          Index in der Basis
+	 */
+	public Wortbaustein mitErsatz(final int index, final char neuesZeichen) {
+		if (ersetzt != KEIN_INDEX) {
+			throw new IllegalStateException("Bereits ein Zeichen ersetzt: " + this);
+		}
+
+		return new Wortbaustein(basis, basisLaenge, getilgt, index, neuesZeichen, endung, grossgeschrieben);
+	}
+
+	/**
+	 * Haengt diese Endung an.
+	 */
+	public Wortbaustein plus(final String weitereEndung) {
+		return new Wortbaustein(basis, basisLaenge, getilgt, ersetzt, ersatz,
+				endung.isEmpty() ? weitereEndung : endung + weitereEndung, grossgeschrieben);
+	}
+
+	/**
+	 * Gibt den Baustein mit grossgeschriebenem ersten Zeichen zurueck.
+	 */
+	public Wortbaustein grossgeschrieben() {
+		return new Wortbaustein(basis, basisLaenge, getilgt, ersetzt, ersatz, endung, true);
+	}
+
+	public boolean endetAuf(final String ende) {
+		final int laenge = length();
+		if (ende.length() > laenge) {
+			return false;
+		}
+
+		for (int i = 0; i < ende.length(); i++) {
+			if (charAt(laenge - ende.length() + i) != ende.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return basisLaenge - (getilgt == KEIN_INDEX ? 0 : 1) + endung.length();
+	}
+
+	@Override
+	public char charAt(final int index) {
+		final char res = zeichen(index);
+		if (index == 0 && grossgeschrieben) {
+			return Character.toUpperCase(res);
+		}
+
+		return res;
+	}
+
+	private char zeichen(final int index) {
+		final int laengeDerBasis = basisLaenge - (getilgt == KEIN_INDEX ? 0 : 1);
+		if (index >= laengeDerBasis) {
+			return endung.charAt(index - laengeDerBasis);
+		}
+
+		final int indexInBasis = getilgt != KEIN_INDEX && index >= getilgt ? index + 1 : index;
+		if (indexInBasis == ersetzt) {
+			return ersatz;
+		}
+
+		return basis.charAt(indexInBasis);
+	}
+
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return toString().subSequence(start, end);
+	}
+
+	/**
+	 * Erzeugt den String.
+	 */
+	@Override
+	public String toString() {
+		if (basisLaenge == basis.length() && getilgt == KEIN_INDEX && ersetzt == KEIN_INDEX
+				&& endung.isEmpty() && !grossgeschrieben) {
+			return basis;
+		}
+
+		final int laenge = length();
+		char[] puffer = PUFFER.get();
+		if (puffer.length < laenge) {
+			puffer = new char[Math.max(laenge, puffer.length * 2)];
+			PUFFER.set(puffer);
+		}
+
+		final int laengeDerBasis;
+		if (getilgt == KEIN_INDEX) {
+			basis.getChars(0, basisLaenge, puffer, 0);
+			laengeDerBasis = basisLaenge;
+		} else {
+			basis.getChars(0, getilgt, puffer, 0);
+			basis.getChars(getilgt + 1, basisLaenge, puffer, getilgt);
+			laengeDerBasis = basisLaenge - 1;
+		}
+
+		if (ersetzt != KEIN_INDEX) {
+			puffer[getilgt != KEIN_INDEX && ersetzt > getilgt ? ersetzt - 1 : ersetzt] = ersatz;
+		}
+
+		endung.getChars(0, endung.length(), puffer, laengeDerBasis);
+
+		if (grossgeschrieben && laenge > 0) {
+			puffer[0] = Character.toUpperCase(puffer[0]);
+		}
+
+		return new String(puffer, 0, laenge);
+	}
+}
@@ -13,24 +13,40 @@ package de.nb.federkiel.deutsch.grammatik.wortart.praeposition;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 
 /**
- * Eine Prposition.
+ * Eine Prposition. Eine <i>Wechselprposition</i> (<i>an</i>, <i>auf</i>,
+ * <i>in</i>, ...) regiert den Dativ (wo?) oder den Akkusativ (wohin?) - als
+ * Kasus ist hier der Dativ angegeben.
  * 
  * @author nikolaj
  */
 public enum Praeposition {
   // @formatter:off
-  AUF("auf", Kasus.DATIV), 
+  AN("an", Kasus.DATIV, true),
+  AUF("auf", Kasus.DATIV, true),
   AUS("aus", Kasus.DATIV),
+  BEI("bei", Kasus.DATIV),
+  DURCH("durch", Kasus.AKKUSATIV),
+  FUER("fr", Kasus.AKKUSATIV),
+  IN("in", Kasus.DATIV, true),
   MIT("mit", Kasus.DATIV),
-  NACH("nach", Kasus.DATIV);
+  NACH("nach", Kasus.DATIV),
+  UM("um", Kasus.AKKUSATIV),
+  VON("von", Kasus.DATIV),
+  ZU("zu", Kasus.DATIV);
   // @formatter:on
 	
 	private final String name;
 	private final Kasus kasus;
+	private final boolean wechselpraeposition;
 
 	private Praeposition(final String name, final Kasus kasus) {
+		this(name, kasus, false);
+	}
+
+	private Praeposition(final String name, final Kasus kasus, final boolean wechselpraeposition) {
 		this.name = name;
 		this.kasus = kasus;
+		this.wechselpraeposition = wechselpraeposition;
 	}
 
 	public String getName() {
@@ -45,4 +61,20 @@ public enum Praeposition {
   public Kasus getKasus() {
 		return this.kasus; 
 	}
+
+	/**
+	 * @return ob die Prposition den Dativ oder den Akkusativ regiert, z.B.
+	 *         <i>in dem Haus</i>, <i>in das Haus</i>
+	 */
+	public boolean isWechselpraeposition() {
+		return this.wechselpraeposition;
+	}
+
+	/**
+	 * @return ob die Prposition diesen Kasus regieren kann
+	 */
+	public boolean regiert(final Kasus kasus) {
+		return kasus == this.kasus
+				|| (this.wechselpraeposition && (kasus == Kasus.DATIV || kasus == Kasus.AKKUSATIV));
+	}
 }
@@ -0,0 +1,79 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.substantiv;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.collection.Pair;
+
+/**
+ * Zerlegt ein substantivisches Kompositum (etwa <i>Donaudampfschifffahrtsgesellschaft</i>) in
+ * Bestimmungswort (<i>Donaudampfschifffahrts</i>) und Kopf (<i>Gesellschaft</i>). Der Kopf
+ * bestimmt Genus und Flexion des Kompositums (Duden 1013), so dass sich das Kompositum wie sein
+ * Kopf flektieren laesst.
+ * <p>
+ * Als Koepfe kommen nur die Substantive aus dem vorgegebenen Kopf-Lexikon in Frage. Gibt es
+ * mehrere, wird der laengste genommen - er ist am spezifischsten (<i>Schifffahrtsgesellschaft</i>
+ * vor <i>Gesellschaft</i>).
+ */
+@Immutable
+@ThreadSafe
+public final class Kompositumzerleger {
+	/**
+	 * Kuerzere Koepfe werden nicht abgetrennt - einige Flexionsregeln betrachten die Laenge des
+	 * Wortes (z.B. <i>Olein</i> vs. <i>Bluemlein</i>).
+	 */
+	public static final int MINDESTLAENGE_KOPF = 4;
+
+	/**
+	 * Die Koepfe in Kleinschreibung - jeweils auf die Nennform abgebildet
+	 */
+	private final ImmutableMap<String, String> koepfe;
+
+	/**
+	 * @param koepfe
+	 *          die Nennformen der Substantive, die als Kopf eines Kompositums in Frage kommen
+	 */
+	public Kompositumzerleger(final Collection<String> koepfe) {
+		super();
+
+		final Map<String, String> koepfeKleingeschrieben = new LinkedHashMap<>();
+		for (final String kopf : koepfe) {
+			if (kopf.length() >= MINDESTLAENGE_KOPF) {
+				koepfeKleingeschrieben.putIfAbsent(kopf.toLowerCase(Locale.GERMAN), kopf);
+			}
+		}
+		this.koepfe = ImmutableMap.copyOf(koepfeKleingeschrieben);
+	}
+
+	/**
+	 * Zerlegt dieses Wort in Bestimmungswort und Kopf.
+	 *
+	 * @return Bestimmungswort und Kopf (als Nennform gemaess Kopf-Lexikon) - oder
+	 *         <code>null</code>, wenn sich kein Kopf aus dem Kopf-Lexikon abtrennen laesst
+	 */
+	public @Nullable Pair<String, String> zerlege(final String wort) {
+		final String wortKleingeschrieben = wort.toLowerCase(Locale.GERMAN);
+		// Das Bestimmungswort ist nie leer
+		for (int i = 1; i <= wort.length() - MINDESTLAENGE_KOPF; i++) {
+			final String kopf = koepfe.get(wortKleingeschrieben.substring(i));
+			if (kopf != null) {
+				return Pair.of(wort.substring(0, i), kopf);
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "Kompositumzerleger (" + koepfe.size() + " Koepfe)";
+	}
+}
@@ -16,20 +16,18 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
 import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikeltyp;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Flexionszelle;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.KomprimiertesParadigma;
 
 public class Substantiv {
   private final Genus genus;
   private final boolean zaehlbar;
 
-  private final String nominativSingular;
-  private final String genitivSingular;
-  private final String dativSingular;
-  private final String akkusativSingular;
-
-  private final @Nullable String nominativPlural;
-  private final @Nullable String genitivPlural;
-  private final @Nullable String dativPlural;
-  private final @Nullable String akkusativPlural;
+  /**
+   * Die Wortformen, indiziert per {@link Flexionszelle#substantivzelle(Kasus, Numerus)} - als
+   * Stamm und (geteiltes) Endungsmuster. Die Pluralformen koennen <code>null</code> sein.
+   */
+  private final KomprimiertesParadigma paradigma;
 
   Substantiv(final String nominativSingular, final String genitivSingular,
       final String dativSingular, final String akkusativSingular,
@@ -44,16 +42,22 @@ public class Substantiv {
       final @Nullable String genitivPlural, final @Nullable String dativPlural,
       final @Nullable String akkusativPlural,
       final Genus genus, final boolean zaehlbar) {
+    this(new String[] { nominativSingular, genitivSingular, dativSingular, akkusativSingular,
+        nominativPlural, genitivPlural, dativPlural, akkusativPlural }, genus, zaehlbar);
+  }
+
+  /**
+   * @param paradigma die Wortformen, indiziert per
+   *          {@link Flexionszelle#substantivzelle(Kasus, Numerus)}
+   */
+  public Substantiv(final String[] paradigma, final Genus genus, final boolean zaehlbar) {
+    if (paradigma.length != Flexionszelle.ANZAHL_SUBSTANTIV_ZELLEN) {
+      throw new IllegalArgumentException("Unexpected paradigm length: " + paradigma.length);
+    }
+
     this.genus = genus;
     this.zaehlbar = zaehlbar;
-    this.nominativSingular = nominativSingular;
-    this.genitivSingular = genitivSingular;
-    this.dativSingular = dativSingular;
-    this.akkusativSingular = akkusativSingular;
-    this.nominativPlural = nominativPlural;
-    this.genitivPlural = genitivPlural;
-    this.dativPlural = dativPlural;
-    this.akkusativPlural = akkusativPlural;
+    this.paradigma = KomprimiertesParadigma.of(paradigma);
   }
 
   /**
@@ -137,11 +141,19 @@ public class Substantiv {
   }
 
   public String getWortform(final Kasus kasus, final Numerus numerus) {
-    if (numerus == Numerus.SINGULAR) {
-      return getWortformSingular(kasus);
+    if (numerus == Numerus.PLURAL) {
+      return getWortformPlural(kasus);
     }
 
-    return getWortformPlural(kasus);
+    return paradigma.getWortform(Flexionszelle.substantivzelle(kasus, numerus));
+  }
+
+  /**
+   * Gibt (eine Kopie) des Paradigmas zurueck, indiziert per
+   * {@link Flexionszelle#substantivzelle(Kasus, Numerus)}.
+   */
+  public String[] getParadigma() {
+    return paradigma.toArray();
   }
 
   public String getWortformMitArtikel(final Kasus kasus) {
@@ -182,35 +194,6 @@ public class Substantiv {
       throw new RuntimeException("Tried to retrieve plural of uncountable noun " + this);
     }
 
-    if (kasus == Kasus.NOMINATIV) {
-      return nominativPlural;
-    }
-    if (kasus == Kasus.GENITIV) {
-      return genitivPlural;
-    }
-    if (kasus == Kasus.DATIV) {
-      return dativPlural;
-    }
-
-    return akkusativPlural;
-  }
-
-  // --------------- PRIVATE --------------
-
-  private String getWortformSingular(final Kasus kasus) {
-    if (kasus == Kasus.NOMINATIV) {
-      return nominativSingular;
-    }
-    if (kasus == Kasus.GENITIV) {
-      return genitivSingular;
-    }
-    if (kasus == Kasus.DATIV) {
-      return dativSingular;
-    }
-    if (kasus == Kasus.AKKUSATIV) {
-      return akkusativSingular;
-    }
-
-    throw new RuntimeException("Unexpected case: " + kasus);
+    return paradigma.getWortform(Flexionszelle.substantivzelle(kasus, Numerus.PLURAL));
   }
 }
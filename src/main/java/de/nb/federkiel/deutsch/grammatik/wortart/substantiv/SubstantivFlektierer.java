@@ -16,14 +16,21 @@ import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.MOEGL
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.NN_WIE_EIN_EIGENNAME_GEBRAUCHT_KEY;
 import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.SUBSTANTIVIERTES_ADJEKTIV_KEY;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -36,20 +43,27 @@ import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
 import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Artikelwortbezug;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.FeatureStringConverter;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Flexionszelle;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.FremdwortTyp;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.IFlektierer;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.KasusInfo;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.PhonologischesProfil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Regelbeobachtung;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivFlexionsklasse;
 import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivPronomenUtil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Wortbaustein;
 import de.nb.federkiel.deutsch.lexikon.GermanPOS;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
 import de.nb.federkiel.feature.StringFeatureLogicUtil;
 import de.nb.federkiel.interfaces.ILexeme;
 import de.nb.federkiel.interfaces.IWordForm;
 import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.KompakteWortform;
 import de.nb.federkiel.lexikon.Wortform;
+import de.nb.federkiel.lexikon.Wortformmerkmale;
 import de.nb.federkiel.string.StringUtil;
 
 /**
@@ -351,13 +365,107 @@ public class SubstantivFlektierer implements IFlektierer {
 				.add(Pair.of("weihnachten", EnumSet.of(SubstantivFlexionsklasse.ENDUNGSLOS_I))).build();
 	}
 
+	/**
+	 * Zerlegt ggf. Komposita, so dass nur ihr Kopf flektiert werden muss - ggf.
+	 * <code>null</code>
+	 */
+	private final @Nullable Kompositumzerleger kompositumzerleger;
+
+	/**
+	 * Wie viele Flexionen von Koepfen (hoechstens) gecachet werden
+	 */
+	private static final long MAXIMALE_ANZAHL_GECACHTER_KOPFFLEXIONEN = 10000;
+
+	/**
+	 * Die zuletzt ermittelten Flexionsformen der Koepfe von Komposita - jeweils
+	 * fuer Kopf, Merkmale des Lexems und Flexionsparameter. Begrenzt - die Zahl
+	 * der Koepfe ist zwar klein, aber nicht geschlossen.
+	 */
+	private final Cache<List<Object>, ImmutableList<IWordForm>> kopfflexionen = CacheBuilder.newBuilder()
+			.maximumSize(MAXIMALE_ANZAHL_GECACHTER_KOPFFLEXIONEN).build();
+
+	/**
+	 * Die zuletzt ermittelten vollstaendigen Deklinationen (vgl.
+	 * {@link #std(Lexeme, String, boolean, boolean, boolean, boolean, FremdwortTyp, boolean, boolean)})
+	 * - jeweils fuer das Lexem und die Flexionsparameter. Begrenzt;
+	 * <code>null</code>, wenn nicht gecachet werden soll.
+	 */
+	private final @Nullable Cache<List<Object>, ImmutableList<IWordForm>> deklinationen;
+
+	public static final SubstantivFlektierer INSTANCE = new SubstantivFlektierer();
+
 	public SubstantivFlektierer() {
+		this(null);
+	}
+
+	/**
+	 * @param kompositumzerleger
+	 *          falls nicht <code>null</code>, werden Komposita (wie
+	 *          <i>Donaudampfschifffahrtsgesellschaft</i>) zerlegt und wie ihr Kopf
+	 *          (<i>Gesellschaft</i>) flektiert - die Flexion des Kopfes wird gecachet.
+	 */
+	public SubstantivFlektierer(final @Nullable Kompositumzerleger kompositumzerleger) {
+		this(kompositumzerleger, 0);
+	}
+
+	/**
+	 * @param kompositumzerleger
+	 *          falls nicht <code>null</code>, werden Komposita (wie
+	 *          <i>Donaudampfschifffahrtsgesellschaft</i>) zerlegt und wie ihr Kopf
+	 *          (<i>Gesellschaft</i>) flektiert - die Flexion des Kopfes wird gecachet.
+	 * @param maximaleAnzahlGecachterDeklinationen
+	 *          wie viele vollstaendige Deklinationen (hoechstens) gecachet werden
+	 *          - sinnvoll, wenn immer wieder dieselben Substantive flektiert werden.
+	 *          Bei <code>0</code> wird nicht gecachet.
+	 */
+	public SubstantivFlektierer(final @Nullable Kompositumzerleger kompositumzerleger,
+			final long maximaleAnzahlGecachterDeklinationen) {
 		super();
+		this.kompositumzerleger = kompositumzerleger;
+
+		deklinationen = maximaleAnzahlGecachterDeklinationen > 0
+				? CacheBuilder.newBuilder().maximumSize(maximaleAnzahlGecachterDeklinationen).recordStats().build()
+				: null;
+	}
+
+	/**
+	 * Gibt die Statistik des Deklinations-Caches zurueck (Treffer, Trefferquote,
+	 * verdraengte Eintraege etc.) - oder <code>null</code>, falls nicht gecachet
+	 * wird.
+	 */
+	public @Nullable CacheStats getDeklinationsCacheStatistik() {
+		if (deklinationen == null) {
+			return null;
+		}
+
+		return deklinationen.stats();
+	}
+
+	/**
+	 * Gibt die Anzahl der (zur Zeit) gecacheten Deklinationen zurueck.
+	 */
+	public long getAnzahlGecachterDeklinationen() {
+		if (deklinationen == null) {
+			return 0;
+		}
+
+		return deklinationen.size();
 	}
 
 	public Collection<IWordForm> pluraleTantum(final Lexeme lexeme, final String pos,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil) {
-		return stdPlural(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, lexeme.getCanonicalizedForm());
+		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+		pluraleTantum(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, res::add);
+		return res.build();
+	}
+
+	/**
+	 * Wie {@link #pluraleTantum(Lexeme, String, boolean)} - die Wortformen werden
+	 * jedoch direkt an den <code>sink</code> bergeben.
+	 */
+	public void pluraleTantum(final Lexeme lexeme, final String pos,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil, final Consumer<? super IWordForm> sink) {
+		stdPlural(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, lexeme.getCanonicalizedForm(), sink);
 	}
 
 	/**
@@ -374,32 +482,272 @@ public class SubstantivFlektierer implements IFlektierer {
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
 			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier) {
-		final Collection<IWordForm> res = new ArrayList<>(8);
+		final OperationTimer messung = Regelbeobachtung.starte("SubstantivFlektierer.std", lexeme);
+		try {
+			final ImmutableList<IWordForm> res = stdUngemessen(lexeme, pos, zaehlbar,
+					lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+					stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp,
+					kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier);
+			messung.setNumberOfAlternatives(res.size());
+			return res;
+		} finally {
+			messung.end();
+		}
+	}
+
+	private ImmutableList<IWordForm> stdUngemessen(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier) {
+		if (deklinationen == null) {
+			return stdUngecachet(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+					etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+					fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier);
+		}
+
+		final List<Object> schluessel = ImmutableList.of(lexeme, pos, zaehlbar,
+				lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp,
+				kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier);
+
+		final @Nullable ImmutableList<IWordForm> gecachet = deklinationen.getIfPresent(schluessel);
+		if (gecachet != null) {
+			return gecachet;
+		}
+
+		// Ggf. wird dieselbe Deklination parallel zweimal ermittelt - das ist
+		// harmlos.
+		final ImmutableList<IWordForm> res = stdUngecachet(lexeme, pos, zaehlbar,
+				lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp,
+				kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier);
+		deklinationen.put(schluessel, res);
+		return res;
+	}
+
+	private ImmutableList<IWordForm> stdUngecachet(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier) {
+		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
+		stdUngecachet(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+				fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, res::add);
+		return res.build();
+	}
 
+	/**
+	 * Wie
+	 * {@link #std(Lexeme, String, boolean, boolean, boolean, boolean, FremdwortTyp, boolean, boolean)}
+	 * - die Wortformen werden jedoch direkt an den <code>sink</code> bergeben,
+	 * ohne sie (insgesamt) zu sammeln. Sinnvoll etwa beim Export eines ganzen
+	 * Lexikons.
+	 * <p>
+	 * Wird gecachet, werden die Wortformen aus dem Cache uebergeben (bzw. dort
+	 * abgelegt).
+	 */
+	public void std(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier,
+			final Consumer<? super IWordForm> sink) {
+		if (deklinationen != null) {
+			std(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+					etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+					fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier).forEach(sink);
+			return;
+		}
+
+		final OperationTimer messung = Regelbeobachtung.starte("SubstantivFlektierer.std", lexeme);
+		try {
+			stdUngecachet(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+					etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+					fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier,
+					messung.counting(sink));
+			messung.setNumberOfAlternativesCounted();
+		} finally {
+			messung.end();
+		}
+	}
+
+	private void stdUngecachet(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier,
+			final Consumer<? super IWordForm> sink) {
+		final @Nullable Pair<String, String> bestimmungswortUndKopf = zerlegeKompositum(lexeme.getCanonicalizedForm());
+		if (bestimmungswortUndKopf != null) {
+			Regelbeobachtung.zaehle("SubstantivFlektierer.kompositum");
+			stdKompositum(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+					etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+					fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier,
+					bestimmungswortUndKopf.first(), bestimmungswortUndKopf.second(), sink);
+		} else {
+			stdOhneZerlegung(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+					etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+					fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, sink);
+		}
+	}
+
+	private void stdOhneZerlegung(final Lexeme lexeme, final String pos,
+			final boolean zaehlbar, final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier,
+			final Consumer<? super IWordForm> sink) {
 		final Collection<String> pluralAlternativen = zaehlbar
 				? plural(lexeme, fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier)
 				: ImmutableList.<String>of();
 
-		res.addAll(stdSingular(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil,
+		stdSingular(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil,
 				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
-				fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, pluralAlternativen));
+				fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, pluralAlternativen, sink);
 
 		pluralAlternativen.forEach(pluralAlternative -> {
-			res.addAll(stdPlural(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, pluralAlternative));
+			stdPlural(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, pluralAlternative, sink);
 		});
+	}
+
+	/**
+	 * Zerlegt das Wort in Bestimmungswort und Kopf - sofern ein
+	 * {@link Kompositumzerleger} vorhanden ist und der Kopf alle Ausnahme-Endungen
+	 * umfasst, die fr das Wort relevant sind (ansonsten wrde der Kopf anders
+	 * flektiert als das Kompositum).
+	 *
+	 * @return Bestimmungswort und Kopf - oder <code>null</code>
+	 */
+	private @Nullable Pair<String, String> zerlegeKompositum(final String wort) {
+		if (kompositumzerleger == null) {
+			return null;
+		}
+
+		final @Nullable Pair<String, String> res = kompositumzerleger.zerlege(wort);
+		if (res == null) {
+			return null;
+		}
+
+		final int kopflaenge = res.second().length();
+		final String wortKleingeschrieben = wort.toLowerCase();
+		// Bei den Flexionsklassen wird auch mit und ohne -n gesucht (Friede / Frieden)
+		final String wortMitNKleingeschrieben = wortKleingeschrieben + "n";
+
+		if (ausnahmeendeUebergreifend(wortKleingeschrieben, kopflaenge,
+				AUSNAHMEENDEN_MIT_ALTERNATIVEN_PLURAL.stream().map(Pair::first))
+				|| ausnahmeendeUebergreifend(wortKleingeschrieben, kopflaenge,
+						AUSNAHMEENDEN_PLURAL.stream().map(Pair::first))
+				|| ausnahmeendeUebergreifend(wortKleingeschrieben, kopflaenge,
+						AUSNAHMEENDEN_STAMMABWEICHUNGEN_KASUSFLEXION.stream().map(Pair::first))
+				|| ausnahmeendeUebergreifend(wortMitNKleingeschrieben, kopflaenge,
+						AUSNAHMEENDEN_MIT_ALTERNATIVEN_MASK_FLEXIONSKLASSEN.stream().map(Pair::first))
+				|| ausnahmeendeUebergreifend(wortKleingeschrieben, kopflaenge,
+						Stream.of(FREMDE_MASK_WORTAUSGAENGE_PLURAL_BELEBT_MIT_EN))) {
+			return null;
+		}
 
 		return res;
 	}
 
+	/**
+	 * Ob eine dieser Ausnahme-Endungen auf das Wort passt, aber ber den Kopf (mit
+	 * dieser Lnge) hinausreicht.
+	 */
+	private static boolean ausnahmeendeUebergreifend(final String wortKleingeschrieben, final int kopflaenge,
+			final Stream<String> ausnahmeenden) {
+		return ausnahmeenden.anyMatch(ende -> ende.length() >= kopflaenge && wortKleingeschrieben.endsWith(ende));
+	}
+
+	/**
+	 * Standard-Deklination eines Kompositums: Der Kopf wird (einmalig, dann
+	 * gecachet) flektiert, das Bestimmungswort wird jeweils vorangestellt.
+	 */
+	private void stdKompositum(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier,
+			final String bestimmungswort, final String kopf, final Consumer<? super IWordForm> sink) {
+		final List<Object> schluessel = ImmutableList.of(kopf, lexeme.getType(), lexeme.getFeatures(), pos, zaehlbar,
+				lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp,
+				kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier);
+
+		@Nullable
+		ImmutableList<IWordForm> kopfflexion = kopfflexionen.getIfPresent(schluessel);
+		if (kopfflexion == null) {
+			// Ggf. wird derselbe Kopf parallel zweimal flektiert - das ist harmlos.
+			final ImmutableList.Builder<IWordForm> kopfformen = ImmutableList.builder();
+			stdOhneZerlegung(new Lexeme(lexeme.getType(), kopf, lexeme.getFeatures()), pos, zaehlbar,
+					lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+					stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp,
+					kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, kopfformen::add);
+			kopfflexion = kopfformen.build();
+			kopfflexionen.put(schluessel, kopfflexion);
+		}
+
+		// Der Kopf steht im Kompositum (in aller Regel) klein
+		final boolean kopfKleingeschrieben = Character
+				.isLowerCase(lexeme.getCanonicalizedForm().charAt(bestimmungswort.length()));
+
+		final FeatureStructure nennform = LexiconFeatureStructureUtil
+				.fromStringValues(ImmutableMap.of(GermanUtil.NENNFORM_KEY, lexeme.getCanonicalizedForm()));
+
+		for (final IWordForm kopfform : kopfflexion) {
+			final String kopfformString = kopfform.getString();
+			final String kopfformImKompositum = kopfKleingeschrieben
+					? Character.toLowerCase(kopfformString.charAt(0)) + kopfformString.substring(1)
+					: kopfformString;
+
+			if (kopfform instanceof KompakteWortform) {
+				// Die Wortformmerkmale enthalten die Nennform nicht
+				sink.accept(new KompakteWortform(lexeme, ((KompakteWortform) kopfform).getMerkmale(),
+						bestimmungswort + kopfformImKompositum));
+				continue;
+			}
+
+			sink.accept(Wortform.lexemeFeaturesAlreadyIntegrated(lexeme, pos, bestimmungswort + kopfformImKompositum,
+					kopfform.getFeatures().removeNames(ImmutableList.of(GermanUtil.NENNFORM_KEY))
+							.disjunctUnionWithoutFreeFillings(nennform, kopfform.getFeatures().getSemantics())));
+		}
+	}
+
+	/**
+	 * Standard-Deklination eines Substantivs gem Duden - als Paradigma,
+	 * indiziert per {@link Flexionszelle#substantivzelle(Kasus, Numerus)}. Gibt es
+	 * fr eine Zelle mehrere Alternativen, enthlt das Paradigma nur die
+	 * gebruchlichste.
+	 *
+	 * @see #std(Lexeme, String, boolean, boolean, boolean, boolean, FremdwortTyp,
+	 *      boolean, boolean)
+	 */
+	public String[] stdParadigma(final Lexeme lexeme, final String pos, final boolean zaehlbar,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
+			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
+			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier) {
+		return Flexionszelle.substantivparadigma(std(lexeme, pos, zaehlbar, lexemStehtMitArtikelAusserImTelegrammstil,
+				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
+				fremdwortTyp, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier));
+	}
+
 	private static Collection<String> plural(final Lexeme lexeme, final FremdwortTyp fremdwortTyp,
 			final boolean kommtEinemEigennameNahe, final boolean personOderTier) {
-		final String singular = lexeme.getCanonicalizedForm();
+		return Substantivmorphologie.of(lexeme).plural(fremdwortTyp, kommtEinemEigennameNahe, personOderTier);
+	}
+
+	private static Collection<String> berechnePlural(final Substantivmorphologie morphologie,
+			final FremdwortTyp fremdwortTyp, final boolean kommtEinemEigennameNahe, final boolean personOderTier) {
+		final String singular = morphologie.getLexeme().getCanonicalizedForm();
+		final PhonologischesProfil profil = morphologie.getProfil();
 
 		// Verwendet die "Grundregeln" G1, G2, G3 (im Duden 279)
 		// und die "Zusatzregeln" Z1, Z2, Z3, Z4 (Duden 280)
 		// sowie den Sonderfall S4 (Duden 281, 285)
 		// Gibt es eine Ausnahme?
-		final Collection<String> pluralausnahmeAlternativen = findPluralAusnahme(singular);
+		final Collection<String> pluralausnahmeAlternativen = morphologie.getPluralausnahmeAlternativen();
 		if (!pluralausnahmeAlternativen.isEmpty()) {
 			return pluralausnahmeAlternativen;
 		}
@@ -407,7 +755,7 @@ public class SubstantivFlektierer implements IFlektierer {
 		if (fremdwortTyp.isFremdwort()) {
 			// Sonderfall S4: Fremdwrter mit konsonantischem Wortausgang
 			// (der Hit -> die Hits)
-			if (GermanUtil.hatKonsonantischenWortausgang(singular) && !GermanUtil.endetAufSLaut(singular)) { // *Bosss (Bosse)
+			if (profil.hatKonsonantischenWortausgang() && !profil.endetAufSLaut()) { // *Bosss (Bosse)
 
 				if (singular.endsWith("er")) {
 					return ImmutableList.<String>of(singular); // (Ausnahme:)
@@ -416,12 +764,12 @@ public class SubstantivFlektierer implements IFlektierer {
 				}
 
 				// Sonderfall S3: Fremdwrter mit en-Plural ("or")
-				if (SubstantivPronomenUtil.isMask(lexeme) && !kommtEinemEigennameNahe) { // nicht
+				if (morphologie.isMask() && !kommtEinemEigennameNahe) { // nicht
 																																									// etwa
 					// "die Nestoren",
 					// sondern
 					// "die Nestors"!
-					if (GermanUtil.endetAufLateinischemOr(singular)) {
+					if (profil.endetAufLateinischemOr()) {
 						if (fremdwortTyp.equals(FremdwortTyp.FREMDWORT_AM_ENDE_BETONT)) {
 							return ImmutableList.of(singular + "e"); // Ma'jor
 							// ->
@@ -450,7 +798,7 @@ public class SubstantivFlektierer implements IFlektierer {
 					}
 				}
 
-				if (SubstantivPronomenUtil.isNeut(lexeme) && StringUtil.endsWith(singular, "ent", "om")) {
+				if (morphologie.isNeut() && StringUtil.endsWith(singular, "ent", "om")) {
 					// Talent -> Talente, Patent -> Patente,
 					// Metronom -> Metronome
 					return ImmutableList.<String>of(singular + "e");
@@ -460,7 +808,7 @@ public class SubstantivFlektierer implements IFlektierer {
 			}
 
 			// Sonderfall S3: Fremdwrter mit en-Plural ("a")
-			if (SubstantivPronomenUtil.isFem(lexeme) && GermanUtil.isLateinADeklination(singular)) {
+			if (morphologie.isFem() && profil.isLateinADeklination()) {
 				return ImmutableList.of(singular.substring(0, singular.length() - 1) + "en"); // Firma
 				// ->
 				// Firmen
@@ -469,20 +817,20 @@ public class SubstantivFlektierer implements IFlektierer {
 		}
 
 		// Zusatzregel Z1 (der Zeuge -> die Zeugen)
-		if (SubstantivPronomenUtil.isMask(lexeme) && singular.endsWith("e") && !singular.endsWith("ee")) {
+		if (morphologie.isMask() && singular.endsWith("e") && !singular.endsWith("ee")) {
 			return ImmutableList.<String>of(singular + "n");
 		}
 
 		// Zusatzregel Z2 (die Oma -> die Omas)
-		if (GermanUtil.endetAufUnbetontenVollvokal(singular)) {
+		if (profil.endetAufUnbetontenVollvokal()) {
 			return ImmutableList.<String>of(singular + "s");
 		}
 
 		// Zusatzregel Z3 (das Tabu -> die Tabus)
-		if (GermanUtil.istFremdwortUndEndetAufBetontenVollvokal(singular,
+		if (profil.istFremdwortUndEndetAufBetontenVollvokal(
 				fremdwortTyp.equals(FremdwortTyp.FREMDWORT_AM_ENDE_BETONT))) {
 			// "Ausnahme" in Z3:
-			if (SubstantivPronomenUtil.isFem(lexeme)) {
+			if (morphologie.isFem()) {
 				if (StringUtil.endsWith(singular, "ie", "ee")) {
 					return ImmutableList.<String>of(singular + "n"); // Familie-n
 				}
@@ -506,28 +854,25 @@ public class SubstantivFlektierer implements IFlektierer {
 		}
 
 		// Regel G1
-		if (!SubstantivPronomenUtil.isFem(lexeme)) {
+		if (!morphologie.isFem()) {
 			// also Maskulina und Neutra
 
 			// Regel G3
 			if (folgeESollteFuerPluralOderSchwacheDeklinationEntfallen(singular)) {
-				if (SubstantivPronomenUtil.isNeut(lexeme)) {
+				if (morphologie.isNeut()) {
 					return ImmutableList.<String>of(singular);
 				}
 
 				final int amEndeNichtFuerUmlautBeruecksichtigen = amEndeNichtFuerUmlautBeruecksichtigen(singular);
 
-				final String basisFuerUmlautung = singular.substring(0,
-						singular.length() - amEndeNichtFuerUmlautBeruecksichtigen);
-				final String stammRest = singular.substring(singular.length() - amEndeNichtFuerUmlautBeruecksichtigen,
-						singular.length());
-
-				final String umgelauteteBasis = GermanUtil.ggfUmlauten(basisFuerUmlautung, fremdwortTyp);
+				// Der Rest am Ende bleibt unverndert
+				final Wortbaustein umgelautet = GermanUtil.ggfUmgelautet(singular,
+						singular.length() - amEndeNichtFuerUmlautBeruecksichtigen, fremdwortTyp);
 				// TODO
 				// if (!basisFuerUmlautung.equals(umgelauteteBasis)) {
 				// Unsichere Pluralbildung (Maskulium endungslos / Umlaut)!
 				// }
-				return ImmutableList.<String>of(umgelauteteBasis + stammRest);
+				return ImmutableList.<String>of(umgelautet.toString());
 			}
 
 			// siehe Duden 282
@@ -535,15 +880,15 @@ public class SubstantivFlektierer implements IFlektierer {
 				return ImmutableList.<String>of(singular + "se"); // Geheimnis-se
 			}
 
-			if (SubstantivPronomenUtil.isNeut(lexeme)) {
+			if (morphologie.isNeut()) {
 				return ImmutableList.<String>of(singular + "e"); // Schicksale
 			}
 
-			final String umgelautet = GermanUtil.ggfUmlauten(singular, fremdwortTyp);
+			final Wortbaustein umgelautet = GermanUtil.ggfUmgelautet(singular, singular.length(), fremdwortTyp);
 			// if (!singular.equals(umgelautet)) {
 			// TODO Unsichere Pluralbildung (Maskulium mit -e / Umlaut)
 			// }
-			return ImmutableList.<String>of(umgelautet + "e");
+			return ImmutableList.<String>of(umgelautet.plus("e").toString());
 		}
 
 		// siehe Duden 282
@@ -573,9 +918,22 @@ public class SubstantivFlektierer implements IFlektierer {
 	private static Collection<SubstantivFlexionsklasse> flexionsklassenSingularMitArtikelwort(final Lexeme lexeme,
 			final boolean eigenname, final FremdwortTyp fremdwortTyp, final boolean personOderTier,
 			final Collection<String> plurale) {
+		final Collection<SubstantivFlexionsklasse> res = Substantivmorphologie.of(lexeme)
+				.flexionsklassenSingularMitArtikelwort(eigenname, fremdwortTyp, personOderTier, plurale);
+		for (final SubstantivFlexionsklasse flexionsklasse : res) {
+			Regelbeobachtung.zaehle("SubstantivFlektierer.flexionsklasse", flexionsklasse);
+		}
+
+		return res;
+	}
+
+	private static Collection<SubstantivFlexionsklasse> berechneFlexionsklassenSingularMitArtikelwort(
+			final Substantivmorphologie morphologie, final boolean eigenname, final FremdwortTyp fremdwortTyp,
+			final boolean personOderTier, final Collection<String> plurale) {
 		// Verwendet die Regeln K1, K2 und K4 (Duden 299)
 
-		final Genus genus = FeatureStringConverter.toGenus(lexeme.getStringFeatureValue("genus"));
+		final Lexeme lexeme = morphologie.getLexeme();
+		final Genus genus = morphologie.getGenus();
 
 		// Regel K1, die Zahl, der Zahl, ...
 		if (genus == FEMININUM) {
@@ -595,7 +953,7 @@ public class SubstantivFlektierer implements IFlektierer {
 				return ausnahmeAlternativen;
 			}
 
-			if (GermanUtil.endetAufLateinischemOr(nomSg)
+			if (morphologie.getProfil().endetAufLateinischemOr()
 					&& fremdwortTyp.equals(FremdwortTyp.FREMDWORT_NICHT_AM_ENDE_BETONT)) {
 				// der Direktor, des Direktors (Duden 330)
 				return ImmutableList.of(SubstantivFlexionsklasse.STARK_II);
@@ -656,38 +1014,35 @@ public class SubstantivFlektierer implements IFlektierer {
 	 *          ob das Wort einem Eigennamen nahe kommt, so dass das Genitiv-s im
 	 *          Singular auch entfallen kann
 	 */
-	private Collection<IWordForm> stdSingular(final Lexeme lexeme, final String pos,
+	private void stdSingular(final Lexeme lexeme, final String pos,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final FremdwortTyp fremdwortTyp,
 			final boolean kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, final boolean personOderTier,
-			final Collection<String> plurale) {
-		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
-
+			final Collection<String> plurale, final Consumer<? super IWordForm> sink) {
 		final String stammWennOhneEndung = lexeme.getCanonicalizedForm();
 
 		final String stammWennMitEndung = stammWennMitEndung(stammWennOhneEndung);
 
-		res.addAll(
-				stdGenSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
-						stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp, stammWennOhneEndung,
-						stammWennMitEndung, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, plurale));
+		stdGenSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp, stammWennOhneEndung,
+				stammWennMitEndung, kommtEinemEigennameNaheDassGenitivSAuchEntfallenKann, personOderTier, plurale)
+						.forEach(sink);
 
 		final Collection<IWordForm> datAlternativen = stdDatSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil,
 				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
 				stammWennOhneEndung, stammWennMitEndung, fremdwortTyp, personOderTier, plurale);
-		res.addAll(datAlternativen);
+		datAlternativen.forEach(sink);
 
 		final Collection<IWordForm> akkAlternativen = stdAkkSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil,
 				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
 				stammWennOhneEndung, stammWennMitEndung, fremdwortTyp, personOderTier, plurale);
-		res.addAll(akkAlternativen);
+		akkAlternativen.forEach(sink);
 
-		res.addAll(stdNomSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil,
-				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
-				fremdwortTyp, personOderTier, datAlternativen, akkAlternativen, plurale));
-
-		return res.build();
+		// Der Nominativ hngt vom Dativ und Akkusativ ab
+		stdNomSg(lexeme, pos, lexemStehtMitArtikelAusserImTelegrammstil, etablierteGruppeArtikelSgNurBeiSubjektNoetig,
+				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, fremdwortTyp, personOderTier, datAlternativen,
+				akkAlternativen, plurale).forEach(sink);
 	}
 
 	public String stammWennMitEndung(final String stammWennOhneEndung) {
@@ -752,7 +1107,7 @@ public class SubstantivFlektierer implements IFlektierer {
 	 * @param etablierteGruppeArtikelSgNurBeiSubjektNoetig
 	 *          Z.B. "Pianist"
 	 */
-	private static Wortform stdNomSg(final Lexeme lexeme, final String pos, final boolean substantiviertesAdjektiv,
+	private static IWordForm stdNomSg(final Lexeme lexeme, final String pos, final boolean substantiviertesAdjektiv,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final String nomSg,
@@ -765,7 +1120,7 @@ public class SubstantivFlektierer implements IFlektierer {
 		final Artikelwortbezug artikelwortbezug = calcArtikelwortbezugSg(lexemStehtMitArtikelAusserImTelegrammstil,
 				eigennameOderWieEigennameGebraucht(pos, lexeme), etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, NOMINATIV);
-		final Wortform nomSgWortform = SubstantivFlektierer.buildSubstantivWortform(lexeme, pos,
+		final IWordForm nomSgWortform = buildKompakteSubstantivWortform(lexeme, pos,
 				KasusInfo.nomNomen(nomMoeglicherweiseDatOderAkkMitUnterlassenerKasusflexion), SINGULAR, artikelwortbezug,
 				nomSg);
 		return nomSgWortform;
@@ -987,7 +1342,7 @@ public class SubstantivFlektierer implements IFlektierer {
 			return stamm;
 		}
 
-		if (GermanUtil.endetAufSLaut(stamm)) {
+		if (PhonologischesProfil.of(stamm).endetAufSLaut()) {
 			// Fels -> Felsen, Herz -> Herzen
 			return stamm + "en";
 		}
@@ -1032,11 +1387,13 @@ public class SubstantivFlektierer implements IFlektierer {
 				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
 				GENITIV);
 
-		if (GermanUtil.endetAufSLaut(stammWennOhneEndung)) {
+		final PhonologischesProfil stammProfil = PhonologischesProfil.of(stammWennOhneEndung);
+		final boolean stammEndetAufSLaut = stammProfil.endetAufSLaut();
+		if (stammEndetAufSLaut) {
 			// Duden 302 Endung -s NICHT mglich
 			if (fremdwortTyp.equals(FremdwortTyp.FREMDWORT_NICHT_AM_ENDE_BETONT)) {
 				// Zirkus -> des Zirkus (endungslos), Duden 302
-				res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, // s
+				res.add(buildKompakteSubstantivWortform(lexeme, pos, // s
 																																					// ist
 																																					// ja
 																																					// schon
@@ -1051,7 +1408,7 @@ public class SubstantivFlektierer implements IFlektierer {
 		} else {
 			// endet *nicht* auf s-Laut -> Endung -s mglich
 			// des Raums
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR,
 					artikelwortbezugLexemGenitiv, // des Raums,
 					// des alten
 					// Roms,
@@ -1060,32 +1417,32 @@ public class SubstantivFlektierer implements IFlektierer {
 			enthaeltFormAufSOhneArtikelwort = true;
 		}
 
-		if (genitivendungEsErlaubtBeiStarkerDeklination(stammWennOhneEndung, fremdwortTyp)) {
+		if (genitivendungEsErlaubtBeiStarkerDeklination(stammProfil, fremdwortTyp)) {
+			Regelbeobachtung.zaehle("SubstantivFlektierer.genitivendungEsErlaubtBeiStarkerDeklination");
 			// des Raumes, des Busses
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR,
 					artikelwortbezugLexemGenitiv, stammWennMitEndung + "es"));
 		}
 		if (eigenname || eigennameOderAehnlichesDassGenitivSEntfallenKann) {
 			// Monatsnamen, Wochentage, ...
 			// "des Peter" (neben "des Peters")
 			if (!endungsloseFormBereitsHinzugefgt) {
-				final KasusInfo genitivTypEndungslos = GermanUtil.endetAufSLaut(stammWennOhneEndung) ? KasusInfo.GEN_S
-						: KasusInfo.GEN_OHNE_S_UND_R;
+				final KasusInfo genitivTypEndungslos = stammEndetAufSLaut ? KasusInfo.GEN_S : KasusInfo.GEN_OHNE_S_UND_R;
 
-				res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, genitivTypEndungslos, SINGULAR,
+				res.add(buildKompakteSubstantivWortform(lexeme, pos, genitivTypEndungslos, SINGULAR,
 						Artikelwortbezug.ZWINGEND_MIT_ARTIKELWORT_AUCH_IM_TELEGRAMMSTIL, stammWennOhneEndung));
 			}
 		}
 		return new GenitivSgStarkOderGemischtResult(res.build(), enthaeltFormAufSOhneArtikelwort);
 	}
 
-	private static Collection<Wortform> stdGenSgEigennamendeklination(final Lexeme lexeme, final String pos,
+	private static Collection<IWordForm> stdGenSgEigennamendeklination(final Lexeme lexeme, final String pos,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final String stammWennOhneEndung,
 			final String stammWennMitEndung, boolean formAufSOhneArtikelwortBereitsHinzugefuegt) {
 
-		final ImmutableList.Builder<Wortform> res = new ImmutableList.Builder<>();
+		final ImmutableList.Builder<IWordForm> res = new ImmutableList.Builder<>();
 		final Genus genus = FeatureStringConverter.toGenus(lexeme.getStringFeatureValue("genus"));
 
 		final Artikelwortbezug artikelwortBezug = genus == FEMININUM
@@ -1103,16 +1460,16 @@ public class SubstantivFlektierer implements IFlektierer {
 																																											// "des
 		// Hannes'"
 
-		if (GermanUtil.endetAufSLaut(stammWennOhneEndung)) {
+		if (PhonologischesProfil.of(stammWennOhneEndung).endetAufSLaut()) {
 			// Iris'
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, // s ist
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, // s ist
 																																				// ja
 																																				// schon
 																																				// da
 					KasusInfo.GEN_S, SINGULAR, artikelwortBezug, stammWennMitEndung));
 			// FIXME -> Grammatik: Apostroph danach! "Iris'"!
 
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, // s
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, // s
 					// ist
 					// ja
 					// schon
@@ -1121,7 +1478,7 @@ public class SubstantivFlektierer implements IFlektierer {
 		} else {
 			if (!formAufSOhneArtikelwortBereitsHinzugefuegt) {
 				// Annas, Mutters
-				res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR, artikelwortBezug,
+				res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_S, SINGULAR, artikelwortBezug,
 						stammWennMitEndung + "s"));
 				formAufSOhneArtikelwortBereitsHinzugefuegt = true;
 			}
@@ -1130,7 +1487,7 @@ public class SubstantivFlektierer implements IFlektierer {
 		return res.build();
 	}
 
-	private static Wortform stdGenSgEndungslos(final Lexeme lexeme, final String pos,
+	private static IWordForm stdGenSgEndungslos(final Lexeme lexeme, final String pos,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final String stammWennOhneEndung,
@@ -1154,11 +1511,11 @@ public class SubstantivFlektierer implements IFlektierer {
 		// der
 		// Zahl
 
-		return SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
+		return buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
 				artikelwortbezugFuerGattungsdeklinationGenitiv, stammWennOhneEndung);
 	}
 
-	private static Wortform stdGenSgSchwach(final Lexeme lexeme, final String pos,
+	private static IWordForm stdGenSgSchwach(final Lexeme lexeme, final String pos,
 			final boolean lexemStehtMitArtikelAusserImTelegrammstil,
 			final boolean etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 			final boolean stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, final String stammWennMitEndung) {
@@ -1181,17 +1538,18 @@ public class SubstantivFlektierer implements IFlektierer {
 			// "des Herrn"
 			// (Duden 330)
 			// des Zeuge-n, des Bauer-n
-			return SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
+			return buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
 					artikelwortbezug, stammWennMitEndung + "n");
 		}
 
 		// des Prinz-en
-		return SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
+		return buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.GEN_OHNE_S_UND_R, SINGULAR,
 				artikelwortbezug, stammWennMitEndung + "en");
 	}
 
-	private static boolean genitivendungEsErlaubtBeiStarkerDeklination(final String nomSg,
+	private static boolean genitivendungEsErlaubtBeiStarkerDeklination(final PhonologischesProfil profil,
 			final FremdwortTyp fremdwortTyp) {
+		final String nomSg = profil.getWortform();
 		if (nomSg.endsWith("e")) {// ee-es nicht mglich, und ich denke, e-es
 			// ebenfalls nicht
 			// (*See-es), *Auge-es
@@ -1199,7 +1557,7 @@ public class SubstantivFlektierer implements IFlektierer {
 			return false;
 		}
 
-		if (fremdwortTyp.isFremdwort() && GermanUtil.endetAufVollvokal(nomSg)) { // -es
+		if (fremdwortTyp.isFremdwort() && profil.endetAufVollvokal()) { // -es
 			// bei
 			// Fremdwrtern
 			// auf Vokal
@@ -1209,7 +1567,7 @@ public class SubstantivFlektierer implements IFlektierer {
 			return false;
 		}
 
-		if (GermanUtil.endetUnbetontMitSilbenreimElEnEndEmEr(nomSg)) { // Duden
+		if (profil.endetUnbetontMitSilbenreimElEnEndEmEr()) { // Duden
 			// 306
 			return false;
 		}
@@ -1271,7 +1629,7 @@ public class SubstantivFlektierer implements IFlektierer {
 				etablierteGruppeArtikelSgNurBeiSubjektNoetig, stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional,
 				DATIV);
 
-		res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+		res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 				artikelwortbezugLexemDativ, stammMitNOderEnFallsGemischt(stammWennOhneEndung, gemischt))); // Haus,
 		// Frieden,
 		// Felsen,
@@ -1281,7 +1639,7 @@ public class SubstantivFlektierer implements IFlektierer {
 				SubstantivFlexionsklasse.GEMISCHT_TYP_HERZ)) {
 			// Duden 339, 340
 			// dem Fels, dem Herz, dem Kunstherz
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 					artikelwortbezugLexemDativ, stammOhneEn(stammWennOhneEndung))); // Fels, Herz, Kunstherz
 		}
 
@@ -1289,7 +1647,8 @@ public class SubstantivFlektierer implements IFlektierer {
 			if (!StringUtil.endsWith(stammWennMitEndung, "el")) { // *dem
 				// Segele
 				// dem Raume
-				if (genitivendungEsErlaubtBeiStarkerDeklination(stammWennOhneEndung, fremdwortTyp)) {
+				if (genitivendungEsErlaubtBeiStarkerDeklination(PhonologischesProfil.of(stammWennOhneEndung),
+						fremdwortTyp)) {
 
 					// Bei einem (mnnlichen) EIGENNAMEN kann das Dativ-e
 					// nur
@@ -1303,7 +1662,7 @@ public class SubstantivFlektierer implements IFlektierer {
 							: artikelwortbezugLexemDativ;
 
 					// Dudem 317, Faktor I
-					res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+					res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 							artikelwortBezugFuerDativE, stammWennMitEndung + "e"));
 				}
 			}
@@ -1330,12 +1689,12 @@ public class SubstantivFlektierer implements IFlektierer {
 		}
 
 		if (folgeESollteFuerPluralOderSchwacheDeklinationEntfallen(stammWennMitEndung)) {
-			return SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, kasus, SINGULAR,
+			return buildKompakteSubstantivWortform(lexeme, pos, kasus, SINGULAR,
 					Artikelwortbezug.ZWINGEND_OHNE_ARTIKELWORT_UND_KEIN_NOMINATIV, stammWennMitEndung + "n"); // Muttern,
 																																																		// Menzeln
 		}
 
-		return SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+		return buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 				Artikelwortbezug.ZWINGEND_OHNE_ARTIKELWORT_UND_KEIN_NOMINATIV, stammWennMitEndung + "en"); // Gellerten
 	}
 
@@ -1360,15 +1719,15 @@ public class SubstantivFlektierer implements IFlektierer {
 			// "dem Herrn"
 			// (Duden 330)
 			// dem Zeuge-n, dem Bauer-n
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 					artikelwortbezugFuerGattungsdeklinationDativSchwach, stammWennMitEndung + "n"));
 		} else {
 			// dem Prinz-en
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 					artikelwortbezugFuerGattungsdeklinationDativSchwach, stammWennMitEndung + "en"));
 		}
 		if (eigenname) {
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, SINGULAR,
 					Artikelwortbezug.ZWINGEND_OHNE_ARTIKELWORT_UND_KEIN_NOMINATIV, stammWennOhneEndung));
 		}
 
@@ -1422,14 +1781,14 @@ public class SubstantivFlektierer implements IFlektierer {
 				eigenname || wieEinEigennameGebraucht(lexeme), etablierteGruppeArtikelSgNurBeiSubjektNoetig,
 				stoffbezeichnungSammelbezeichnungOderAbstraktumArtikelOptional, Kasus.AKKUSATIV);
 
-		res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR, artikelwortbezug,
+		res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR, artikelwortbezug,
 				stammMitNOderEnFallsGemischt(stammWennOhneEndung, gemischt))); // Haus,
 
 		if (CollectionUtil.containsAny(flexKlassen, SubstantivFlexionsklasse.GEMISCHT_TYP_FELS,
 				SubstantivFlexionsklasse.GEMISCHT_TYP_HERZ)) {
 			// Duden 339, 340
 			// dem Fels, dem Herz, dem Kunstherz
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR, artikelwortbezug,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR, artikelwortbezug,
 					stammOhneEn(stammWennOhneEndung))); // Fels, Herz, Kunstherz
 		}
 
@@ -1459,31 +1818,30 @@ public class SubstantivFlektierer implements IFlektierer {
 			// "den Herrn"
 			// (Duden 330)
 			// den Zeuge-n, den Bauer-n
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
 					artikelwortbezugFuerGattungsdeklinationAkkSchwach, stammWennMitEndung + "n"));
 		} else {
 			// den Prinz-en
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
 					artikelwortbezugFuerGattungsdeklinationAkkSchwach, stammWennMitEndung + "en"));
 		}
 		if (eigenname) {
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
+			res.add(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, SINGULAR,
 					Artikelwortbezug.ZWINGEND_OHNE_ARTIKELWORT_UND_KEIN_NOMINATIV, stammWennOhneEndung));
 		}
 
 		return res.build();
 	}
 
-	private static Collection<IWordForm> stdPlural(final Lexeme lexeme, final String pos,
-			final boolean lexemStehtMitArtikelAusserImTelegrammstil, final String plural) {
-		final ImmutableList.Builder<IWordForm> res = ImmutableList.builder();
-
+	private static void stdPlural(final Lexeme lexeme, final String pos,
+			final boolean lexemStehtMitArtikelAusserImTelegrammstil, final String plural,
+			final Consumer<? super IWordForm> sink) {
 		final Artikelwortbezug artikelwortbezug = lexemStehtMitArtikelAusserImTelegrammstil
 				? Artikelwortbezug.ZWINGEND_MIT_ARTIKELWORT_AUSSER_IM_TELEGRAMMSTIL
 				: Artikelwortbezug.IM_NORMALSTIL_MIT_ODER_OHNE_ARTIKELWORT;
 
 		// NOMINATIV
-		final Wortform nomPl = SubstantivFlektierer.buildSubstantivWortform(lexeme, pos,
+		final IWordForm nomPl = buildKompakteSubstantivWortform(lexeme, pos,
 				KasusInfo.NOM_NICHT_ETWA_DAT_AKK_MIT_UNTERL_KASUSFLEX, // nur im
 				// Singular
 				// mglich.
@@ -1492,11 +1850,11 @@ public class SubstantivFlektierer implements IFlektierer {
 				// sondern "mit Kindern".
 				PLURAL, artikelwortbezug, plural);
 
-		res.add(nomPl);
+		sink.accept(nomPl);
 
 		// Regel K5 (Duden 299): SubstantivFlexionsklasse fr Plural
 		// GENITIV
-		res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos,
+		sink.accept(buildKompakteSubstantivWortform(lexeme, pos,
 				SubstantivPronomenUtil.guessGenitivNomenInfoPl(plural), // Eine
 				// Endung
 				// wie
@@ -1510,11 +1868,11 @@ public class SubstantivFlektierer implements IFlektierer {
 
 		// DATIV
 		// Vgl. Duden 341
-		final Boolean endetUnbetontAufEElEr = GermanUtil.endetUnbetontMitSilbenreimEELEr(plural);
+		final Boolean endetUnbetontAufEElEr = PhonologischesProfil.of(plural).endetUnbetontMitSilbenreimEELEr();
 
 		if (Boolean.TRUE.equals(endetUnbetontAufEElEr) || endetUnbetontAufEElEr == null) {
 			// den Trmmern
-			res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, PLURAL, artikelwortbezug,
+			sink.accept(buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, PLURAL, artikelwortbezug,
 					plural + "n"));
 		}
 
@@ -1522,14 +1880,13 @@ public class SubstantivFlektierer implements IFlektierer {
 				endetUnbetontAufEElEr == null || plural.toLowerCase().endsWith("lnder")) { // auch die
 			// Ausnahme:
 			// "aus aller Herren Lnder"
-			res.add(
-					SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.DAT, PLURAL, artikelwortbezug, plural));
+			sink.accept(
+					buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.DAT, PLURAL, artikelwortbezug, plural));
 		}
 
 		// AKKUSATIV
-		res.add(SubstantivFlektierer.buildSubstantivWortform(lexeme, pos, KasusInfo.AKK, PLURAL, artikelwortbezug, plural));
-
-		return res.build();
+		sink.accept(
+				buildKompakteSubstantivWortform(lexeme, pos, KasusInfo.AKK, PLURAL, artikelwortbezug, plural));
 	}
 
 	/**
@@ -1551,8 +1908,19 @@ public class SubstantivFlektierer implements IFlektierer {
 		return 0;
 	}
 
+	/**
+	 * Erzeugt die Wortform vollstaendig, mit allen Merkmalen - gleich (im Sinne
+	 * von {@link Wortform#equals(Object)}) der {@link KompakteWortform}, die die
+	 * Flexion selbst verwendet.
+	 */
 	public static Wortform buildSubstantivWortform(final ILexeme lexeme, final String pos, final KasusInfo kasusInfo,
 			final Numerus numerus, final Artikelwortbezug artikelwortbezug, final String string) {
+		return Wortform.lexemeFeaturesAlreadyIntegrated(lexeme, pos, string,
+				buildKompakteSubstantivWortform(lexeme, pos, kasusInfo, numerus, artikelwortbezug, string).getFeatures());
+	}
+
+	private static KompakteWortform buildKompakteSubstantivWortform(final ILexeme lexeme, final String pos,
+			final KasusInfo kasusInfo, final Numerus numerus, final Artikelwortbezug artikelwortbezug, final String string) {
 
 		// @formatter:off
     final FeatureStructure features = LexiconFeatureStructureUtil
@@ -1588,15 +1956,12 @@ public class SubstantivFlektierer implements IFlektierer {
                 MOEGLICHERWEISE_DAT_ODER_AKK_MIT_UNTERLASSENER_KASUSFLEXION_KEY,
                 StringFeatureLogicUtil.booleanToString(kasusInfo
                     .isMglwDatOderAkkMitUnterlassenerKasusflexion()))
-            .put(
-                GermanUtil.NENNFORM_KEY,
-                lexeme.getCanonicalizedForm())
             .build());
     // @formatter:on
 
-		final Wortform res = new Wortform(lexeme, pos, string, features);
-
-		return res;
+		// Die Nennform steuert die KompakteWortform bei - so koennen alle Lexeme
+		// dieser Flexionsklasse dieselben Wortformmerkmale nutzen.
+		return new KompakteWortform(lexeme, Wortformmerkmale.of(pos, features, true), string);
 	}
 
 	/**
@@ -1622,11 +1987,10 @@ public class SubstantivFlektierer implements IFlektierer {
 	 * @return <code>null</code>, falls keine Ausnahme hierfr bekannt ist
 	 */
 	private static String findAusname(final String input, final ImmutableCollection<Pair<String, String>> ausnahmeEnden) {
-		final String singularToLowerCase = input.toLowerCase();
-
 		for (final Pair<String, String> ausnahmeende : ausnahmeEnden) {
 			final String ende = ausnahmeende.first();
-			if (singularToLowerCase.endsWith(ende)) {
+			if (StringUtil.endsWithIgnoreCase(input, ende)) {
+				Regelbeobachtung.zaehle("SubstantivFlektierer.findAusname");
 				final String neuesEnde = ausnahmeende.second();
 
 				return tauscheEndeAus(input, ende, neuesEnde);
@@ -1641,11 +2005,9 @@ public class SubstantivFlektierer implements IFlektierer {
 	 */
 	private static Collection<String> findAusnahmealternativen(final String input,
 			final ImmutableCollection<Pair<String, String[]>> ausnahmeEndenMitAlternativen) {
-		final String singularToLowerCase = input.toLowerCase();
-
 		for (final Pair<String, String[]> ausnahmeende : ausnahmeEndenMitAlternativen) {
 			final String ende = ausnahmeende.first();
-			if (singularToLowerCase.endsWith(ende)) {
+			if (StringUtil.endsWithIgnoreCase(input, ende)) {
 				final ImmutableList.Builder<String> plurale = ImmutableList.builder();
 
 				for (final String neuesEndeAlternative : ausnahmeende.second()) {
@@ -1662,24 +2024,24 @@ public class SubstantivFlektierer implements IFlektierer {
 	 * @return leer, falls keine Ausnahme hierfr bekannt ist
 	 */
 	private static Collection<SubstantivFlexionsklasse> findAusnahmeMaskFlexionsklasse(final String singular) {
-		final String singularToLowerCase = singular.toLowerCase();
-		final Collection<String> singularAlternativen = new LinkedList<>();
+		final Wortbaustein singularToLowerCase = Wortbaustein.of(singular.toLowerCase());
+		final Collection<Wortbaustein> singularAlternativen = new LinkedList<>();
 		singularAlternativen.add(singularToLowerCase);
-		if (singularToLowerCase.endsWith("e")) {
+		if (singularToLowerCase.endetAuf("e")) {
 			// z.B. Friede -> auch nach Frieden suchen!
-			singularAlternativen.add(singularToLowerCase + "n");
+			singularAlternativen.add(singularToLowerCase.plus("n"));
 		}
-		if (singularToLowerCase.endsWith("n") && singularToLowerCase.length() > 1) {
+		if (singularToLowerCase.endetAuf("n") && singularToLowerCase.length() > 1) {
 			// z.B. Frieden -> auch nach Friede suchen!
-			singularAlternativen.add(singularToLowerCase.substring(0, singularToLowerCase.length() - 1));
+			singularAlternativen.add(singularToLowerCase.ohneLetzte(1));
 		}
 
 		final ImmutableSet.Builder<SubstantivFlexionsklasse> res = ImmutableSet.builder();
 
-		for (final String singularAlternative : singularAlternativen) {
+		for (final Wortbaustein singularAlternative : singularAlternativen) {
 			for (final Pair<String, EnumSet<SubstantivFlexionsklasse>> ausnahmeende : AUSNAHMEENDEN_MIT_ALTERNATIVEN_MASK_FLEXIONSKLASSEN) {
 				final String ende = ausnahmeende.first();
-				if (singularAlternative.endsWith(ende)) {
+				if (singularAlternative.endetAuf(ende)) {
 					res.addAll(ausnahmeende.second());
 					break; // INNERE SCHLEIFE abbrechen - fr DIESE ALTERNATIVE
 					// die weiteren Ausnahmen nicht mehr durchsuchen (es gilt
@@ -1695,15 +2057,8 @@ public class SubstantivFlektierer implements IFlektierer {
 	}
 
 	private static String tauscheEndeAus(final String basis, final String altesEnde, final String neuesEnde) {
-		if (basis.equals(altesEnde)) {
-			// singular == ende -> Gro/Kleinschreibung bernehmen
-			if (Character.isUpperCase(basis.charAt(0))) {
-				return Character.toUpperCase(neuesEnde.charAt(0)) + neuesEnde.substring(1);
-			}
-		}
-
-		final String pluralKlein = basis.substring(0, basis.length() - altesEnde.length()) + neuesEnde;
-		return Character.toUpperCase(pluralKlein.charAt(0)) + pluralKlein.substring(1);
+		// (auch wenn singular == ende: Substantive werden grogeschrieben)
+		return Wortbaustein.of(basis).ohneLetzte(altesEnde.length()).plus(neuesEnde).grossgeschrieben().toString();
 	}
 
 	private static boolean folgeESollteFuerPluralOderSchwacheDeklinationEntfallen(final String singular) {
@@ -1785,4 +2140,104 @@ public class SubstantivFlektierer implements IFlektierer {
 		}
 	}
 
+	/**
+	 * Die aus einem Substantiv-Lexem abgeleiteten Informationen (Genus,
+	 * Pluralausnahmen, Plural und Flexionsklassen), die pro Lexem nur einmal
+	 * ermittelt werden.
+	 * <p>
+	 * Plural und Flexionsklassen haengen ausserdem von einigen (im Lexikon fest
+	 * vorgegebenen) Parametern ab - sie werden daher pro Parameterkombination
+	 * gecachet.
+	 */
+	@ThreadSafe
+	private static final class Substantivmorphologie {
+		private final Lexeme lexeme;
+
+		private final @Nullable Genus genus;
+
+		private final boolean mask;
+		private final boolean fem;
+		private final boolean neut;
+
+		private final Collection<String> pluralausnahmeAlternativen;
+
+		private final PhonologischesProfil profil;
+
+		private final ConcurrentHashMap<List<Object>, Collection<String>> plurale = new ConcurrentHashMap<>();
+
+		private final ConcurrentHashMap<List<Object>, Collection<SubstantivFlexionsklasse>> flexionsklassenSingularMitArtikelwort = new ConcurrentHashMap<>();
+
+		private Substantivmorphologie(final Lexeme lexeme) {
+			super();
+			this.lexeme = lexeme;
+			genus = FeatureStringConverter.toGenus(lexeme.getStringFeatureValue("genus"));
+			mask = SubstantivPronomenUtil.isMask(lexeme);
+			fem = SubstantivPronomenUtil.isFem(lexeme);
+			neut = SubstantivPronomenUtil.isNeut(lexeme);
+			pluralausnahmeAlternativen = findPluralAusnahme(lexeme.getCanonicalizedForm());
+			profil = PhonologischesProfil.of(lexeme.getCanonicalizedForm());
+		}
+
+		static Substantivmorphologie of(final Lexeme lexeme) {
+			return lexeme.getMorphologieprofil(Substantivmorphologie.class, Substantivmorphologie::new);
+		}
+
+		Lexeme getLexeme() {
+			return lexeme;
+		}
+
+		@Nullable
+		Genus getGenus() {
+			return genus;
+		}
+
+		/**
+		 * @return <code>true</code>, if the genus is masculine, or unspecified
+		 */
+		boolean isMask() {
+			return mask;
+		}
+
+		/**
+		 * @return <code>true</code>, if the genus is feminine, or unspecified
+		 */
+		boolean isFem() {
+			return fem;
+		}
+
+		/**
+		 * @return <code>true</code>, if the genus is neuter, or unspecified
+		 */
+		boolean isNeut() {
+			return neut;
+		}
+
+		/**
+		 * @return leer, falls keine Plural-Ausnahme hierfuer bekannt ist
+		 */
+		Collection<String> getPluralausnahmeAlternativen() {
+			return pluralausnahmeAlternativen;
+		}
+
+		/**
+		 * @return das lautliche Profil des Nominativ Singular (der Grundform)
+		 */
+		PhonologischesProfil getProfil() {
+			return profil;
+		}
+
+		Collection<String> plural(final FremdwortTyp fremdwortTyp, final boolean kommtEinemEigennameNahe,
+				final boolean personOderTier) {
+			return plurale.computeIfAbsent(ImmutableList.of(fremdwortTyp, kommtEinemEigennameNahe, personOderTier),
+					k -> ImmutableList.copyOf(berechnePlural(this, fremdwortTyp, kommtEinemEigennameNahe, personOderTier)));
+		}
+
+		Collection<SubstantivFlexionsklasse> flexionsklassenSingularMitArtikelwort(final boolean eigenname,
+				final FremdwortTyp fremdwortTyp, final boolean personOderTier, final Collection<String> plurale) {
+			return flexionsklassenSingularMitArtikelwort.computeIfAbsent(
+					ImmutableList.of(eigenname, fremdwortTyp, personOderTier, ImmutableList.copyOf(plurale)),
+					k -> ImmutableList.copyOf(berechneFlexionsklassenSingularMitArtikelwort(this, eigenname, fremdwortTyp,
+							personOderTier, plurale)));
+		}
+	}
 }
@@ -0,0 +1,12 @@
+package de.nb.federkiel.event;
+
+/**
+ * Gets informed about finished operations - see {@link OperationEvents}.
+ * <p>
+ * Listeners are called from any thread and right after the operation - they
+ * should be thread-safe and quick.
+ */
+@FunctionalInterface
+public interface IOperationEventListener {
+	void operationFinished(OperationEvent event);
+}
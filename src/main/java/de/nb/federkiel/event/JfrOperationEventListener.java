@@ -0,0 +1,79 @@
+package de.nb.federkiel.event;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Commits a Java Flight Recorder event for each {@link OperationEvent}, so that
+ * the operations show up in (production) recordings. Enable it like this:
+ *
+ * <pre>
+ * OperationEvents.setListener(new JfrOperationEventListener());
+ * </pre>
+ *
+ * The JFR events are named <i>de.nb.federkiel.Operation</i>. They are only
+ * filled, when a recording has enabled them. The operation has already ended,
+ * when the listener is called - so the duration is recorded in a field of its
+ * own (<i>durationNanos</i>), and a recording threshold does not apply to it.
+ * <p>
+ * Needs a JDK with <code>jdk.jfr</code> (OpenJDK 8u262 or later, or Java 11 or
+ * later) - nothing else in this library depends on it, so this class must only
+ * be loaded on such a JDK.
+ */
+@ThreadSafe
+public final class JfrOperationEventListener implements IOperationEventListener {
+	/**
+	 * The name of the JFR events
+	 */
+	public static final String EVENT_NAME = "de.nb.federkiel.Operation";
+
+	@Override
+	public void operationFinished(final OperationEvent event) {
+		final JfrOperationEvent jfrEvent = new JfrOperationEvent();
+		if (!jfrEvent.shouldCommit()) {
+			return;
+		}
+
+		jfrEvent.durationNanos = event.getDurationNanos();
+		jfrEvent.operation = event.getOperation();
+		final @Nullable Object subject = event.getSubject();
+		jfrEvent.subject = subject == null ? null : subject.toString();
+		jfrEvent.numberOfAlternatives = event.getNumberOfAlternatives();
+		jfrEvent.failed = event.isFailed();
+		jfrEvent.commit();
+	}
+
+	@Name(EVENT_NAME)
+	@Label("Federkiel Operation")
+	@Category("Federkiel")
+	@Description("An expensive operation, like the inflection of a lexeme")
+	@StackTrace(false)
+	static final class JfrOperationEvent extends Event {
+		@Label("Operation")
+		String operation;
+
+		@Label("Subject")
+		@Description("The lexeme (or term etc.) the operation worked on")
+		@Nullable
+		String subject;
+
+		@Label("Number of Alternatives")
+		@Description("-1, if the operation failed")
+		int numberOfAlternatives;
+
+		@Label("Failed")
+		boolean failed;
+
+		@Label("Operation Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long durationNanos;
+	}
+}
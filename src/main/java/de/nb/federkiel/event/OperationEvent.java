@@ -0,0 +1,77 @@
+package de.nb.federkiel.event;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A finished (and timed) operation - like the inflection of a lexeme or the
+ * merge of two feature structures - with the number of alternatives it
+ * produced. An operation can also have failed (with an exception).
+ */
+@Immutable
+@ThreadSafe
+public final class OperationEvent {
+	private final String operation;
+
+	/**
+	 * The lexeme (or term etc.) the operation worked on - might be
+	 * <code>null</code>
+	 */
+	private final @Nullable Object subject;
+
+	private final int numberOfAlternatives;
+
+	private final long durationNanos;
+
+	private final boolean failed;
+
+	OperationEvent(final String operation, final @Nullable Object subject, final int numberOfAlternatives,
+			final long durationNanos, final boolean failed) {
+		this.operation = operation;
+		this.subject = subject;
+		this.numberOfAlternatives = numberOfAlternatives;
+		this.durationNanos = durationNanos;
+		this.failed = failed;
+	}
+
+	/**
+	 * @return something like <i>SubstantivFlektierer.std</i>
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the lexeme (or term etc.) the operation worked on - or
+	 *         <code>null</code>. Converting it to a String might be expensive,
+	 *         so do that only when necessary.
+	 */
+	public @Nullable Object getSubject() {
+		return subject;
+	}
+
+	/**
+	 * @return the number of alternatives - -1, if the operation failed
+	 */
+	public int getNumberOfAlternatives() {
+		return numberOfAlternatives;
+	}
+
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * @return whether the operation failed with an exception
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	@Override
+	public String toString() {
+		return operation + "(" + subject + "): " + (failed ? "failed" : numberOfAlternatives + " alternatives") + ", "
+				+ durationNanos + " ns";
+	}
+}
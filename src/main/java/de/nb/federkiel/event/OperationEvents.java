@@ -0,0 +1,66 @@
+package de.nb.federkiel.event;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Records expensive operations (inflection of a lexeme, merging feature
+ * structures, evaluating plurival terms), for finding out where the time goes
+ * for a certain input.
+ * <p>
+ * Recording is disabled by default. As long as no listener is set, an operation
+ * costs one volatile read at its start - no clock is read and no event is
+ * built. (The inflection engines do not call this class directly, but report
+ * their operations via
+ * <code>de.nb.federkiel.deutsch.grammatik.wortart.flexion.Regelbeobachtung</code>
+ * - which passes them on to the listener set here.)
+ * <p>
+ * On a JDK with Java Flight Recorder, the {@link JfrOperationEventListener}
+ * commits a JFR event for each {@link OperationEvent}, so that the operations
+ * show up in production recordings.
+ */
+@ThreadSafe
+public final class OperationEvents {
+	/**
+	 * The listener - <code>null</code> if disabled
+	 */
+	private static volatile @Nullable IOperationEventListener listener = null;
+
+	private OperationEvents() {
+	}
+
+	/**
+	 * Enables recording, sending all events to this listener (instead of the
+	 * former one).
+	 *
+	 * @param newListener <code>null</code> disables recording
+	 */
+	public static void setListener(final @Nullable IOperationEventListener newListener) {
+		listener = newListener;
+	}
+
+	public static @Nullable IOperationEventListener getListener() {
+		return listener;
+	}
+
+	public static boolean isEnabled() {
+		return listener != null;
+	}
+
+	/**
+	 * Call this at the start of an operation - and {@link OperationTimer#end()}
+	 * in a <code>finally</code> block.
+	 *
+	 * @param subject the lexeme (or term etc.) the operation works on - might be
+	 *                <code>null</code>
+	 * @return {@link OperationTimer#DISABLED}, if recording is disabled
+	 */
+	public static OperationTimer begin(final String operation, final @Nullable Object subject) {
+		final @Nullable IOperationEventListener currentListener = listener;
+		if (currentListener == null) {
+			return OperationTimer.DISABLED;
+		}
+
+		return OperationTimer.start(operation, subject, currentListener);
+	}
+}
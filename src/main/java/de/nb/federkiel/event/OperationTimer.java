@@ -0,0 +1,140 @@
+package de.nb.federkiel.event;
+
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Times one operation and reports it to a listener, when the operation ends.
+ * Use it like this:
+ *
+ * <pre>
+ * final OperationTimer timer = OperationEvents.begin("SomeClass.operation", subject);
+ * try {
+ * 	final Collection&lt;...&gt; res = ...;
+ * 	timer.setNumberOfAlternatives(res.size());
+ * 	return res;
+ * } finally {
+ * 	timer.end();
+ * }
+ * </pre>
+ *
+ * If the operation fails (so that the number of alternatives has not been
+ * set), the event is reported as failed. An operation that passes its
+ * alternatives to a sink instead can let the timer count them (see
+ * {@link #counting(Consumer)}).
+ * <p>
+ * A timer belongs to the thread that runs the operation.
+ */
+@NotThreadSafe
+public final class OperationTimer {
+	/**
+	 * The timer used when nobody is interested in the operation - it does not
+	 * read the clock and does not report anything
+	 */
+	public static final OperationTimer DISABLED = new OperationTimer(false, "", null, null);
+
+	private final boolean enabled;
+
+	private final String operation;
+
+	private final @Nullable Object subject;
+
+	private final @Nullable IOperationEventListener listener;
+
+	private final long start;
+
+	/**
+	 * -1, as long as it has not been set
+	 */
+	private int numberOfAlternatives = -1;
+
+	/**
+	 * The alternatives passed to a sink from {@link #counting(Consumer)} so far
+	 */
+	private int countedAlternatives;
+
+	private boolean ended;
+
+	/**
+	 * Starts timing this operation.
+	 *
+	 * @param subject  the lexeme (or term etc.) the operation works on - might
+	 *                 be <code>null</code>
+	 * @param listener gets the event, when the operation ends
+	 */
+	public static OperationTimer start(final String operation, final @Nullable Object subject,
+			final IOperationEventListener listener) {
+		return new OperationTimer(true, operation, subject, listener);
+	}
+
+	private OperationTimer(final boolean enabled, final String operation, final @Nullable Object subject,
+			final @Nullable IOperationEventListener listener) {
+		this.enabled = enabled;
+		this.operation = operation;
+		this.subject = subject;
+		this.listener = listener;
+		start = enabled ? System.nanoTime() : 0;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets the number of alternatives the operation produced - this marks the
+	 * operation as successful.
+	 */
+	public void setNumberOfAlternatives(final int numberOfAlternatives) {
+		if (!enabled) {
+			return;
+		}
+
+		this.numberOfAlternatives = numberOfAlternatives;
+	}
+
+	/**
+	 * Returns a sink that passes everything on to this <code>sink</code> and
+	 * counts it. When the operation has succeeded, call
+	 * {@link #setNumberOfAlternativesCounted()}.
+	 *
+	 * @return the <code>sink</code> itself, if the timer is disabled
+	 */
+	public <T> Consumer<T> counting(final Consumer<T> sink) {
+		if (!enabled) {
+			return sink;
+		}
+
+		return alternative -> {
+			countedAlternatives++;
+			sink.accept(alternative);
+		};
+	}
+
+	/**
+	 * Sets the number of alternatives to the number counted by the sink from
+	 * {@link #counting(Consumer)} - this marks the operation as successful.
+	 */
+	public void setNumberOfAlternativesCounted() {
+		setNumberOfAlternatives(countedAlternatives);
+	}
+
+	/**
+	 * Ends the operation and reports it (only the first call has an effect).
+	 */
+	public void end() {
+		if (!enabled || ended) {
+			return;
+		}
+
+		ended = true;
+
+		final long durationNanos = System.nanoTime() - start;
+
+		@SuppressWarnings("null") // the listener is set, if enabled
+		final IOperationEventListener enabledListener = listener;
+		enabledListener.operationFinished(new OperationEvent(operation, subject, numberOfAlternatives,
+				durationNanos, numberOfAlternatives < 0));
+	}
+}
@@ -21,16 +21,20 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.UnmodifiableIterator;
 
 import de.nb.federkiel.cache.WeakCache;
 import de.nb.federkiel.collection.CollectionUtil;
+import de.nb.federkiel.collection.PersistentHashMap;
+import de.nb.federkiel.event.OperationEvents;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.interfaces.IFeatureValue;
 import de.nb.federkiel.interfaces.ISemantics;
+import de.nb.federkiel.plurivallogic.EvaluationBudget;
 import de.nb.federkiel.plurivallogic.Plurival;
 import de.nb.federkiel.semantik.NothingInParticularSemantics;
 
@@ -56,9 +60,11 @@ public class FeatureStructure implements IFeatureValue {
 	final private static WeakCache<FeatureStructure> cache = new WeakCache<>();
 
 	/**
-	 * The (slotted) features with name and value.
+	 * The (slotted) features with name and value. A persistent map, so that
+	 * feature structures, that only differ in one feature (one slot filled, e.g.),
+	 * share most of their features.
 	 */
-	private final ImmutableMap<String, IFeatureValue> features;
+	private final PersistentHashMap<String, IFeatureValue> features;
 
 	/**
 	 * The semantics (might be a {@link NothingInParticularSemantics})
@@ -117,7 +123,7 @@ public class FeatureStructure implements IFeatureValue {
 	 * minimize memory use!
 	 */
 	private FeatureStructure(@Nullable final SurfacePart surfacePart) {
-		this(surfacePart, ImmutableMap.<String, IFeatureValue>of());
+		this(surfacePart, PersistentHashMap.<String, IFeatureValue>of());
 	}
 
 	/**
@@ -125,7 +131,7 @@ public class FeatureStructure implements IFeatureValue {
 	 * minimize memory use!
 	 */
 	private FeatureStructure(@Nullable final SurfacePart surfacePart,
-			final ImmutableMap<String, IFeatureValue> features) {
+			final PersistentHashMap<String, IFeatureValue> features) {
 		this(surfacePart, features, NothingInParticularSemantics.INSTANCE, ImmutableSet.of());
 	}
 
@@ -133,7 +139,7 @@ public class FeatureStructure implements IFeatureValue {
 	 * When calling this, always use <code>cache.findOrInsert(...)</code>, to
 	 * minimize memory use!
 	 */
-	private FeatureStructure(@Nullable final SurfacePart surfacePart, final ImmutableMap<String, IFeatureValue> features,
+	private FeatureStructure(@Nullable final SurfacePart surfacePart, final PersistentHashMap<String, IFeatureValue> features,
 			ISemantics semantics) {
 		this(surfacePart, features, semantics, ImmutableSet.of());
 	}
@@ -142,7 +148,7 @@ public class FeatureStructure implements IFeatureValue {
 	 * When calling this, always use <code>cache.findOrInsert(...)</code>, to
 	 * minimize memory use!
 	 */
-	private FeatureStructure(@Nullable final SurfacePart surfacePart, final ImmutableMap<String, IFeatureValue> features,
+	private FeatureStructure(@Nullable final SurfacePart surfacePart, final PersistentHashMap<String, IFeatureValue> features,
 			ISemantics semantics, ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings) {
 		// There can only be free fillings, if there are NO features at all!
 		if (!features.isEmpty()) {
@@ -196,6 +202,18 @@ public class FeatureStructure implements IFeatureValue {
 	 */
 	Plurival<FeatureStructure> mergeWithoutSemantics(final FeatureStructure other,
 			final IFillingUsageRestrictor fillingUsageRestrictor) throws IllegalArgumentException {
+		final OperationTimer timer = OperationEvents.begin("FeatureStructure.mergeWithoutSemantics", null);
+		try {
+			final Plurival<FeatureStructure> res = mergeWithoutSemanticsUnrecorded(other, fillingUsageRestrictor);
+			timer.setNumberOfAlternatives(res.size());
+			return res;
+		} finally {
+			timer.end();
+		}
+	}
+
+	private Plurival<FeatureStructure> mergeWithoutSemanticsUnrecorded(final FeatureStructure other,
+			final IFillingUsageRestrictor fillingUsageRestrictor) throws IllegalArgumentException {
 		if (features.isEmpty() && other.features.isEmpty()) {
 			// Case 1: this: no features (maybe some free fillings),
 			// other: no features (maybe more fillings)
@@ -384,7 +402,7 @@ public class FeatureStructure implements IFeatureValue {
 	 * Builds a FeatureStructure Plurival from the alternatives
 	 */
 	private static Plurival<FeatureStructure> buildFeatureStructurePlurivalFromFeatureAlternativesWithoutSemantics(
-			SurfacePart surfacePart, final Collection<ImmutableMap<String, IFeatureValue>> alternatives) {
+			SurfacePart surfacePart, final Collection<PersistentHashMap<String, IFeatureValue>> alternatives) {
 		// @formatter:off
 		return Plurival.of(alternatives.stream().map(features -> FeatureStructure.fromValues(surfacePart, features))
 				.collect(toImmutableList()));
@@ -419,8 +437,8 @@ public class FeatureStructure implements IFeatureValue {
 	 *                               the <i>Subjekt</i> in one part and the
 	 *                               <i>Praedikatsnomen</i> in the other!)
 	 */
-	private static Collection<ImmutableMap<String, IFeatureValue>> fillFeaturesConsumingAllFillings(
-			ImmutableMap<String, IFeatureValue> features,
+	private static Collection<PersistentHashMap<String, IFeatureValue>> fillFeaturesConsumingAllFillings(
+			PersistentHashMap<String, IFeatureValue> features,
 			final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings,
 			final IFillingUsageRestrictor fillingUsageRestrictor) {
 
@@ -429,8 +447,8 @@ public class FeatureStructure implements IFeatureValue {
 		// and then consume the free fillings, one after the other.
 		// (ALL fillings have to be consumed!)
 
-		ImmutableCollection<ImmutableMap<String, IFeatureValue>> alternatives = ImmutableList
-				.<ImmutableMap<String, IFeatureValue>>of(features);
+		ImmutableCollection<PersistentHashMap<String, IFeatureValue>> alternatives = ImmutableList
+				.<PersistentHashMap<String, IFeatureValue>>of(features);
 
 		for (final IHomogeneousConstituentAlternatives freeFilling : freeFillings) {
 			alternatives = ImmutableList
@@ -466,16 +484,16 @@ public class FeatureStructure implements IFeatureValue {
 	 *                               <i>Subjekt</i> in one part and the
 	 *                               <i>Praedikatsnomen</i> in the other!)
 	 */
-	private static ImmutableCollection<ImmutableMap<String, IFeatureValue>> fillFeaturesConsumingFilling(
-			final Collection<ImmutableMap<String, IFeatureValue>> alternatives,
+	private static ImmutableCollection<PersistentHashMap<String, IFeatureValue>> fillFeaturesConsumingFilling(
+			final Collection<PersistentHashMap<String, IFeatureValue>> alternatives,
 			final IHomogeneousConstituentAlternatives freeFilling, final IFillingUsageRestrictor fillingUsageRestrictor) {
 		final String onlyAllowedFeatureName = fillingUsageRestrictor.getRestrictedNameFor(freeFilling);
 
-		final ImmutableList.Builder<ImmutableMap<String, IFeatureValue>> res = ImmutableList
-				.<ImmutableMap<String, IFeatureValue>>builder();
+		final ImmutableList.Builder<PersistentHashMap<String, IFeatureValue>> res = ImmutableList
+				.<PersistentHashMap<String, IFeatureValue>>builder();
 
 		// Iterate over all alternatives we already have
-		for (final ImmutableMap<String, IFeatureValue> oldFeatures : alternatives) {
+		for (final PersistentHashMap<String, IFeatureValue> oldFeatures : alternatives) {
 			// FIXME Note, that the method
 			// fillingUsageRestrictor.getRestrictedNameFor() will not work
 			// properly, if there are several features
@@ -530,8 +548,8 @@ public class FeatureStructure implements IFeatureValue {
 	 * @return only those alternatives, for which all fillings, that are still
 	 *         missing for completion, can be added in some later parsing step
 	 */
-	private static Collection<ImmutableMap<String, IFeatureValue>> filterAlternativesWhereAllFillingsMissingForCompletionCanBeAddedLater(
-			final ImmutableCollection<ImmutableMap<String, IFeatureValue>> alternatives,
+	private static Collection<PersistentHashMap<String, IFeatureValue>> filterAlternativesWhereAllFillingsMissingForCompletionCanBeAddedLater(
+			final ImmutableCollection<PersistentHashMap<String, IFeatureValue>> alternatives,
 			final IFillingUsageRestrictor fillingUsageRestrictor) {
 		// @formatter:off
 		return alternatives.stream().filter(a -> allFillingsMissingForCompletionCanBeAddedLater(a, fillingUsageRestrictor))
@@ -544,7 +562,7 @@ public class FeatureStructure implements IFeatureValue {
 	 *         completion, can be added in some later parsing step
 	 */
 	private static boolean allFillingsMissingForCompletionCanBeAddedLater(
-			final ImmutableMap<String, IFeatureValue> features, final IFillingUsageRestrictor fillingUsageRestrictor) {
+			final PersistentHashMap<String, IFeatureValue> features, final IFillingUsageRestrictor fillingUsageRestrictor) {
 		for (final Entry<String, IFeatureValue> entry : features.entrySet()) {
 			if (!allFillingsMissingForCompletionCanBeAddedLater(entry.getKey(), entry.getValue(), fillingUsageRestrictor)) {
 				return false;
@@ -590,13 +608,13 @@ public class FeatureStructure implements IFeatureValue {
 	 *                               parts - not the <i>Subjekt</i> in one part and
 	 *                               the <i>Praedikatsnomen</i> in the other!)
 	 */
-	private static Collection<ImmutableMap<String, IFeatureValue>> fillFeaturesUsingFillingsOrNotUsingThem(
-			final ImmutableMap<String, IFeatureValue> features,
+	private static Collection<PersistentHashMap<String, IFeatureValue>> fillFeaturesUsingFillingsOrNotUsingThem(
+			final PersistentHashMap<String, IFeatureValue> features,
 			final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings,
 			final IFillingUsageRestrictor fillingUsageRestrictor) {
 
 		// starting without any feature filled
-		final Collection<ImmutableMap<String, IFeatureValue>> res = new LinkedList<>();
+		final Collection<PersistentHashMap<String, IFeatureValue>> res = new LinkedList<>();
 		res.add(features);
 
 		for (final IHomogeneousConstituentAlternatives freeFilling : freeFillings) {
@@ -628,18 +646,19 @@ public class FeatureStructure implements IFeatureValue {
 			return null; // ==>
 		}
 
-		final Builder<String, IFeatureValue> valueBuilder = ImmutableMap.<String, IFeatureValue>builder();
-
-		valueBuilder.putAll(features);
-		valueBuilder.putAll(other.features);
+		// add the other features to my features - the result shares my map's
+		// structure (and keeps my features in front)
+		PersistentHashMap<String, IFeatureValue> union = features;
+		for (final Entry<String, IFeatureValue> entry : other.features.entrySet()) {
+			if (features.containsKey(entry.getKey())) {
+				// Cannot merge role frames: Both share the same slot name.
+				return null;
+			}
 
-		try {
-			return fromValues(SurfacePart.join(surfacePart, other.surfacePart), valueBuilder.build(), newSemantics);
-			// fails, if duplicate keys were added
-		} catch (final IllegalArgumentException e) {
-			// Cannot merge role frames: Both share the same slot name.
-			return null;
+			union = union.with(entry.getKey(), entry.getValue());
 		}
+
+		return fromValues(SurfacePart.join(surfacePart, other.surfacePart), union, newSemantics);
 	}
 
 	public boolean containsARoleFrameSlotWithAFillingAlsoContainedIn(FeatureStructure other) {
@@ -703,7 +722,7 @@ public class FeatureStructure implements IFeatureValue {
 			final ImmutableMap<String, String> stringFeatures) {
 		// @formatter:off
 		return cache.findOrInsert(new FeatureStructure(surfacePart,
-				ImmutableMap.copyOf(Maps.transformValues(stringFeatures, stringValue -> toFeatureValue(stringValue)))));
+				PersistentHashMap.copyOf(Maps.transformValues(stringFeatures, stringValue -> toFeatureValue(stringValue)))));
 		// @formatter:off
 	}
 
@@ -737,6 +756,16 @@ public class FeatureStructure implements IFeatureValue {
 
 	public static FeatureStructure fromValues(@Nullable final SurfacePart surfacePart,
 			final ImmutableMap<String, IFeatureValue> features, ISemantics semantics) {
+		return fromValues(surfacePart, PersistentHashMap.copyOf(features), semantics);
+	}
+
+	static FeatureStructure fromValues(@Nullable final SurfacePart surfacePart,
+			final PersistentHashMap<String, IFeatureValue> features) {
+		return fromValues(surfacePart, features, NothingInParticularSemantics.INSTANCE);
+	}
+
+	static FeatureStructure fromValues(@Nullable final SurfacePart surfacePart,
+			final PersistentHashMap<String, IFeatureValue> features, ISemantics semantics) {
 		return cache.findOrInsert(new FeatureStructure(surfacePart, features, semantics));
 	}
 
@@ -750,7 +779,15 @@ public class FeatureStructure implements IFeatureValue {
 	public static FeatureStructure fromValuesSemanticsAndFreeFillings(@Nullable final SurfacePart surfacePart,
 			final ImmutableMap<String, IFeatureValue> features, final ISemantics semantics,
 			final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings) {
-		return cache.findOrInsert(new FeatureStructure(surfacePart, features, semantics, freeFillings));
+		return cache.findOrInsert(
+				new FeatureStructure(surfacePart, PersistentHashMap.copyOf(features), semantics, freeFillings));
+	}
+
+	static FeatureStructure fromValuesAndFreeFillings(@Nullable final SurfacePart surfacePart,
+			final PersistentHashMap<String, IFeatureValue> features,
+			final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings) {
+		return cache.findOrInsert(
+				new FeatureStructure(surfacePart, features, NothingInParticularSemantics.INSTANCE, freeFillings));
 	}
 
 	public static FeatureStructure fromFreeFillings(
@@ -760,7 +797,7 @@ public class FeatureStructure implements IFeatureValue {
 
 	public static FeatureStructure fromFreeFillings(@Nullable final SurfacePart surfacePart,
 			final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings) {
-		return cache.findOrInsert(new FeatureStructure(surfacePart, ImmutableMap.<String, IFeatureValue>of(),
+		return cache.findOrInsert(new FeatureStructure(surfacePart, PersistentHashMap.<String, IFeatureValue>of(),
 				NothingInParticularSemantics.INSTANCE, freeFillings));
 	}
 
@@ -791,34 +828,22 @@ public class FeatureStructure implements IFeatureValue {
 			return this;
 		}
 
-		final ImmutableMap.Builder<String, IFeatureValue> newFeatures = ImmutableMap.builder();
-
-		// @formatter:off
-		features.entrySet().stream().filter(featureEntry -> !namesToBeRemoved.contains(featureEntry.getKey()))
-				.forEach(featureEntry -> newFeatures.put(featureEntry.getKey(), featureEntry.getValue()));
-		// @formatter:on
+		PersistentHashMap<String, IFeatureValue> newFeatures = features;
+		for (final String nameToBeRemoved : namesToBeRemoved) {
+			newFeatures = newFeatures.without(nameToBeRemoved);
+		}
 
-		return fromValues(surfacePart, newFeatures.build());
+		return fromValues(surfacePart, newFeatures);
 	}
 
 	/**
-	 * Returns an immutable copy of the map with one feature replaced.
+	 * Returns an immutable copy of the map with one feature replaced. (The copy
+	 * shares everything else with the old map.)
 	 */
-	private static ImmutableMap<String, IFeatureValue> replaceOneFeature(final Map<String, IFeatureValue> oldFeatures,
-			String nameToReplace, final IFeatureValue newFeature) {
-		final Builder<String, IFeatureValue> res = ImmutableMap.<String, IFeatureValue>builder();
-
-		for (final Entry<String, IFeatureValue> oldEntry : oldFeatures.entrySet()) {
-			final String oldFeatureName = oldEntry.getKey();
-
-			if (oldFeatureName.equals(nameToReplace)) {
-				res.put(oldFeatureName, newFeature);
-			} else {
-				res.put(oldFeatureName, oldEntry.getValue());
-			}
-		}
-
-		return res.build();
+	private static PersistentHashMap<String, IFeatureValue> replaceOneFeature(
+			final PersistentHashMap<String, IFeatureValue> oldFeatures, String nameToReplace,
+			final IFeatureValue newFeature) {
+		return oldFeatures.with(nameToReplace, newFeature);
 	}
 
 	/**
@@ -826,17 +851,11 @@ public class FeatureStructure implements IFeatureValue {
 	 * its original value to JOKER).
 	 */
 	public FeatureStructure generalizeFeature(final String featureName) {
-		final ImmutableMap.Builder<String, IFeatureValue> res = ImmutableMap.builder();
-
-		for (final Entry<String, IFeatureValue> originalEntry : features.entrySet()) {
-			if (originalEntry.getKey().equals(featureName)) {
-				res.put(featureName, UnspecifiedFeatureValue.INSTANCE);
-			} else {
-				res.put(originalEntry);
-			}
+		if (!features.containsKey(featureName)) {
+			return fromValues(surfacePart, features, semantics);
 		}
 
-		return fromValues(surfacePart, res.build(), semantics);
+		return fromValues(surfacePart, features.with(featureName, UnspecifiedFeatureValue.INSTANCE), semantics);
 	}
 
 	protected boolean containsTheSameRoleFrameSlotFillingInADifferentFeature(final FeatureStructure other) {
@@ -922,7 +941,7 @@ public class FeatureStructure implements IFeatureValue {
 	}
 
 	public UnmodifiableIterator<Entry<String, IFeatureValue>> unorderedFeatureIterator() {
-		return features.entrySet().iterator();
+		return Iterators.unmodifiableIterator(features.entrySet().iterator());
 	}
 
 	public Iterator<String> orderedFeatureNameIterator() {
@@ -1227,7 +1246,7 @@ public class FeatureStructure implements IFeatureValue {
 	}
 
 	private final static int calcHashCode(@Nullable final SurfacePart surfacePart,
-			final ImmutableMap<String, IFeatureValue> features, final ISemantics semantics,
+			final PersistentHashMap<String, IFeatureValue> features, final ISemantics semantics,
 			ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings) {
 		final int prime = 31;
 		int result = 1;
@@ -1404,6 +1423,9 @@ public class FeatureStructure implements IFeatureValue {
 		for (final T element : set) {
 			final ImmutableSet<ImmutableSet<T>> oldRes = res.build();
 
+			// the number of subsets doubles with each element
+			EvaluationBudget.charge(oldRes.size());
+
 			res = ImmutableSet.<ImmutableSet<T>>builder();
 
 			// Iterate over all sub-set "alternatives" we already have
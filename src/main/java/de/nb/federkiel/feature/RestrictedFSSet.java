@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableSet;
 
 import de.nb.federkiel.cache.WeakCache;
 import de.nb.federkiel.collection.CollectionUtil;
+import de.nb.federkiel.collection.PersistentHashSet;
 import de.nb.federkiel.interfaces.IFeatureValue;
 import de.nb.federkiel.plurivallogic.Plurival;
 
@@ -59,9 +60,10 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	private final int maxFillings;
 
 	/**
-	 * The fillings of the slot. Can be empty (<i>empty slot</i>).
+	 * The fillings of the slot. Can be empty (<i>empty slot</i>). A persistent
+	 * set, so that adding a filling does not copy all the others.
 	 */
-	private final ImmutableSet<FeatureStructure> fillings;
+	private final PersistentHashSet<FeatureStructure> fillings;
 
 	/**
 	 * caching the hashCode
@@ -97,12 +99,17 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	 */
 	public static RestrictedFSSet of(final int minFillings, final int maxFillings,
 			final ImmutableSet<FeatureStructure> fillings) {
-		return cache.findOrInsert(new RestrictedFSSet(ImmutableList.<SlotRequirements>of(), ImmutableSet.copyOf(fillings),
-				minFillings, maxFillings));
+		return cache.findOrInsert(new RestrictedFSSet(ImmutableList.<SlotRequirements>of(),
+				PersistentHashSet.copyOf(fillings), minFillings, maxFillings));
 	}
 
 	public static RestrictedFSSet of(final ImmutableCollection<SlotRequirements> alternativeRequirements,
 			final ImmutableSet<FeatureStructure> fillings, final int minFillings, final int maxFillings) {
+		return of(alternativeRequirements, PersistentHashSet.copyOf(fillings), minFillings, maxFillings);
+	}
+
+	private static RestrictedFSSet of(final ImmutableCollection<SlotRequirements> alternativeRequirements,
+			final PersistentHashSet<FeatureStructure> fillings, final int minFillings, final int maxFillings) {
 		return cache.findOrInsert(new RestrictedFSSet(alternativeRequirements, fillings, minFillings, maxFillings));
 	}
 
@@ -110,15 +117,15 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	 * Creates a frame slot with one filling, that only accepts one filling.
 	 */
 	private RestrictedFSSet(final FeatureStructure filling, final SlotRequirements... requirementAlternatives) {
-		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), ImmutableSet.<FeatureStructure>of(filling), 1,
-				1);
+		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), PersistentHashSet.of(filling), 1, 1);
 	}
 
 	/**
 	 * Creates a mandatory frame slot, that only accepts one filling.
 	 */
 	private RestrictedFSSet(final SlotRequirements... requirementAlternatives) {
-		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), ImmutableSet.<FeatureStructure>of(), 1, 1);
+		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), PersistentHashSet.<FeatureStructure>of(), 1,
+				1);
 	}
 
 	/**
@@ -139,12 +146,12 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	 */
 	private RestrictedFSSet(final int minFillings, final int maxFillings,
 			final SlotRequirements... requirementAlternatives) {
-		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), ImmutableSet.<FeatureStructure>of(),
+		this(ImmutableList.<SlotRequirements>copyOf(requirementAlternatives), PersistentHashSet.<FeatureStructure>of(),
 				minFillings, maxFillings);
 	}
 
 	private RestrictedFSSet(final ImmutableCollection<SlotRequirements> alternativeRequirements,
-			final ImmutableSet<FeatureStructure> fillings, final int minFillings, final int maxFillings) {
+			final PersistentHashSet<FeatureStructure> fillings, final int minFillings, final int maxFillings) {
 		this.alternativeRequirements = alternativeRequirements;
 		this.fillings = fillings;
 		this.minFillings = minFillings;
@@ -156,7 +163,7 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	 * @return an copy of this which is empty (does not have any fillings)
 	 */
 	public RestrictedFSSet emptyCopy() {
-		return of(alternativeRequirements, ImmutableSet.<FeatureStructure>of(), minFillings, maxFillings);
+		return of(alternativeRequirements, PersistentHashSet.<FeatureStructure>of(), minFillings, maxFillings);
 	}
 
 	/**
@@ -439,8 +446,7 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 			}
 		}
 
-		ImmutableSet<FeatureStructure> resFeatureStructures = ImmutableSet.<FeatureStructure>builder().addAll(fillings)
-				.addAll(other.fillings).build();
+		final PersistentHashSet<FeatureStructure> resFeatureStructures = fillings.withAll(other.fillings);
 
 		if (maxFillings != -1 && resFeatureStructures.size() > maxFillings) {
 			return null;
@@ -496,11 +502,7 @@ public final class RestrictedFSSet implements IFeatureValue, Iterable<FeatureStr
 	 * @return a copy of this slot with this filling added (nothing is checked!)
 	 */
 	private RestrictedFSSet addFilling(final FeatureStructure filling) {
-		final ImmutableSet.Builder<FeatureStructure> resFillingsBuilder = ImmutableSet.<FeatureStructure>builder();
-		resFillingsBuilder.addAll(fillings);
-		resFillingsBuilder.add(filling);
-
-		return of(alternativeRequirements, resFillingsBuilder.build(), minFillings, maxFillings);
+		return of(alternativeRequirements, fillings.with(filling), minFillings, maxFillings);
 	}
 
 	/**
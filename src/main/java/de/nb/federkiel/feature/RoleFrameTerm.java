@@ -16,12 +16,16 @@ import com.google.common.collect.ImmutableSet.Builder;
 import com.google.common.collect.Maps;
 
 import de.nb.federkiel.collection.CollectionUtil;
+import de.nb.federkiel.collection.PersistentHashMap;
+import de.nb.federkiel.event.OperationEvents;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.interfaces.IFeatureValue;
 import de.nb.federkiel.logic.IAssignment;
 import de.nb.federkiel.logic.ITerm;
 import de.nb.federkiel.logic.UnassignedVariableException;
 import de.nb.federkiel.logic.Variable;
 import de.nb.federkiel.logic.YieldsNoResultException;
+import de.nb.federkiel.plurivallogic.EvaluationBudget;
 import de.nb.federkiel.plurivallogic.IPlurivalTerm;
 import de.nb.federkiel.plurivallogic.Plurival;
 
@@ -72,6 +76,19 @@ public class RoleFrameTerm implements IPlurivalTerm<FeatureStructure, FeatureAss
 	@Override
 	public Plurival<FeatureStructure> evaluate(final FeatureAssignment variableAssignment)
 			throws UnassignedVariableException {
+		final OperationTimer timer = OperationEvents.begin("RoleFrameTerm.evaluate", this);
+		try {
+			final Plurival<FeatureStructure> res = evaluateUnrecorded(variableAssignment);
+			// UnassignedVariableException
+			timer.setNumberOfAlternatives(res.size());
+			return res;
+		} finally {
+			timer.end();
+		}
+	}
+
+	private Plurival<FeatureStructure> evaluateUnrecorded(final FeatureAssignment variableAssignment)
+			throws UnassignedVariableException {
 		final ImmutableSet<IHomogeneousConstituentAlternatives> freeFillings;
 		SurfacePart surfacePart = null;
 
@@ -91,30 +108,36 @@ public class RoleFrameTerm implements IPlurivalTerm<FeatureStructure, FeatureAss
 			return Plurival.empty();
 		}
 
-		ImmutableSet<ImmutableMap<String, IFeatureValue>> slotMapEntryAlternatives = ImmutableSet
-				.of(ImmutableMap.<String, IFeatureValue>of());
+		// Each alternative shares all but the newest slot with the alternative it
+		// has been built from.
+		ImmutableSet<PersistentHashMap<String, IFeatureValue>> slotMapEntryAlternatives = ImmutableSet
+				.of(PersistentHashMap.<String, IFeatureValue>of());
 
 		for (final Map.Entry<String, RoleFrameSlotTerm> slotMapEntry : slotTerms.entrySet()) {
 			final String key = slotMapEntry.getKey();
 			final Plurival<RestrictedFSSet> roleFrameSlotAlternatives = slotMapEntry.getValue().evaluate(variableAssignment);
 			// UnassignedVariableException
 
-			final ImmutableSet.Builder<ImmutableMap<String, IFeatureValue>> newMapEntryAlternatives = ImmutableSet.builder();
-			for (final Map<String, IFeatureValue> oldMap : slotMapEntryAlternatives) {
-				final ImmutableMap.Builder<String, IFeatureValue> newMap = ImmutableMap.builder();
-				newMap.putAll(oldMap);
+			if (roleFrameSlotAlternatives.isEmpty()) {
+				// The role frame simply does not get this slot.
+				continue;
+			}
+
+			EvaluationBudget.charge((long) slotMapEntryAlternatives.size() * roleFrameSlotAlternatives.size());
+
+			final ImmutableSet.Builder<PersistentHashMap<String, IFeatureValue>> newMapEntryAlternatives = ImmutableSet
+					.builder();
+			for (final PersistentHashMap<String, IFeatureValue> oldMap : slotMapEntryAlternatives) {
 				for (final RestrictedFSSet roleFrameSlot : roleFrameSlotAlternatives) {
-					newMap.put(key, roleFrameSlot);
+					newMapEntryAlternatives.add(oldMap.with(key, roleFrameSlot));
 				}
-
-				newMapEntryAlternatives.add(newMap.build());
 			}
 
 			slotMapEntryAlternatives = newMapEntryAlternatives.build();
 		}
 
 		final ImmutableSet.Builder<FeatureStructure> roleFrameAlternatives = ImmutableSet.builder();
-		for (final ImmutableMap<String, IFeatureValue> slotMapEntry : slotMapEntryAlternatives) {
+		for (final PersistentHashMap<String, IFeatureValue> slotMapEntry : slotMapEntryAlternatives) {
 			roleFrameAlternatives.add(FeatureStructure.fromValuesAndFreeFillings(
 					SurfacePart.join(surfacePart, joinSurfaceParts(slotMapEntry.values())), slotMapEntry,
 					freeFillings));
@@ -0,0 +1,349 @@
+package de.nb.federkiel.lexikon;
+
+import java.util.Collection;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil;
+import de.nb.federkiel.feature.FeatureStructure;
+import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
+import de.nb.federkiel.feature.StringFeatureLogicUtil;
+import de.nb.federkiel.feature.StringFeatureValue;
+import de.nb.federkiel.feature.UnspecifiedFeatureValue;
+import de.nb.federkiel.interfaces.IFeatureValue;
+import de.nb.federkiel.interfaces.ILexeme;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.string.StringUtil;
+
+/**
+ * Eine Wortform (wie {@link Wortform}), die speicherschonend nur das Lexem,
+ * die (von allen Lexemen einer Flexionsklasse gemeinsam genutzten)
+ * {@link Wortformmerkmale}, den String und die Angabe zum Satzanfang haelt.
+ * Die vollstaendigen Merkmale (einschliesslich der Merkmale des Lexems) werden
+ * erst ermittelt, wenn sie abgefragt werden.
+ * <p>
+ * It is important to understand that objects of this class are value objects!
+ * Eine KompakteWortform ist gleich einer {@link Wortform} mit demselben
+ * String, demselben Lexem, derselben Wortart und denselben (vollstaendigen)
+ * Merkmalen.
+ */
+@Immutable
+@ThreadSafe
+public class KompakteWortform implements IWordForm {
+	/**
+	 * Ohne Angabe zum Satzanfang (Gross- und Kleinschreibung noch nicht
+	 * expandiert)
+	 */
+	private static final byte SATZANFANG_OHNE_ANGABE = 0;
+	private static final byte SATZANFANG_JA = 1;
+	private static final byte SATZANFANG_NEIN = 2;
+	private static final byte SATZANFANG_UNSPEZIFIZIERT = 3;
+
+	private final ILexeme lexeme;
+
+	private final Wortformmerkmale merkmale;
+
+	/**
+	 * Die eigentliche Wortform (als String)
+	 * <p>
+	 * Not empty.
+	 */
+	private final String string;
+
+	/**
+	 * Ob die Wortform am Satzanfang steht - {@link #SATZANFANG_OHNE_ANGABE},
+	 * {@link #SATZANFANG_JA}, {@link #SATZANFANG_NEIN} oder
+	 * {@link #SATZANFANG_UNSPEZIFIZIERT}
+	 */
+	private final byte satzanfang;
+
+	/**
+	 * Die (grammatischen) Merkmale EINSCHLIESSLICH der Merkmale des Lexems - erst
+	 * bei Bedarf berechnet (wie bei {@link String#hashCode()} ist das
+	 * unkritisch: Die Feature Structure ist unveraenderlich, jeder Thread
+	 * berechnet ggf. denselben Wert).
+	 */
+	private @Nullable FeatureStructure features;
+
+	/**
+	 * @param string
+	 *          must not be empty
+	 */
+	public KompakteWortform(final ILexeme lexeme, final Wortformmerkmale merkmale, final String string) {
+		this(lexeme, merkmale, string, SATZANFANG_OHNE_ANGABE);
+	}
+
+	private KompakteWortform(final ILexeme lexeme, final Wortformmerkmale merkmale, final String string,
+			final byte satzanfang) {
+		super();
+		this.lexeme = lexeme;
+		this.merkmale = merkmale;
+		this.string = string;
+		this.satzanfang = satzanfang;
+	}
+
+	public Wortformmerkmale getMerkmale() {
+		return merkmale;
+	}
+
+	@Override
+	public ILexeme getLexem() {
+		return lexeme;
+	}
+
+	@Override
+	public String getPos() {
+		return merkmale.getPos();
+	}
+
+	@Override
+	public String getString() {
+		return string;
+	}
+
+	@Override
+	public FeatureStructure getFeatures() {
+		FeatureStructure res = features;
+		if (res == null) {
+			res = berechneFeatures();
+			features = res;
+		}
+
+		return res;
+	}
+
+	private FeatureStructure berechneFeatures() {
+		final FeatureStructure spezifisch = merkmale.getFeatures();
+
+		FeatureStructure res = lexeme.getFeatures().disjunctUnionWithoutFreeFillings(spezifisch,
+				spezifisch.getSemantics());
+
+		if (merkmale.isMitNennform()) {
+			res = res.disjunctUnionWithoutFreeFillings(LexiconFeatureStructureUtil
+					.fromStringValues(ImmutableMap.of(GermanUtil.NENNFORM_KEY, lexeme.getCanonicalizedForm())),
+					res.getSemantics());
+		}
+
+		if (satzanfang != SATZANFANG_OHNE_ANGABE) {
+			res = res.disjunctUnionWithoutFreeFillings(buildCaseFeature(satzanfangString()), res.getSemantics());
+		}
+
+		return res;
+	}
+
+	/**
+	 * Gibt den Wert des (grammatischen) Merkmals zurueck - ohne dafuer die
+	 * vollstaendigen Merkmale zu ermitteln.
+	 */
+	@Override
+	public IFeatureValue getFeatureValue(final String featureName) {
+		final IFeatureValue res = getFeatureValue(featureName, null);
+
+		if (res == null) {
+			throw new IllegalArgumentException("No feature with name " + featureName + " in " + getFeatures() + ".");
+		}
+
+		return res;
+	}
+
+	/**
+	 * Gibt den Wert des (grammatischen) Merkmals zurueck - ohne dafuer die
+	 * vollstaendigen Merkmale zu ermitteln.
+	 */
+	@Override
+	public IFeatureValue getFeatureValue(final String featureName, final IFeatureValue defaultValue) {
+		if (satzanfang != SATZANFANG_OHNE_ANGABE && featureName.equals(GermanUtil.IST_SATZANFANG_KEY)) {
+			return FeatureStructure.toFeatureValue(satzanfangString());
+		}
+
+		if (merkmale.isMitNennform() && featureName.equals(GermanUtil.NENNFORM_KEY)) {
+			return StringFeatureValue.of(lexeme.getCanonicalizedForm());
+		}
+
+		final IFeatureValue spezifisch = merkmale.getFeatures().getFeatureValue(featureName, null);
+		if (spezifisch != null) {
+			return spezifisch;
+		}
+
+		return lexeme.getFeatures().getFeatureValue(featureName, defaultValue);
+	}
+
+	@Override
+	public IWordForm generalizeFeature(final String featureName) {
+		return Wortform.lexemeFeaturesAlreadyIntegrated(lexeme, getPos(), string,
+				getFeatures().generalizeFeature(featureName));
+	}
+
+	@Override
+	public Collection<IWordForm> expandToUpperLowerCaseForms(final boolean alsoAllowLowerCaseAtSentenceStart,
+			final Locale locale) {
+		if (satzanfang != SATZANFANG_OHNE_ANGABE) {
+			throw new IllegalStateException("Gross- und Kleinschreibung bereits expandiert: " + this);
+		}
+
+		if (Character.isLowerCase(string.codePointAt(0))) {
+			// starts with a lower-case letter
+			return ImmutableList.<IWordForm>of(
+					// am Satzbeginn
+					new KompakteWortform(lexeme, merkmale, StringUtil.capitalize(string, locale), SATZANFANG_JA),
+					// im Satz
+					new KompakteWortform(lexeme, merkmale, string,
+							alsoAllowLowerCaseAtSentenceStart ? SATZANFANG_UNSPEZIFIZIERT : SATZANFANG_NEIN));
+		}
+
+		return ImmutableList.<IWordForm>of(new KompakteWortform(lexeme, merkmale, string, SATZANFANG_UNSPEZIFIZIERT));
+	}
+
+	private String satzanfangString() {
+		switch (satzanfang) {
+		case SATZANFANG_JA:
+			return StringFeatureLogicUtil.booleanToString(true);
+		case SATZANFANG_NEIN:
+			return StringFeatureLogicUtil.booleanToString(false);
+		case SATZANFANG_UNSPEZIFIZIERT:
+			return UnspecifiedFeatureValue.UNSPECIFIED_STRING;
+		default:
+			throw new IllegalStateException("Unerwartete Angabe zum Satzanfang: " + satzanfang);
+		}
+	}
+
+	private static FeatureStructure buildCaseFeature(final String istSatzanfang) {
+		return LexiconFeatureStructureUtil.fromStringValues(ImmutableMap.of(GermanUtil.IST_SATZANFANG_KEY, istSatzanfang));
+	}
+
+	@Override
+	public String toRealizationString() {
+		return getString();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null) {
+			return false;
+		}
+
+		if (obj instanceof Wortform && obj.getClass().equals(Wortform.class)) {
+			return equalsWortform((Wortform) obj);
+		}
+
+		if (!obj.getClass().equals(this.getClass())) {
+			return false;
+		}
+
+		final KompakteWortform other = (KompakteWortform) obj;
+
+		if (!string.equals(other.string)) {
+			return false;
+		}
+
+		if (!lexeme.equalsWithoutCheckingFeatures(other.lexeme)) {
+			return false;
+		}
+
+		if (merkmale == other.merkmale && satzanfang == other.satzanfang) {
+			// Die Merkmale sind gleich, wenn die Merkmale der Lexeme gleich sind
+			return lexeme.getFeatures().equals(other.lexeme.getFeatures());
+		}
+
+		if (!getPos().equals(other.getPos())) {
+			return false;
+		}
+
+		return getFeatures().equals(other.getFeatures());
+	}
+
+	private boolean equalsWortform(final Wortform other) {
+		if (!string.equals(other.getString())) {
+			return false;
+		}
+
+		if (!lexeme.equalsWithoutCheckingFeatures(other.getLexem())) {
+			return false;
+		}
+
+		if (!getPos().equals(other.getPos())) {
+			return false;
+		}
+
+		return getFeatures().equals(other.getFeatures());
+	}
+
+	@Override
+	public int compareTo(final IWordForm o) {
+		// This method shall be consistent with equals() - also gegenueber einer
+		// Wortform wie eine Wortform.
+		final int classNameCompared = Wortform.class.getCanonicalName().compareTo(klassennameZumVergleich(o));
+		if (classNameCompared != 0) {
+			return classNameCompared;
+		}
+
+		final int stringsCompared = string.compareTo(o.getString());
+		if (stringsCompared != 0) {
+			return stringsCompared;
+		}
+
+		final int posCompared = getPos().compareTo(o.getPos());
+		if (posCompared != 0) {
+			return posCompared;
+		}
+
+		final int lexemsCompared = lexeme.compareTo(o.getLexem());
+		if (lexemsCompared != 0) {
+			return lexemsCompared;
+		}
+
+		return getFeatures().compareTo(o.getFeatures());
+	}
+
+	private static String klassennameZumVergleich(final IWordForm wordForm) {
+		if (wordForm instanceof KompakteWortform) {
+			return Wortform.class.getCanonicalName();
+		}
+
+		return wordForm.getClass().getCanonicalName();
+	}
+
+	@Override
+	public int hashCode() {
+		return string.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder res = new StringBuilder();
+
+		if (string.equals(lexeme.getCanonicalizedForm())) {
+			res.append("\"");
+			res.append(lexeme.getCanonicalizedForm());
+			res.append("\"/");
+			res.append(getPos());
+		} else {
+			res.append("\"");
+			res.append(string);
+			res.append("\"(");
+			res.append(lexeme.getCanonicalizedForm());
+			res.append("/");
+			res.append(getPos());
+			res.append(")");
+		}
+
+		final FeatureStructure allFeatures = getFeatures();
+		if (!allFeatures.isEmpty()) {
+			res.append("(");
+			res.append(allFeatures.toString());
+			res.append(")");
+		}
+
+		return res.toString();
+	}
+}
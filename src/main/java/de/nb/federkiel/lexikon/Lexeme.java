@@ -1,10 +1,12 @@
 package de.nb.federkiel.lexikon;
 
 import java.util.Iterator;
+import java.util.function.Function;
 
-import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import com.google.common.collect.ImmutableMap;
+
 import de.nb.federkiel.feature.FeatureStructure;
 import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
 import de.nb.federkiel.feature.StringFeatureValue;
@@ -20,10 +22,12 @@ import de.nb.federkiel.interfaces.ILexemeType;
  * <p>
  * It is important to understand that objects of this class are value objects!
  * There can be arbitrarily many objects that "mean the same lexem".
+ * <p>
+ * Der Wert des Lexems ist unveraenderlich; die (erst bei Bedarf ermittelten)
+ * Morphologieprofile werden jedoch nachtraeglich am Objekt abgelegt.
  *
  * @author nbudzyn 2009
  */
-@Immutable
 @ThreadSafe
 public class Lexeme implements ILexeme {
 	private final ILexemeType type;
@@ -39,6 +43,15 @@ public class Lexeme implements ILexeme {
 	 */
 	final FeatureStructure features;
 
+	/**
+	 * Die beim Flektieren aus dem Lexem abgeleiteten Informationen (etwa Stamm,
+	 * Flexionsklassen oder Plural), jeweils nach ihrem Typ - erst bei Bedarf
+	 * ermittelt. Sie gehoeren nicht zum Wert des Lexems (und werden daher in
+	 * {@link #equals(Object)} etc. nicht beruecksichtigt). Geschrieben wird nur
+	 * synchronisiert.
+	 */
+	private volatile ImmutableMap<Class<?>, Object> morphologieprofile = ImmutableMap.of();
+
 	/**
 	 * Erzeugt ein neues Lexeme <i>ohne</i> (grammatische) Merkmale.
 	 *
@@ -105,6 +118,35 @@ public class Lexeme implements ILexeme {
 		return features.noFreeFillingsAndAllSlotsHaveEnoughFillings();
 	}
 
+	/**
+	 * Gibt das Morphologieprofil dieses Typs zum Lexem zurueck - beim ersten Aufruf
+	 * wird es (einmalig) mit der <code>berechnung</code> ermittelt. Damit muessen
+	 * die Flektierer bei wiederholtem Flektieren desselben Lexems ihre Regeln nicht
+	 * erneut auswerten.
+	 * <p>
+	 * Das Profil muss unveraenderlich (oder zumindest thread-safe) sein und darf
+	 * nur von den (unveraenderlichen) Eigenschaften des Lexems abhaengen.
+	 */
+	public <P> P getMorphologieprofil(final Class<P> typ,
+			final Function<? super Lexeme, ? extends P> berechnung) {
+		final Object res = morphologieprofile.get(typ);
+		if (res != null) {
+			return typ.cast(res);
+		}
+
+		synchronized (this) {
+			final Object resSynchronized = morphologieprofile.get(typ);
+			if (resSynchronized != null) {
+				return typ.cast(resSynchronized);
+			}
+
+			final P neu = berechnung.apply(this);
+			morphologieprofile = ImmutableMap.<Class<?>, Object>builder().putAll(morphologieprofile)
+					.put(typ, neu).build();
+			return neu;
+		}
+	}
+
 	@Override
 	public boolean equals(final Object obj) {
 		if (this == obj) {
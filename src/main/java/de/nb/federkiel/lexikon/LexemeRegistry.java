@@ -0,0 +1,33 @@
+package de.nb.federkiel.lexikon;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Registriert Lexeme: Gleiche Lexeme werden auf ein einziges Objekt
+ * abgebildet. Caches koennen ihre Daten damit an das registrierte Lexem haengen
+ * (vgl. {@link Lexeme#getMorphologieprofil(Class, java.util.function.Function)})
+ * - gleiche Lexeme teilen sich diese Daten.
+ * <p>
+ * Die Lexeme werden nur schwach referenziert: Ein registriertes Lexem, das
+ * sonst niemand mehr referenziert, wird (mit seinen Daten) vom Garbage
+ * Collector entfernt.
+ */
+@ThreadSafe
+public final class LexemeRegistry {
+	private static final Interner<Lexeme> LEXEME = Interners.newWeakInterner();
+
+	private LexemeRegistry() {
+		super();
+	}
+
+	/**
+	 * Gibt das registrierte Lexem zurueck, das diesem Lexem gleicht. Gibt es
+	 * (noch) keines, wird dieses Lexem registriert.
+	 */
+	public static Lexeme intern(final Lexeme lexeme) {
+		return LEXEME.intern(lexeme);
+	}
+}
@@ -169,7 +169,7 @@ public class Wortform implements IWordForm {
 		final FeatureStructure features = LexiconFeatureStructureUtil.fromStringValues(ImmutableMap.of("typ", typ));
 
 		for (int i = 0; i < strings.length; i++) {
-			final Lexeme lexeme = new Lexeme(lexemeType, strings[i], features);
+			final Lexeme lexeme = LexemeRegistry.intern(new Lexeme(lexemeType, strings[i], features));
 			res[i] = new Wortform(lexeme, pos, semantics);
 		}
 
@@ -279,6 +279,11 @@ public class Wortform implements IWordForm {
 			return false;
 		}
 
+		if (obj instanceof KompakteWortform) {
+			// Eine KompakteWortform ist gleich, wenn sie dieselben Merkmale hat
+			return obj.equals(this);
+		}
+
 		if (!obj.getClass().equals(this.getClass())) {
 			return false;
 		}
@@ -307,6 +312,10 @@ public class Wortform implements IWordForm {
 	@Override
 	public int compareTo(final IWordForm o) {
 		// This method shall be consistent with equals().
+		if (o instanceof KompakteWortform) {
+			return -((KompakteWortform) o).compareTo(this);
+		}
+
 		final int classNameCompared = this.getClass().getCanonicalName().compareTo(o.getClass().getCanonicalName());
 		if (classNameCompared != 0) {
 			return classNameCompared;
@@ -0,0 +1,109 @@
+package de.nb.federkiel.lexikon;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.feature.FeatureStructure;
+
+/**
+ * Die Wortform-spezifischen (grammatischen) Merkmale einer Zelle eines
+ * Flexionsparadigmas (etwa <i>Genitiv Singular eines Substantivs mit
+ * s-Genitiv</i>) - <i>ohne</i> die Merkmale des Lexems und ohne seine
+ * Nennform. Dieselben Wortformmerkmale werden daher von allen Lexemen einer
+ * Flexionsklasse gemeinsam genutzt (vgl. {@link KompakteWortform}).
+ * <p>
+ * Alle Wortformmerkmale werden (dauerhaft) gecachet und erhalten eine dichte
+ * Nummer. Das geht, weil es nur wenige verschiedene gibt: Die Merkmale ergeben
+ * sich allein aus Wortart, Kasus, Numerus und Artikelwortbezug (vgl.
+ * {@link de.nb.federkiel.deutsch.grammatik.wortart.substantiv.SubstantivFlektierer}),
+ * nie aus dem Lexem. Fuer Merkmale aus einer offenen Menge (etwa
+ * lexemabhaengige) ist diese Klasse nicht gedacht - der Cache wuerde
+ * unbegrenzt wachsen.
+ */
+@Immutable
+@ThreadSafe
+public final class Wortformmerkmale {
+	/**
+	 * Wird nie geleert - die Menge der moeglichen Schluessel ist abgeschlossen
+	 * (s.o.).
+	 */
+	private static final ConcurrentHashMap<List<Object>, Wortformmerkmale> CACHE = new ConcurrentHashMap<>();
+
+	private static final AtomicInteger NAECHSTE_ID = new AtomicInteger();
+
+	/**
+	 * Dichte Nummer dieser Wortformmerkmale
+	 */
+	private final int id;
+
+	/**
+	 * Der POS- (part-of-speech-) -Typ der Wortformen
+	 */
+	private final String pos;
+
+	/**
+	 * Die Wortform-spezifischen Merkmale - OHNE die Merkmale des Lexems
+	 */
+	private final FeatureStructure features;
+
+	/**
+	 * Ob die Wortformen (zusaetzlich) die Nennform des Lexems als Merkmal
+	 * {@link de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil#NENNFORM_KEY}
+	 * tragen
+	 */
+	private final boolean mitNennform;
+
+	private Wortformmerkmale(final int id, final String pos, final FeatureStructure features,
+			final boolean mitNennform) {
+		super();
+		this.id = id;
+		this.pos = pos;
+		this.features = features;
+		this.mitNennform = mitNennform;
+	}
+
+	/**
+	 * Gibt die (gecacheten) Wortformmerkmale zurueck.
+	 *
+	 * @param features
+	 *          die Wortform-spezifischen Merkmale - OHNE die Merkmale des Lexems
+	 *          und ohne die Nennform
+	 * @param mitNennform
+	 *          ob die Wortformen (zusaetzlich) die Nennform des Lexems als
+	 *          Merkmal tragen sollen
+	 */
+	public static Wortformmerkmale of(final String pos, final FeatureStructure features, final boolean mitNennform) {
+		return CACHE.computeIfAbsent(ImmutableList.of(pos, features, mitNennform),
+				k -> new Wortformmerkmale(NAECHSTE_ID.getAndIncrement(), pos, features, mitNennform));
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getPos() {
+		return pos;
+	}
+
+	public FeatureStructure getFeatures() {
+		return features;
+	}
+
+	public boolean isMitNennform() {
+		return mitNennform;
+	}
+
+	// Es gibt keine zwei gleichen Wortformmerkmale - daher reicht die
+	// Identitaet fuer equals() und hashCode().
+
+	@Override
+	public String toString() {
+		return "#" + id + " " + pos + (mitNennform ? " (mit Nennform) " : " ") + features;
+	}
+}
@@ -7,6 +7,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 
+import de.nb.federkiel.event.OperationEvents;
+import de.nb.federkiel.event.OperationTimer;
 import de.nb.federkiel.logic.IAssignment;
 import de.nb.federkiel.logic.UnassignedVariableException;
 import de.nb.federkiel.logic.Variable;
@@ -45,6 +47,17 @@ public abstract class BinaryCompoundPlurivalTerm<T extends Object, S1 extends Ob
 
   @Override
   public final Plurival<T> evaluate(final A assignment) throws UnassignedVariableException {
+    final OperationTimer timer = OperationEvents.begin("BinaryCompoundPlurivalTerm.evaluate", this);
+    try {
+      final Plurival<T> res = evaluateUnrecorded(assignment); // UnassignedVariableException
+      timer.setNumberOfAlternatives(res.size());
+      return res;
+    } finally {
+      timer.end();
+    }
+  }
+
+  private Plurival<T> evaluateUnrecorded(final A assignment) throws UnassignedVariableException {
     Plurival<S1> firstAlternativeSubResults = null;
 
     try {
@@ -72,6 +85,9 @@ public abstract class BinaryCompoundPlurivalTerm<T extends Object, S1 extends Ob
 
     final Plurival<S2> secondAlternativeSubResults = this.secondSubTerm.evaluate(assignment); // UnassignedVariableException
 
+    EvaluationBudget.charge(
+        (long) firstAlternativeSubResults.size() * secondAlternativeSubResults.size());
+
     // evaluate all possible combinations
 
     // @formatter:off
@@ -0,0 +1,117 @@
+package de.nb.federkiel.plurivallogic;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import de.nb.federkiel.logic.IAssignment;
+import de.nb.federkiel.logic.UnassignedVariableException;
+
+/**
+ * A budget for evaluating a plurival term: the maximum number of alternatives
+ * (or intermediate objects) the evaluation may build. Evaluating some term
+ * means building cross products (all combinations of all alternatives) - for a
+ * pathological input, this might take seconds and use up the heap. With a
+ * budget, the evaluation is aborted early instead (see
+ * {@link EvaluationBudgetExceededException}).
+ * <p>
+ * Use {@link IPlurivalTerm#evaluate(IAssignment, EvaluationBudget)} for
+ * evaluating a term within a budget. While doing so, the budget is
+ * <i>current</i> for the evaluating thread, and all (sub-)terms charge it via
+ * {@link #charge(long)}. Without a current budget, charging costs (almost)
+ * nothing.
+ * <p>
+ * A budget is used by one thread only - it must not be shared.
+ */
+@NotThreadSafe
+public final class EvaluationBudget {
+  /**
+   * The budget currently used by this thread - <code>null</code> if none
+   */
+  private static final ThreadLocal<EvaluationBudget> CURRENT = new ThreadLocal<>();
+
+  /**
+   * How often some budget has been exceeded (in all threads)
+   */
+  private static final AtomicLong numberOfBudgetsExceeded = new AtomicLong();
+
+  private final long maximum;
+
+  private long used = 0;
+
+  /**
+   * @param maximum the maximum number of alternatives (or intermediate
+   *        objects) the evaluation may build
+   */
+  public EvaluationBudget(final long maximum) {
+    if (maximum < 0) {
+      throw new IllegalArgumentException("Maximum must not be negative: " + maximum);
+    }
+
+    this.maximum = maximum;
+  }
+
+  /**
+   * Evaluates the term within this budget.
+   *
+   * @throws EvaluationBudgetExceededException if the budget runs out
+   */
+  <T, A extends IAssignment> Plurival<T> evaluate(final IPlurivalTerm<T, A> term,
+      final A variableAssignment) throws UnassignedVariableException {
+    final @Nullable EvaluationBudget formerBudget = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      return term.evaluate(variableAssignment); // UnassignedVariableException
+    } finally {
+      if (formerBudget == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(formerBudget);
+      }
+    }
+  }
+
+  /**
+   * Charges the current budget of this thread (if any) for building so many
+   * alternatives (or intermediate objects).
+   *
+   * @throws EvaluationBudgetExceededException if the current budget runs out
+   */
+  public static void charge(final long units) {
+    final @Nullable EvaluationBudget current = CURRENT.get();
+    if (current == null) {
+      return;
+    }
+
+    current.use(units);
+  }
+
+  private void use(final long units) {
+    used += units;
+    if (used > maximum) {
+      numberOfBudgetsExceeded.incrementAndGet();
+      throw new EvaluationBudgetExceededException(maximum, used);
+    }
+  }
+
+  /**
+   * @return how often some budget has been exceeded so far (in all threads)
+   */
+  public static long getNumberOfBudgetsExceeded() {
+    return numberOfBudgetsExceeded.get();
+  }
+
+  public long getMaximum() {
+    return maximum;
+  }
+
+  public long getUsed() {
+    return used;
+  }
+
+  @Override
+  public String toString() {
+    return "EvaluationBudget (" + used + " of " + maximum + " used)";
+  }
+}
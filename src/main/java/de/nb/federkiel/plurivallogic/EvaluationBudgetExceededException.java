@@ -0,0 +1,32 @@
+package de.nb.federkiel.plurivallogic;
+
+/**
+ * Signals that evaluating some plurival term would need more alternatives (or
+ * intermediate objects) than the {@link EvaluationBudget} allows - so the
+ * evaluation has been aborted.
+ */
+public class EvaluationBudgetExceededException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  private final long maximum;
+
+  private final long used;
+
+  public EvaluationBudgetExceededException(final long maximum, final long used) {
+    super("Evaluation budget exceeded: " + used + " units needed, but only " + maximum
+        + " allowed");
+    this.maximum = maximum;
+    this.used = used;
+  }
+
+  public long getMaximum() {
+    return maximum;
+  }
+
+  /**
+   * @return the units used when the evaluation was aborted
+   */
+  public long getUsed() {
+    return used;
+  }
+}
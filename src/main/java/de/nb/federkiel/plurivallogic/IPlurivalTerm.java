@@ -30,6 +30,17 @@ public interface IPlurivalTerm<T extends Object, A extends IAssignment>
 
   Plurival<T> evaluate(final A variableAssignment) throws UnassignedVariableException;
 
+  /**
+   * Evaluates this term - but aborts the evaluation, if it would build more
+   * alternatives (or intermediate objects) than the budget allows.
+   *
+   * @throws EvaluationBudgetExceededException if the budget runs out
+   */
+  default Plurival<T> evaluate(final A variableAssignment, final EvaluationBudget budget)
+      throws UnassignedVariableException, EvaluationBudgetExceededException {
+    return budget.evaluate(this, variableAssignment);
+  }
+
   ImmutableSet<Variable<?, A>> getAllVariables();
 
   /*
@@ -1,5 +1,7 @@
 package de.nb.federkiel.plurivallogic;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.stream.Stream;
 
@@ -8,94 +10,148 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
-
-import de.nb.federkiel.cache.WeakCache;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Iterators;
 
 /**
  * Some alternative values (plurival is meant to be short for <i>plurivalent</i>).
+ * <p>
+ * Nearly all plurivals are empty or have only one value - so there are special
+ * implementations for these cases. Small plurivals are stored in an array,
+ * larger ones in an <code>ImmutableSet</code>. In any case, duplicate values
+ * are removed (they would be redundant alternatives) - the first occurrence
+ * keeps its position.
+ * <p>
+ * Plurivals are not interned automatically - nearly all of them are
+ * short-lived intermediate results. Use {@link #intern()} for plurivals that
+ * are kept for a longer time.
  */
 @Immutable
 @ThreadSafe
-public class Plurival<T extends Object> implements Iterable<T> {
-  final private static WeakCache<Plurival<?>> cache = new WeakCache<>();
+public abstract class Plurival<T extends Object> implements Iterable<T> {
+  private static final Interner<Plurival<?>> PLURIVALS = Interners.newWeakInterner();
+
+  private static final Plurival<Object> EMPTY = new Empty();
 
-  private final ImmutableCollection<T> values;
+  /**
+   * Up to this size, the values are stored in an array (without duplicates).
+   */
+  private static final int MAX_SIZE_OF_SMALL_PLURIVAL = 8;
 
   /**
    * Cached hash code
    */
-  private int hashCode;
+  private final int hashCode;
 
-  @SuppressWarnings("unchecked")
+  @SafeVarargs
   public static <T> Plurival<T> of(final T... values) {
-    return cache.findOrInsert(new Plurival<>(values));
+    if (values.length == 0) {
+      return empty();
+    }
+
+    if (values.length == 1) {
+      final T onlyValue = values[0];
+      return new Singleton<>(onlyValue);
+    }
+
+    // the varargs array must not escape
+    return withoutDuplicates(values.clone());
   }
 
   public static <T> Plurival<T> of(final Stream<T> stream) {
-    return cache.findOrInsert(new Plurival<>(stream));
+    return of(stream.collect(ImmutableSet.toImmutableSet()));
   }
 
   public static <T> Plurival<T> of(final ImmutableCollection<T> values) {
-    return cache.findOrInsert(new Plurival<>(values));
+    switch (values.size()) {
+      case 0:
+        return empty();
+      case 1:
+        return new Singleton<>(values.iterator().next());
+      default:
+        if (values.size() <= MAX_SIZE_OF_SMALL_PLURIVAL) {
+          return Small.withoutDuplicates(values.toArray());
+        }
+
+        return Large.withoutDuplicates(values);
+    }
   }
 
+  /**
+   * Builds a plurival from these values (at least two) - duplicates are left
+   * out. (The <code>values</code> array may be changed and used by the
+   * plurival.)
+   */
   @SuppressWarnings("unchecked")
-  public static <T> Plurival<T> empty() {
-    return of();
-  }
+  private static <T> Plurival<T> withoutDuplicates(final Object[] values) {
+    if (values.length <= MAX_SIZE_OF_SMALL_PLURIVAL) {
+      return Small.withoutDuplicates(values);
+    }
 
-  private Plurival(final T... values) {
-    this(ImmutableList.copyOf(values));
+    return Large.withoutDuplicates((ImmutableSet<T>) ImmutableSet.copyOf(values));
   }
 
-  private Plurival(final Stream<T> stream) {
-    this.values = stream.collect(ImmutableList.toImmutableList());
-    this.hashCode = calcHash();
+  @SuppressWarnings("unchecked")
+  public static <T> Plurival<T> empty() {
+    return (Plurival<T>) EMPTY;
   }
 
-  private Plurival(final ImmutableCollection<T> values) {
-    this.values = values;
-    this.hashCode = calcHash();
+  private Plurival(final int hashCode) {
+    this.hashCode = hashCode;
   }
 
-  public boolean isEmpty() {
-    return this.values.isEmpty();
-  }
+  /**
+   * Returns an equal plurival - the same one for all equal plurivals (as long as
+   * it is referenced somewhere).
+   */
+  @SuppressWarnings("unchecked")
+  public Plurival<T> intern() {
+    if (isEmpty()) {
+      return this;
+    }
 
-  @Override
-  public Iterator<T> iterator() {
-    return this.values.iterator();
+    return (Plurival<T>) PLURIVALS.intern(this);
   }
 
-  public Stream<T> stream() {
-    return this.values.stream();
-  }
+  public abstract boolean isEmpty();
+
+  public abstract Stream<T> stream();
+
+  public abstract int size();
+
+  /**
+   * The hash code for these values (in this order)
+   */
+  private static int calcHash(final Iterable<?> values) {
+    int res = 1;
+    for (final Object value : values) {
+      res = 31 * res + value.hashCode();
+    }
 
-  public int size() {
-    return this.values.size();
+    return 31 + res;
   }
 
-  private final int calcHash() {
-    final int prime = 31;
-    int result = 1;
-    result = prime * result + ((this.values == null) ? 0 : this.values.hashCode());
-    return result;
+  /**
+   * The hash code for this value - same as {@link #calcHash(Iterable)} for a
+   * single value
+   */
+  private static int calcHashOfSingleValue(final Object value) {
+    return 31 + (31 + value.hashCode());
   }
 
   @Override
-  public int hashCode() {
+  public final int hashCode() {
     return this.hashCode;
   }
 
   @Override
-  public boolean equals(final Object obj) {
+  public final boolean equals(final Object obj) {
     if (this == obj) {
       return true;
     }
-    if (obj == null) {
-      return false;
-    }
-    if (getClass() != obj.getClass()) {
+    if (!(obj instanceof Plurival)) {
       return false;
     }
 
@@ -105,17 +161,17 @@ public class Plurival<T extends Object> implements Iterable<T> {
       return false;
     }
 
-    if (!this.values.equals(other.values)) {
+    if (size() != other.size()) {
       return false;
     }
 
-    return true;
+    return Iterators.elementsEqual(iterator(), other.iterator());
   }
 
   @Override
   public String toString() {
     if (this.size() == 1) {
-      return this.values.iterator().next().toString();
+      return this.iterator().next().toString();
     }
 
     final StringBuilder res = new StringBuilder();
@@ -123,7 +179,7 @@ public class Plurival<T extends Object> implements Iterable<T> {
 
     boolean first = true;
 
-    for (final T value : this.values) {
+    for (final T value : this) {
       if (first) {
         first = false;
       } else {
@@ -137,4 +193,183 @@ public class Plurival<T extends Object> implements Iterable<T> {
 
     return res.toString();
   }
+
+  /**
+   * The plurival without any values
+   */
+  private static final class Empty extends Plurival<Object> {
+    private Empty() {
+      super(calcHash(ImmutableList.of()));
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return true;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public Stream<Object> stream() {
+      return Stream.empty();
+    }
+
+    @Override
+    public int size() {
+      return 0;
+    }
+  }
+
+  /**
+   * A plurival with exactly one value
+   */
+  private static final class Singleton<T> extends Plurival<T> {
+    private final T value;
+
+    private Singleton(final T value) {
+      super(calcHashOfSingleValue(value));
+      this.value = value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return Iterators.singletonIterator(value);
+    }
+
+    @Override
+    public Stream<T> stream() {
+      return Stream.of(value);
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+
+  /**
+   * A plurival with only some values, stored in an array - without duplicates
+   */
+  private static final class Small<T> extends Plurival<T> {
+    private final Object[] values;
+
+    private Small(final Object[] values) {
+      super(calcHash(Arrays.asList(values)));
+      this.values = values;
+    }
+
+    /**
+     * Builds a plurival from the values - duplicates are left out. (The
+     * <code>values</code> array may be changed and used by the plurival.)
+     */
+    private static <T> Plurival<T> withoutDuplicates(final Object[] values) {
+      // Comparing the hash codes first is cheap - only values with the same hash
+      // code have to be compared by equals().
+      final int[] fingerprints = new int[values.length];
+
+      int size = 0;
+      for (final Object value : values) {
+        final int fingerprint = value.hashCode();
+        if (!contains(values, fingerprints, size, value, fingerprint)) {
+          values[size] = value;
+          fingerprints[size] = fingerprint;
+          size++;
+        }
+      }
+
+      if (size == 1) {
+        @SuppressWarnings("unchecked")
+        final T onlyValue = (T) values[0];
+        return new Singleton<>(onlyValue);
+      }
+
+      return new Small<>(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    private static boolean contains(final Object[] values, final int[] fingerprints, final int size,
+        final Object value, final int fingerprint) {
+      for (int i = 0; i < size; i++) {
+        if (fingerprints[i] == fingerprint && values[i].equals(value)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+      return (Iterator<T>) Iterators.forArray(values);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<T> stream() {
+      return (Stream<T>) Arrays.stream(values);
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+
+  /**
+   * A plurival with many values - without duplicates
+   */
+  private static final class Large<T> extends Plurival<T> {
+    private final ImmutableSet<T> values;
+
+    private Large(final ImmutableSet<T> values) {
+      super(calcHash(values));
+      this.values = values;
+    }
+
+    /**
+     * Builds a plurival from the values - duplicates are left out. (Without
+     * duplicates, there might be only a few values left.)
+     */
+    private static <T> Plurival<T> withoutDuplicates(final ImmutableCollection<T> values) {
+      final ImmutableSet<T> set = ImmutableSet.copyOf(values);
+      if (set.size() <= MAX_SIZE_OF_SMALL_PLURIVAL) {
+        return of(set);
+      }
+
+      return new Large<>(set);
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return values.iterator();
+    }
+
+    @Override
+    public Stream<T> stream() {
+      return values.stream();
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
 }
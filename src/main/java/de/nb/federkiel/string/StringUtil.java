@@ -204,6 +204,15 @@ public class StringUtil {
     return false;
   }
 
+  /**
+   * Like {@link String#endsWith(String)}, but ignoring case - and without creating a lower-case
+   * copy of the string.
+   */
+  public static boolean endsWithIgnoreCase(final String string, final String ending) {
+    return string.regionMatches(true, string.length() - ending.length(), ending, 0,
+        ending.length());
+  }
+
   public static boolean startsWith(final String string, final String... possibleBeginnings) {
     for (final String possibleBeginning : possibleBeginnings) {
       if (string.startsWith(possibleBeginning)) {
@@ -0,0 +1,168 @@
+package de.nb.federkiel.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.grammatik.phrase.Nominalphrase;
+import de.nb.federkiel.deutsch.grammatik.valenz.Valenz;
+import de.nb.federkiel.deutsch.grammatik.valenz.Valenzvariante;
+import de.nb.federkiel.deutsch.grammatik.wortart.adjektiv.Adjektiv;
+import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.AdjektivFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.FremdwortTyp;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivPronomenUtil;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.VerbFlektierer;
+import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.Substantiv;
+import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.SubstantivFlektierer;
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.deutsch.lexikon.GermanPOS;
+import de.nb.federkiel.feature.FeatureStructure;
+import de.nb.federkiel.feature.RestrictedFSSet;
+import de.nb.federkiel.feature.RoleFrameCollectionMergeTerm;
+import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.logic.Constant;
+import de.nb.federkiel.logic.UnassignedVariableException;
+import de.nb.federkiel.plurivallogic.SingleValuePlurivalTerm;
+
+/**
+ * The workloads of the {@link ScalabilityBenchmark} - each one is a typical
+ * call into the library. All threads share the same flektierers and the same
+ * (global) caches, as an application would.
+ */
+enum BenchmarkWorkload {
+	SUBSTANTIV {
+		@Override
+		int run(final int i) {
+			return Data.SUBSTANTIV_FLEKTIERER.std(Data.SUBSTANTIVE[i % Data.SUBSTANTIVE.length],
+					GermanPOS.NN.toString(), true, true, false, false, FremdwortTyp.KEIN_FREMDWORT, false, false)
+					.size();
+		}
+	},
+	VERB {
+		@Override
+		int run(final int i) {
+			final int v = i % Data.VERBEN.length;
+			return Data.VERB_FLEKTIERER.stdFin(Data.VALENZVARIANTEN[v], Data.VERBEN[v], GermanPOS.VVFIN.toString())
+					.size();
+		}
+	},
+	ADJEKTIV {
+		@Override
+		int run(final int i) {
+			final Lexeme adjektiv = Data.ADJEKTIVE[i % Data.ADJEKTIVE.length];
+			final Kasus kasus = Kasus.values()[i % Kasus.values().length];
+			final Genus genus = Genus.values()[i % Genus.values().length];
+
+			return Data.ADJEKTIV_FLEKTIERER.adjPositivStark(adjektiv, adjektiv.getCanonicalizedForm(), kasus,
+					Numerus.SINGULAR, genus).size()
+					+ Data.ADJEKTIV_FLEKTIERER.adjSchwach(adjektiv, adjektiv.getCanonicalizedForm(),
+							GermanUtil.KOMPARATION_KOMPARATIV, kasus, Numerus.PLURAL, null).size();
+		}
+	},
+	NOMINALPHRASE {
+		@Override
+		int run(final int i) {
+			final Nominalphrase nominalphrase = Data.NOMINALPHRASEN[i % Data.NOMINALPHRASEN.length];
+			final Kasus kasus = Kasus.values()[i % Kasus.values().length];
+
+			return nominalphrase.getFlektiertMitArtikel(kasus, Numerus.SINGULAR, Artikel.UNBESTIMMT).length()
+					+ nominalphrase.getFlektiertMitArtikel(kasus, Numerus.PLURAL, Artikel.BESTIMMT).length();
+		}
+	},
+	MERGE {
+		@Override
+		int run(final int i) {
+			final RestrictedFSSet first = Data.ROLE_FRAME_SLOTS[i % Data.ROLE_FRAME_SLOTS.length];
+			final RestrictedFSSet second = Data.ROLE_FRAME_SLOTS[(i / Data.ROLE_FRAME_SLOTS.length + 1)
+					% Data.ROLE_FRAME_SLOTS.length];
+
+			try {
+				return new RoleFrameCollectionMergeTerm(SingleValuePlurivalTerm.of(Constant.of(first)),
+						SingleValuePlurivalTerm.of(Constant.of(second))).evaluate(null).size();
+			} catch (final UnassignedVariableException e) {
+				// cannot happen - the term does not contain any variables
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	/**
+	 * Runs the workload once.
+	 *
+	 * @param i varies the input (word, case, ...)
+	 * @return something calculated from the result - so that the call cannot be
+	 *         optimized away
+	 */
+	abstract int run(int i);
+
+	/**
+	 * The input data - in its own class, so that it is built when the first
+	 * workload runs (and not while the enum constants are being built).
+	 */
+	private static final class Data {
+		private static final SubstantivFlektierer SUBSTANTIV_FLEKTIERER = new SubstantivFlektierer();
+
+		private static final VerbFlektierer VERB_FLEKTIERER = new VerbFlektierer();
+
+		private static final AdjektivFlektierer ADJEKTIV_FLEKTIERER = new AdjektivFlektierer();
+
+		private static final Lexeme[] SUBSTANTIVE = {
+				SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM),
+				SubstantivPronomenUtil.createNN("Mensch", false, Genus.MASKULINUM),
+				SubstantivPronomenUtil.createNN("Firma", false, Genus.FEMININUM),
+				SubstantivPronomenUtil.createNN("Direktor", false, Genus.MASKULINUM),
+				SubstantivPronomenUtil.createNN("Zirkus", false, Genus.MASKULINUM),
+				SubstantivPronomenUtil.createNN("Familie", false, Genus.FEMININUM) };
+
+		private static final Lexeme[] VERBEN = {
+				new Lexeme(GermanLexemeType.VOLLVERB, "lachen"),
+				new Lexeme(GermanLexemeType.VOLLVERB, "sammeln"),
+				new Lexeme(GermanLexemeType.VOLLVERB, "rechnen"),
+				new Lexeme(GermanLexemeType.VOLLVERB, "gehen"),
+				new Lexeme(GermanLexemeType.VOLLVERB, "finden") };
+
+		private static final Valenzvariante[] VALENZVARIANTEN = valenzvarianten(VERBEN);
+
+		private static final Lexeme[] ADJEKTIVE = {
+				new Lexeme(GermanLexemeType.ADJEKTIV, "dunkel"),
+				new Lexeme(GermanLexemeType.ADJEKTIV, "klein"),
+				new Lexeme(GermanLexemeType.ADJEKTIV, "hoch"),
+				new Lexeme(GermanLexemeType.ADJEKTIV, "frei") };
+
+		private static final Nominalphrase[] NOMINALPHRASEN = {
+				new Nominalphrase(new Adjektiv("klein"),
+						Substantiv.imSingularStarkDekliniert("Ork", "Orks", "Orks", Genus.MASKULINUM)),
+				new Nominalphrase(new Adjektiv("dunkel"),
+						Substantiv.schwachDekliniert("Frau", "Frau", "Frauen", Genus.FEMININUM)),
+				new Nominalphrase(
+						Substantiv.imSingularStarkDekliniert("Geist", "Geistes", "Geister", "Geistern",
+								Genus.MASKULINUM)) };
+
+		private static final RestrictedFSSet[] ROLE_FRAME_SLOTS = {
+				RestrictedFSSet.of(0, -1, features("kasus", "nom", "numerus", "sg"), features("person", "3")),
+				RestrictedFSSet.of(0, -1, features("genus", "m")),
+				RestrictedFSSet.of(0, -1, features("kasus", "akk"), features("numerus", "pl", "genus", "f")),
+				RestrictedFSSet.of(0, -1, features("tempus", "praes")) };
+
+		private static Valenzvariante[] valenzvarianten(final Lexeme[] verben) {
+			final Valenzvariante[] res = new Valenzvariante[verben.length];
+			for (int i = 0; i < verben.length; i++) {
+				res[i] = new Valenzvariante(verben[i].getCanonicalizedForm(), Valenz.TRANSITIV_IES);
+			}
+
+			return res;
+		}
+
+		private static FeatureStructure features(final String key, final String value) {
+			return FeatureStructure.fromStringValues(null, ImmutableMap.of(key, value));
+		}
+
+		private static FeatureStructure features(final String key1, final String value1, final String key2,
+				final String value2) {
+			return FeatureStructure.fromStringValues(null, ImmutableMap.of(key1, value1, key2, value2));
+		}
+	}
+}
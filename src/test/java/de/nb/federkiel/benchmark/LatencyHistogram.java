@@ -0,0 +1,81 @@
+package de.nb.federkiel.benchmark;
+
+/**
+ * A histogram of latencies (in nanoseconds) with logarithmic buckets - each
+ * power of two is split into 16 buckets, so percentiles are exact up to about
+ * 6 percent, while recording a value is only some arithmetic.
+ * <p>
+ * Not thread-safe - each thread should record into its own histogram, the
+ * histograms can be added afterwards.
+ */
+final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private final long[] counts = new long[Long.SIZE * SUB_BUCKET_COUNT];
+
+	private long totalCount;
+
+	void record(final long nanos) {
+		counts[index(Math.max(0, nanos))]++;
+		totalCount++;
+	}
+
+	void add(final LatencyHistogram other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		totalCount += other.totalCount;
+	}
+
+	long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * @param percentile e.g. <code>99.0</code>
+	 * @return an upper bound of the latency (in nanoseconds), that this
+	 *         percentage of the recorded values does not exceed - or 0, if
+	 *         nothing has been recorded
+	 */
+	long getValueAtPercentile(final double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return highestValueIn(i);
+			}
+		}
+
+		return highestValueIn(counts.length - 1);
+	}
+
+	private static int index(final long nanos) {
+		if (nanos < SUB_BUCKET_COUNT) {
+			return (int) nanos;
+		}
+
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+		final int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+		return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+	}
+
+	private static long highestValueIn(final int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+		final long lowest = ((long) (SUB_BUCKET_COUNT + (index & (SUB_BUCKET_COUNT - 1)))) << shift;
+
+		return lowest + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,125 @@
+package de.nb.federkiel.benchmark;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Periodically samples the worker threads (by the {@link ThreadMXBean}) and
+ * counts, on which monitor they are blocked.
+ * <p>
+ * A monitor is described by its class and identity hash code - and by the first
+ * calling method outside the monitor's class. So the several
+ * {@link de.nb.federkiel.cache.WeakCache} instances can be told apart: the
+ * caller shows, whether it is the cache of the feature structures, the cache of
+ * the role frame slots etc.
+ */
+final class MonitorContentionSampler implements Runnable {
+	private static final int STACK_DEPTH = 8;
+
+	private final ThreadMXBean threadMXBean;
+
+	private final long[] threadIds;
+
+	private final long intervalNanos;
+
+	private final Map<String, Integer> blockedSamples = new HashMap<>();
+
+	private int numberOfSamples;
+
+	private volatile boolean stopped;
+
+	MonitorContentionSampler(final ThreadMXBean threadMXBean, final long[] threadIds,
+			final long intervalNanos) {
+		this.threadMXBean = threadMXBean;
+		this.threadIds = threadIds.clone();
+		this.intervalNanos = intervalNanos;
+	}
+
+	@Override
+	public void run() {
+		while (!stopped) {
+			sample();
+			numberOfSamples++;
+
+			try {
+				TimeUnit.NANOSECONDS.sleep(intervalNanos);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void sample() {
+		for (final @Nullable ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadIds, STACK_DEPTH)) {
+			if (threadInfo == null || threadInfo.getThreadState() != Thread.State.BLOCKED) {
+				continue;
+			}
+
+			final @Nullable LockInfo lockInfo = threadInfo.getLockInfo();
+			if (lockInfo == null) {
+				continue;
+			}
+
+			blockedSamples.merge(describe(lockInfo, threadInfo.getStackTrace()), 1, Integer::sum);
+		}
+	}
+
+	private static String describe(final LockInfo lockInfo, final StackTraceElement[] stackTrace) {
+		final StringBuilder res = new StringBuilder();
+		res.append(simpleName(lockInfo.getClassName()));
+		res.append('@');
+		res.append(Integer.toHexString(lockInfo.getIdentityHashCode()));
+
+		if (stackTrace.length > 0) {
+			res.append(" in ");
+			res.append(methodName(stackTrace[0]));
+
+			for (final StackTraceElement element : stackTrace) {
+				if (!element.getClassName().equals(stackTrace[0].getClassName())) {
+					res.append(" via ");
+					res.append(methodName(element));
+					break;
+				}
+			}
+		}
+
+		return res.toString();
+	}
+
+	private static String methodName(final StackTraceElement element) {
+		return simpleName(element.getClassName()) + "." + element.getMethodName();
+	}
+
+	private static String simpleName(final String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * Stops sampling - the thread running the sampler should be joined before
+	 * reading the results.
+	 */
+	void stop() {
+		stopped = true;
+	}
+
+	int getNumberOfSamples() {
+		return numberOfSamples;
+	}
+
+	/**
+	 * @return for each monitor, in how many samples a worker thread was blocked
+	 *         on it (several blocked threads are counted several times)
+	 */
+	ImmutableMap<String, Integer> getBlockedSamples() {
+		return ImmutableMap.copyOf(blockedSamples);
+	}
+}
@@ -0,0 +1,268 @@
+package de.nb.federkiel.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+/**
+ * Drives a mix of all {@link BenchmarkWorkload}s from 1, 2, 4, ... up to N
+ * threads and reports for each thread count the throughput, the p50 and p99
+ * latencies and the lock contention - so one can see, where the library stops
+ * scaling, and which monitors are to blame.
+ * <p>
+ * Lock contention is measured by the {@link ThreadMXBean}: the number of times
+ * and the time, the worker threads have been blocked in total, and - by
+ * sampling - on which monitors they have been blocked.
+ * <p>
+ * Usage: <code>ScalabilityBenchmark [maxThreads [secondsPerThreadCount]]</code>
+ * (also: <code>./gradlew scalabilityBenchmark</code>).
+ */
+public final class ScalabilityBenchmark {
+	private static final long SAMPLING_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final int NUMBER_OF_MONITORS_REPORTED = 5;
+
+	private static final ImmutableList<BenchmarkWorkload> WORKLOADS = ImmutableList
+			.copyOf(BenchmarkWorkload.values());
+
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	private final long nanosPerThreadCount;
+
+	/**
+	 * Keeps the results of the workloads - so the calls cannot be optimized
+	 * away.
+	 */
+	@SuppressWarnings("unused")
+	private volatile long sink;
+
+	private ScalabilityBenchmark(final long nanosPerThreadCount) {
+		this.nanosPerThreadCount = nanosPerThreadCount;
+
+		if (threadMXBean.isThreadContentionMonitoringSupported()) {
+			threadMXBean.setThreadContentionMonitoringEnabled(true);
+		}
+	}
+
+	public static void main(final String[] args) throws InterruptedException {
+		final int maxThreads = args.length > 0 ? Integer.parseInt(args[0])
+				: 2 * Runtime.getRuntime().availableProcessors();
+		final int secondsPerThreadCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		final ScalabilityBenchmark benchmark = new ScalabilityBenchmark(
+				TimeUnit.SECONDS.toNanos(secondsPerThreadCount));
+
+		// warm-up: fill the caches, let the JIT compile
+		benchmark.run(maxThreads);
+
+		final List<Result> results = new ArrayList<>();
+		for (final int threadCount : threadCounts(maxThreads)) {
+			final Result result = benchmark.run(threadCount);
+			results.add(result);
+			result.print();
+		}
+
+		printSummary(results);
+	}
+
+	/**
+	 * @return 1, 2, 4, ... - and <code>maxThreads</code>
+	 */
+	private static ImmutableList<Integer> threadCounts(final int maxThreads) {
+		final ImmutableList.Builder<Integer> res = ImmutableList.builder();
+
+		int threadCount = 1;
+		while (threadCount < maxThreads) {
+			res.add(threadCount);
+			threadCount *= 2;
+		}
+		res.add(maxThreads);
+
+		return res.build();
+	}
+
+	/**
+	 * Runs the workloads from so many threads for the configured time.
+	 */
+	private Result run(final int threadCount) throws InterruptedException {
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		final Worker[] workers = new Worker[threadCount];
+		final Thread[] threads = new Thread[threadCount];
+		final long[] threadIds = new long[threadCount];
+
+		for (int i = 0; i < threadCount; i++) {
+			workers[i] = new Worker(i, startSignal);
+			threads[i] = new Thread(workers[i], "benchmark-worker-" + i);
+			threadIds[i] = threads[i].getId();
+			threads[i].start();
+		}
+
+		final MonitorContentionSampler sampler = new MonitorContentionSampler(threadMXBean, threadIds,
+				SAMPLING_INTERVAL_NANOS);
+		final Thread samplerThread = new Thread(sampler, "benchmark-sampler");
+		samplerThread.setDaemon(true);
+
+		final long start = System.nanoTime();
+		final long deadline = start + nanosPerThreadCount;
+		for (final Worker worker : workers) {
+			worker.deadline = deadline;
+		}
+
+		samplerThread.start();
+		startSignal.countDown();
+
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+		final long elapsedNanos = System.nanoTime() - start;
+
+		sampler.stop();
+		samplerThread.join();
+
+		final LatencyHistogram latencies = new LatencyHistogram();
+		long blockedCount = 0;
+		long blockedMillis = 0;
+		for (final Worker worker : workers) {
+			latencies.add(worker.latencies);
+			blockedCount += worker.blockedCount;
+			blockedMillis += Math.max(0, worker.blockedMillis);
+			sink += worker.sink;
+		}
+
+		return new Result(threadCount, elapsedNanos, latencies, blockedCount,
+				threadMXBean.isThreadContentionMonitoringEnabled() ? blockedMillis : -1,
+				sampler.getNumberOfSamples(), sampler.getBlockedSamples());
+	}
+
+	private static void printSummary(final List<Result> results) {
+		System.out.println();
+		System.out.println(String.format("%8s %14s %10s %10s %12s %14s", "threads", "ops/s", "p50 [us]",
+				"p99 [us]", "blocked", "blocked [ms]"));
+		for (final Result result : results) {
+			System.out.println(String.format("%8d %14.0f %10.1f %10.1f %12d %14s", result.threadCount,
+					result.getThroughput(), result.latencies.getValueAtPercentile(50.0) / 1000.0,
+					result.latencies.getValueAtPercentile(99.0) / 1000.0, result.blockedCount,
+					result.blockedMillis < 0 ? "n/a" : Long.toString(result.blockedMillis)));
+		}
+	}
+
+	/**
+	 * Runs the mixed workloads - each thread starts at another workload, so that
+	 * at any time, different workloads are running.
+	 */
+	private final class Worker implements Runnable {
+		private final int threadIndex;
+
+		private final CountDownLatch startSignal;
+
+		private final LatencyHistogram latencies = new LatencyHistogram();
+
+		private volatile long deadline;
+
+		private long sink;
+
+		private long blockedCount;
+
+		private long blockedMillis;
+
+		private Worker(final int threadIndex, final CountDownLatch startSignal) {
+			this.threadIndex = threadIndex;
+			this.startSignal = startSignal;
+		}
+
+		@Override
+		public void run() {
+			try {
+				startSignal.await();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			final long end = deadline;
+			long now = System.nanoTime();
+			for (int i = threadIndex; now < end; i++) {
+				final BenchmarkWorkload workload = WORKLOADS.get(i % WORKLOADS.size());
+
+				final long start = now;
+				sink += workload.run(i / WORKLOADS.size());
+				now = System.nanoTime();
+
+				latencies.record(now - start);
+			}
+
+			final @Nullable ThreadInfo threadInfo = threadMXBean.getThreadInfo(Thread.currentThread().getId());
+			if (threadInfo != null) {
+				blockedCount = threadInfo.getBlockedCount();
+				blockedMillis = threadInfo.getBlockedTime();
+			}
+		}
+	}
+
+	/**
+	 * The result of running the workloads with one thread count
+	 */
+	private static final class Result {
+		private final int threadCount;
+
+		private final long elapsedNanos;
+
+		private final LatencyHistogram latencies;
+
+		private final long blockedCount;
+
+		/**
+		 * -1, if the time is not measured
+		 */
+		private final long blockedMillis;
+
+		private final int numberOfSamples;
+
+		private final Map<String, Integer> blockedSamples;
+
+		private Result(final int threadCount, final long elapsedNanos, final LatencyHistogram latencies,
+				final long blockedCount, final long blockedMillis, final int numberOfSamples,
+				final Map<String, Integer> blockedSamples) {
+			this.threadCount = threadCount;
+			this.elapsedNanos = elapsedNanos;
+			this.latencies = latencies;
+			this.blockedCount = blockedCount;
+			this.blockedMillis = blockedMillis;
+			this.numberOfSamples = numberOfSamples;
+			this.blockedSamples = blockedSamples;
+		}
+
+		private double getThroughput() {
+			return latencies.getTotalCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+		}
+
+		private void print() {
+			System.out.println(String.format("%d thread(s): %.0f ops/s, p50 %.1f us, p99 %.1f us, "
+					+ "blocked %d times (%s ms)", threadCount, getThroughput(),
+					latencies.getValueAtPercentile(50.0) / 1000.0, latencies.getValueAtPercentile(99.0) / 1000.0,
+					blockedCount, blockedMillis < 0 ? "n/a" : Long.toString(blockedMillis)));
+
+			if (numberOfSamples == 0) {
+				return;
+			}
+
+			final Ordering<Map.Entry<String, Integer>> bySamples = Ordering.<Integer>natural()
+					.onResultOf(Map.Entry::getValue);
+			for (final Map.Entry<String, Integer> entry : bySamples.greatestOf(blockedSamples.entrySet(),
+					NUMBER_OF_MONITORS_REPORTED)) {
+				System.out.println(String.format("    %5.1f%% of samples blocked on %s",
+						100.0 * entry.getValue() / numberOfSamples, entry.getKey()));
+			}
+		}
+	}
+}
@@ -0,0 +1,221 @@
+package de.nb.federkiel.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+public class PersistentHashMapTest extends TestCase {
+	/**
+	 * A key with a given hash code - to force collisions
+	 */
+	private static final class Key {
+		private final String name;
+
+		private final int hash;
+
+		private Key(final String name, final int hash) {
+			this.name = name;
+			this.hash = hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key && ((Key) obj).name.equals(name);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	public void testEmpty() throws Exception {
+		final PersistentHashMap<String, Integer> map = PersistentHashMap.of();
+
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.size());
+		assertNull(map.get("a"));
+		assertNull(map.get(null));
+		assertFalse(map.entrySet().iterator().hasNext());
+		assertSame(map, map.without("a"));
+	}
+
+	public void testWithGetWithout() throws Exception {
+		final PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>of("a", 1).with("b", 2);
+
+		assertEquals(2, map.size());
+		assertEquals(Integer.valueOf(1), map.get("a"));
+		assertEquals(Integer.valueOf(2), map.get("b"));
+		assertNull(map.get("c"));
+		assertTrue(map.containsKey("b"));
+
+		final PersistentHashMap<String, Integer> replaced = map.with("a", 3);
+		assertEquals(2, replaced.size());
+		assertEquals(Integer.valueOf(3), replaced.get("a"));
+
+		assertSame(map, map.with("a", 1));
+
+		final PersistentHashMap<String, Integer> removed = map.without("a");
+		assertEquals(1, removed.size());
+		assertNull(removed.get("a"));
+		assertEquals(Integer.valueOf(2), removed.get("b"));
+		assertSame(removed, removed.without("a"));
+
+		assertTrue(removed.without("b").isEmpty());
+	}
+
+	public void testNullNotAllowed() throws Exception {
+		try {
+			PersistentHashMap.of().with(null, "a");
+			fail();
+		} catch (final NullPointerException e) {
+			// expected
+		}
+
+		try {
+			PersistentHashMap.of().with("a", null);
+			fail();
+		} catch (final NullPointerException e) {
+			// expected
+		}
+	}
+
+	public void testSnapshotsAreShared() throws Exception {
+		PersistentHashMap<Integer, String> map = PersistentHashMap.of();
+		final List<PersistentHashMap<Integer, String>> snapshots = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			snapshots.add(map);
+			map = map.with(i, "v" + i);
+		}
+
+		for (int i = 0; i < 100; i++) {
+			final PersistentHashMap<Integer, String> snapshot = snapshots.get(i);
+			assertEquals(i, snapshot.size());
+			for (int j = 0; j < 100; j++) {
+				assertEquals(j < i ? "v" + j : null, snapshot.get(j));
+			}
+		}
+
+		final PersistentHashMap<Integer, String> without = map.without(50);
+		assertEquals("v50", map.get(50));
+		assertNull(without.get(50));
+		assertEquals(100, map.size());
+		assertEquals(99, without.size());
+	}
+
+	public void testCollisions() throws Exception {
+		final Key a = new Key("a", 42);
+		final Key b = new Key("b", 42);
+		final Key c = new Key("c", 42);
+		final Key d = new Key("d", 42 + (1 << 5));
+
+		PersistentHashMap<Key, Integer> map = PersistentHashMap.<Key, Integer>of(a, 1).with(b, 2).with(c, 3).with(d, 4);
+
+		assertEquals(4, map.size());
+		assertEquals(Integer.valueOf(1), map.get(new Key("a", 42)));
+		assertEquals(Integer.valueOf(2), map.get(b));
+		assertEquals(Integer.valueOf(3), map.get(c));
+		assertEquals(Integer.valueOf(4), map.get(d));
+		assertNull(map.get(new Key("e", 42)));
+
+		map = map.with(b, 5);
+		assertEquals(4, map.size());
+		assertEquals(Integer.valueOf(5), map.get(b));
+
+		map = map.without(a).without(c);
+		assertEquals(2, map.size());
+		assertNull(map.get(a));
+		assertEquals(Integer.valueOf(5), map.get(b));
+		assertEquals(Integer.valueOf(4), map.get(d));
+
+		map = map.without(b).without(d);
+		assertTrue(map.isEmpty());
+	}
+
+	public void testEqualsAndHashCodeLikeJavaUtilMaps() throws Exception {
+		final Random random = new Random(4711);
+		PersistentHashMap<Integer, Integer> map = PersistentHashMap.of();
+		final Map<Integer, Integer> expected = new HashMap<>();
+
+		for (int i = 0; i < 5000; i++) {
+			final Integer key = random.nextInt(500);
+			if (random.nextInt(3) == 0) {
+				map = map.without(key);
+				expected.remove(key);
+			} else {
+				final Integer value = random.nextInt(10);
+				map = map.with(key, value);
+				expected.put(key, value);
+			}
+
+			assertEquals(expected.size(), map.size());
+		}
+
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		assertEquals(expected.entrySet(), map.entrySet());
+		assertEquals(expected.keySet(), map.keySet());
+
+		assertEquals(map, PersistentHashMap.copyOf(new LinkedHashMap<>(expected)));
+		assertFalse(map.equals(map.with(1000, 1)));
+		assertFalse(map.isEmpty() || map.equals(map.without(map.keySet().iterator().next())));
+	}
+
+	public void testIterationOrderIsInsertionOrder() throws Exception {
+		final List<Integer> keys = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			keys.add(i * 7919);
+		}
+		Collections.shuffle(keys, new Random(42));
+
+		PersistentHashMap<Integer, String> map = PersistentHashMap.of();
+		final Map<Integer, String> expected = new LinkedHashMap<>();
+		for (final Integer key : keys) {
+			map = map.with(key, "v" + key);
+			expected.put(key, "v" + key);
+		}
+
+		assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+		// the second iteration uses the entries sorted by the first one
+		assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+
+		// replacing a value keeps the position
+		map = map.with(keys.get(0), "new");
+		expected.put(keys.get(0), "new");
+		// removing and adding again moves the key to the end
+		map = map.without(keys.get(1)).with(keys.get(1), "again");
+		expected.remove(keys.get(1));
+		expected.put(keys.get(1), "again");
+
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+		assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+
+		final List<Integer> forEachKeys = new ArrayList<>();
+		map.forEach((key, value) -> forEachKeys.add(key));
+		assertEquals(new ArrayList<>(expected.keySet()), forEachKeys);
+
+		assertEquals(new ArrayList<>(expected.keySet()),
+				new ArrayList<>(PersistentHashMap.copyOf(expected).keySet()));
+	}
+
+	public void testIteratorIsUnmodifiable() throws Exception {
+		try {
+			PersistentHashMap.of("a", 1).entrySet().iterator().remove();
+			fail();
+		} catch (final UnsupportedOperationException | IllegalStateException e) {
+			// expected
+		}
+	}
+}
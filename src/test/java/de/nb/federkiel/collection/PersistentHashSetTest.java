@@ -0,0 +1,66 @@
+package de.nb.federkiel.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+public class PersistentHashSetTest extends TestCase {
+	public void testWithContainsWithout() throws Exception {
+		final PersistentHashSet<String> set = PersistentHashSet.of("a").with("b");
+
+		assertEquals(2, set.size());
+		assertTrue(set.contains("a"));
+		assertTrue(set.contains("b"));
+		assertFalse(set.contains("c"));
+		assertSame(set, set.with("a"));
+
+		final PersistentHashSet<String> without = set.without("a");
+		assertEquals(1, without.size());
+		assertFalse(without.contains("a"));
+		assertTrue(set.contains("a"));
+		assertSame(without, without.without("a"));
+		assertTrue(without.without("b").isEmpty());
+	}
+
+	public void testWithAll() throws Exception {
+		final PersistentHashSet<String> set = PersistentHashSet.of("b").withAll(Arrays.asList("a", "b", "c"));
+
+		assertEquals(Arrays.asList("b", "a", "c"), new ArrayList<>(set));
+		assertEquals(Arrays.asList("a", "c"),
+				new ArrayList<>(PersistentHashSet.<String>of().withAll(Arrays.asList("a", "c"))));
+	}
+
+	public void testEqualsAndHashCodeLikeJavaUtilSets() throws Exception {
+		final Set<Integer> expected = new HashSet<>();
+		PersistentHashSet<Integer> set = PersistentHashSet.of();
+		for (int i = 0; i < 300; i++) {
+			set = set.with(i * 31);
+			expected.add(i * 31);
+		}
+		for (int i = 0; i < 300; i += 3) {
+			set = set.without(i * 31);
+			expected.remove(i * 31);
+		}
+
+		assertEquals(expected, set);
+		assertEquals(set, expected);
+		assertEquals(expected.hashCode(), set.hashCode());
+		assertEquals(set, PersistentHashSet.copyOf(expected));
+	}
+
+	public void testIterationOrderIsInsertionOrder() throws Exception {
+		final Set<String> expected = new LinkedHashSet<>();
+		PersistentHashSet<String> set = PersistentHashSet.of();
+		for (int i = 99; i >= 0; i--) {
+			set = set.with("e" + i);
+			expected.add("e" + i);
+		}
+
+		assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+		assertEquals(new ArrayList<>(expected), new ArrayList<>(PersistentHashSet.copyOf(expected)));
+	}
+}
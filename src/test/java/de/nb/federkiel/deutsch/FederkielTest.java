@@ -0,0 +1,127 @@
+package de.nb.federkiel.deutsch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivPronomenUtil;
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.LexemeRegistry;
+import junit.framework.TestCase;
+
+public class FederkielTest extends TestCase {
+	private static final ImmutableList<Lexeme> LEXEME = ImmutableList.of(
+			SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM),
+			new Lexeme(GermanLexemeType.VOLLVERB, "lachen"),
+			new Lexeme(GermanLexemeType.ADJEKTIV, "klein"),
+			// wird uebersprungen
+			new Lexeme(GermanLexemeType.MODALVERB, "wollen"),
+			// ohne Genus - schlaegt fehl
+			new Lexeme(GermanLexemeType.NORMALES_NOMEN, "Ding"));
+
+	/**
+	 * Fuehrt die Aufgaben erst aus, wenn der Test es will
+	 */
+	private static final class SpaeterExecutor implements Executor {
+		private final List<Runnable> aufgaben = new ArrayList<>();
+
+		@Override
+		public void execute(final Runnable aufgabe) {
+			aufgaben.add(aufgabe);
+		}
+
+		private void fuehreAus() {
+			for (final Runnable aufgabe : aufgaben) {
+				aufgabe.run();
+			}
+		}
+	}
+
+	public void testWarmUp() throws Exception {
+		final SpaeterExecutor executor = new SpaeterExecutor();
+		final Aufwaermung aufwaermung = Federkiel.warmUp(LEXEME, executor);
+
+		assertFalse(aufwaermung.isDone());
+		assertEquals(0.0, aufwaermung.getFortschritt(), 0.0);
+		assertEquals(5, aufwaermung.getAnzahlLexeme());
+
+		executor.fuehreAus();
+
+		assertTrue(aufwaermung.isDone());
+		assertFalse(aufwaermung.isCancelled());
+		assertTrue(aufwaermung.isGeschlosseneWortklassenErledigt());
+		assertEquals(5, aufwaermung.getAnzahlLexemeErledigt());
+		assertEquals(1.0, aufwaermung.getFortschritt(), 0.0);
+
+		final Aufwaermstatistik statistik = aufwaermung.get();
+		assertEquals(5, statistik.getAnzahlLexeme());
+		assertEquals(3, statistik.getAnzahlVorflektiert());
+		assertEquals(1, statistik.getAnzahlUebersprungen());
+		assertEquals(1, statistik.getAnzahlFehlgeschlagen());
+		assertEquals(statistik.getNanosKlasseninitialisierung() + statistik.getNanosGeschlosseneWortklassen()
+				+ statistik.getNanosLexeme(), statistik.getNanosGesamt());
+
+		assertSame(statistik, aufwaermung.getErgebnis().toCompletableFuture().get());
+	}
+
+	public void testLexemeWerdenNichtRegistriert() throws Exception {
+		final Lexeme lexeme = new Lexeme(GermanLexemeType.ADJEKTIV, "dunkel");
+
+		Federkiel.warmUp(ImmutableList.of(lexeme), Runnable::run).get();
+
+		assertNotSame(lexeme, LexemeRegistry.intern(new Lexeme(GermanLexemeType.ADJEKTIV, "dunkel")));
+	}
+
+	public void testErgebnisLaesstSichVonAussenNichtSetzen() throws Exception {
+		final SpaeterExecutor executor = new SpaeterExecutor();
+		final Aufwaermung aufwaermung = Federkiel.warmUp(LEXEME, executor);
+
+		aufwaermung.getErgebnis().toCompletableFuture()
+				.complete(new Aufwaermstatistik(0, 0, 0, 0, 0, 0, 0));
+		assertFalse(aufwaermung.isDone());
+
+		executor.fuehreAus();
+
+		assertEquals(3, aufwaermung.get().getAnzahlVorflektiert());
+	}
+
+	public void testAbbruch() throws Exception {
+		final SpaeterExecutor executor = new SpaeterExecutor();
+		final Aufwaermung aufwaermung = Federkiel.warmUp(LEXEME, executor);
+
+		assertTrue(aufwaermung.cancel(false));
+		executor.fuehreAus();
+
+		assertTrue(aufwaermung.isCancelled());
+		assertEquals(0, aufwaermung.getAnzahlLexemeErledigt());
+		assertEquals(1.0, aufwaermung.getFortschritt(), 0.0);
+		try {
+			aufwaermung.get();
+			fail("Abgebrochen - kein Ergebnis erwartet");
+		} catch (final CancellationException e) {
+			// erwartet
+		}
+	}
+
+	public void testExecutorLehntAb() throws Exception {
+		final Aufwaermung aufwaermung = Federkiel.warmUp(LEXEME, aufgabe -> {
+			throw new RejectedExecutionException("voll");
+		});
+
+		assertTrue(aufwaermung.isDone());
+		assertFalse(aufwaermung.isCancelled());
+		try {
+			aufwaermung.get();
+			fail("Abgelehnt - kein Ergebnis erwartet");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+	}
+}
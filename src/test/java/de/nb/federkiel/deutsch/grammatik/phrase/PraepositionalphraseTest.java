@@ -0,0 +1,56 @@
+package de.nb.federkiel.deutsch.grammatik.phrase;
+
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.MASKULINUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Genus.NEUTRUM;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.AKKUSATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Kasus.DATIV;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.PLURAL;
+import static de.nb.federkiel.deutsch.grammatik.kategorie.Numerus.SINGULAR;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.grammatik.wortart.artikelwort.Artikel;
+import de.nb.federkiel.deutsch.grammatik.wortart.praeposition.Praeposition;
+import de.nb.federkiel.deutsch.grammatik.wortart.substantiv.Substantiv;
+import junit.framework.TestCase;
+
+public class PraepositionalphraseTest extends TestCase {
+	private static final Substantiv HAUS = Substantiv.imSingularStarkDekliniert("Haus", "Hauses", "Huser",
+			"Husern", NEUTRUM);
+
+	private static final Substantiv TISCH = Substantiv.imSingularStarkDekliniert("Tisch", "Tisches", "Tische",
+			"Tischen", MASKULINUM);
+
+	public void testWechselpraepositionMitAkkusativ() throws Exception {
+		assertEquals("ins Haus", new Praepositionalphrase(Praeposition.IN, AKKUSATIV, bestimmt(HAUS, SINGULAR))
+				.getFlektiert());
+		assertEquals("ans Haus", new Praepositionalphrase(Praeposition.AN, AKKUSATIV, bestimmt(HAUS, SINGULAR))
+				.getFlektiert());
+		assertEquals("aufs Haus", new Praepositionalphrase(Praeposition.AUF, AKKUSATIV, bestimmt(HAUS, SINGULAR))
+				.getFlektiert());
+		assertEquals("auf den Tisch",
+				new Praepositionalphrase(Praeposition.AUF, AKKUSATIV, bestimmt(TISCH, SINGULAR)).getFlektiert());
+		assertEquals("in die Huser",
+				new Praepositionalphrase(Praeposition.IN, AKKUSATIV, bestimmt(HAUS, PLURAL)).getFlektiert());
+	}
+
+	public void testWechselpraepositionMitDativ() throws Exception {
+		assertEquals("im Haus", new Praepositionalphrase(Praeposition.IN, bestimmt(HAUS, SINGULAR)).getFlektiert());
+		assertEquals("im Haus",
+				new Praepositionalphrase(Praeposition.IN, DATIV, bestimmt(HAUS, SINGULAR)).getFlektiert());
+		assertEquals("auf dem Tisch",
+				new Praepositionalphrase(Praeposition.AUF, DATIV, bestimmt(TISCH, SINGULAR)).getFlektiert());
+	}
+
+	public void testKasusWirdNichtRegiert() throws Exception {
+		try {
+			new Praepositionalphrase(Praeposition.MIT, AKKUSATIV, bestimmt(HAUS, SINGULAR));
+			fail("mit regiert nicht den Akkusativ");
+		} catch (final IllegalArgumentException e) {
+			// erwartet
+		}
+	}
+
+	private static ArtNumNominalphrase bestimmt(final Substantiv substantiv, final Numerus numerus) {
+		return new ArtNumNominalphrase(Artikel.BESTIMMT, new Nominalphrase(substantiv), numerus);
+	}
+}
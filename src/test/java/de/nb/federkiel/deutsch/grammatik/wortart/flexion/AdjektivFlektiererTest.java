@@ -0,0 +1,49 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_KOMPARATIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.KOMPARATION_POSITIV;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_SCHWACH;
+import static de.nb.federkiel.deutsch.grammatik.wortart.flexion.GermanUtil.STAERKE_STARK;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Kasus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.lexikon.Lexeme;
+import junit.framework.TestCase;
+
+public class AdjektivFlektiererTest extends TestCase {
+	public void testParadigma() {
+		final Adjektivparadigma paradigma = new AdjektivFlektierer()
+				.paradigma(new Lexeme(GermanLexemeType.ADJEKTIV, "klein"), "klein");
+
+		assertEquals("kleiner", paradigma.getWortform(KOMPARATION_POSITIV, STAERKE_STARK, Kasus.NOMINATIV,
+				Numerus.SINGULAR, Genus.MASKULINUM));
+		assertEquals("kleinen", paradigma.getWortform(KOMPARATION_POSITIV, STAERKE_SCHWACH, Kasus.DATIV,
+				Numerus.PLURAL, null));
+		assertEquals("kleinere", paradigma.getWortform(KOMPARATION_KOMPARATIV, STAERKE_SCHWACH,
+				Kasus.NOMINATIV, Numerus.SINGULAR, Genus.FEMININUM));
+	}
+
+	public void testParadigmaWirdJeLexemGecachet() {
+		final AdjektivFlektierer flektierer = new AdjektivFlektierer();
+
+		final Adjektivparadigma paradigma = flektierer.paradigma(new Lexeme(GermanLexemeType.ADJEKTIV, "frei"),
+				"frei");
+
+		// ein gleiches (aber anderes) Lexem-Objekt
+		assertSame(paradigma, flektierer.paradigma(new Lexeme(GermanLexemeType.ADJEKTIV, "frei"), "frei"));
+	}
+
+	public void testAndererStammErzeugtNeuesParadigma() {
+		final AdjektivFlektierer flektierer = new AdjektivFlektierer();
+		final Lexeme hoch = new Lexeme(GermanLexemeType.ADJEKTIV, "hoch");
+
+		final Adjektivparadigma hochParadigma = flektierer.paradigma(hoch, "hoch");
+		final Adjektivparadigma hohParadigma = flektierer.paradigma(hoch, "hoh");
+
+		assertNotSame(hochParadigma, hohParadigma);
+		assertEquals("hoh", hohParadigma.getStamm());
+		assertSame(hohParadigma, flektierer.paradigma(hoch, "hoh"));
+	}
+}
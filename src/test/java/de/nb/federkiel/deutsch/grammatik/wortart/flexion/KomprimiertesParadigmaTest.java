@@ -0,0 +1,72 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.Arrays;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.lexikon.Lexeme;
+import junit.framework.TestCase;
+
+public class KomprimiertesParadigmaTest extends TestCase {
+	private static final String[] STUHL = { "Stuhl", "Stuhles", "Stuhl", "Stuhl", "Sthle", "Sthle",
+			"Sthlen", "Sthle" };
+
+	private static final String[] GAST = { "Gast", "Gastes", "Gast", "Gast", "Gste", "Gste", "Gsten",
+			"Gste" };
+
+	public void testParadigmaBleibtErhalten() {
+		assertTrue(Arrays.equals(STUHL, KomprimiertesParadigma.of(STUHL).toArray()));
+		assertTrue(Arrays.equals(GAST, KomprimiertesParadigma.of(GAST).toArray()));
+	}
+
+	public void testUmlautGehoertZurEndung() {
+		final KomprimiertesParadigma stuhl = KomprimiertesParadigma.of(STUHL);
+		final KomprimiertesParadigma gast = KomprimiertesParadigma.of(GAST);
+
+		assertEquals("Stuhl", stuhl.getStamm());
+		assertEquals("Gast", gast.getStamm());
+		assertSame(stuhl.getEndungsmuster(), gast.getEndungsmuster());
+	}
+
+	public void testZellenOhneWortform() {
+		final String[] paradigma = { "Leute", null, "Leuten", null };
+
+		final KomprimiertesParadigma komprimiert = KomprimiertesParadigma.of(paradigma);
+
+		assertNull(komprimiert.getWortform(1));
+		assertEquals("Leuten", komprimiert.getWortform(2));
+		assertTrue(Arrays.equals(paradigma, komprimiert.toArray()));
+	}
+
+	public void testOhneGemeinsamesPraefix() {
+		final String[] paradigma = { "gut", "besser", "best" };
+
+		assertEquals("", KomprimiertesParadigma.of(paradigma).getStamm());
+		assertTrue(Arrays.equals(paradigma, KomprimiertesParadigma.of(paradigma).toArray()));
+	}
+
+	public void testGleichheit() {
+		final KomprimiertesParadigma stuhl = KomprimiertesParadigma.of(STUHL);
+
+		assertEquals(stuhl, KomprimiertesParadigma.of(STUHL.clone()));
+		assertEquals(stuhl.hashCode(), KomprimiertesParadigma.of(STUHL.clone()).hashCode());
+		assertFalse(stuhl.equals(KomprimiertesParadigma.of(GAST)));
+	}
+
+	public void testGleicheEndungsmusterWerdenGeteilt() {
+		assertSame(Endungsmuster.of("", "s", null), Endungsmuster.of("", "s", null));
+		assertNotSame(Endungsmuster.of("", "s", null), Endungsmuster.of("", "es", null));
+	}
+
+	public void testParadigmenspeicherZaehltSeineEndungsmuster() {
+		final Paradigmenspeicher speicher = new Paradigmenspeicher();
+		final Lexeme stuhl = SubstantivPronomenUtil.createNN("Stuhl", false, Genus.MASKULINUM);
+		final Lexeme gast = SubstantivPronomenUtil.createNN("Gast", false, Genus.MASKULINUM);
+
+		speicher.put(stuhl, STUHL);
+		speicher.put(gast, GAST);
+
+		assertEquals(2, speicher.size());
+		assertEquals(1, speicher.getAnzahlEndungsmuster());
+		assertEquals("Gsten", speicher.getWortform(gast, 6));
+	}
+}
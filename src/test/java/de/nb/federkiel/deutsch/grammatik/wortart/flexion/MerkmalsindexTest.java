@@ -0,0 +1,74 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
+import de.nb.federkiel.feature.UnspecifiedFeatureValue;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.Wortform;
+import junit.framework.TestCase;
+
+public class MerkmalsindexTest extends TestCase {
+	private static final Lexeme LEXEM = new Lexeme(GermanLexemeType.NORMALES_NOMEN, "Indexhaus");
+
+	private static final IWordForm NOM_SG = wortform("Indexhaus", "nom", "sg", "Indexhaus");
+
+	private static final IWordForm DAT_SG = wortform("Indexhause", "dat", "sg", "Indexhaus");
+
+	private static final IWordForm DAT_PL = wortform("Indexhaeusern", "dat", "pl", "Indexhaus");
+
+	/**
+	 * Kasus und Nennform unspezifiziert
+	 */
+	private static final IWordForm UNSPEZIFIZIERT = wortform("Indexhaeuser", UnspecifiedFeatureValue.UNSPECIFIED_STRING,
+			"pl", UnspecifiedFeatureValue.UNSPECIFIED_STRING);
+
+	private final Merkmalsindex index = new Merkmalsindex(ImmutableList.of(NOM_SG, DAT_SG, DAT_PL, UNSPEZIFIZIERT));
+
+	public void testSchneidetDieMerkmale() {
+		assertEquals(ImmutableList.of(DAT_SG), index.finde(ImmutableMap.of("kasus", "dat", "numerus", "sg")));
+	}
+
+	public void testUnspezifizierterAufzaehlbarerWertPasstZuJedemWert() {
+		assertEquals(ImmutableList.of(DAT_PL, UNSPEZIFIZIERT),
+				index.finde(ImmutableMap.of("kasus", "dat", "numerus", "pl")));
+		assertEquals(ImmutableList.of(UNSPEZIFIZIERT), index.finde(ImmutableMap.of("kasus", "akk")));
+	}
+
+	public void testUnspezifizierterNichtAufzaehlbarerWertPasstZuJedemWert() {
+		assertEquals(ImmutableList.of(NOM_SG, DAT_SG, DAT_PL, UNSPEZIFIZIERT),
+				index.finde(ImmutableMap.of(GermanUtil.NENNFORM_KEY, "Indexhaus")));
+		assertEquals(ImmutableList.of(UNSPEZIFIZIERT), index.finde(ImmutableMap.of(GermanUtil.NENNFORM_KEY, "Hof")));
+	}
+
+	public void testOhneMerkmaleAlleWortformen() {
+		assertEquals(index.getWortformen(), index.finde(ImmutableMap.of()));
+	}
+
+	public void testUnbekanntesMerkmal() {
+		assertTrue(index.finde(ImmutableMap.of("person", "1")).isEmpty());
+	}
+
+	public void testUnmoeglicherWert() {
+		try {
+			index.finde(ImmutableMap.of("kasus", "ablativ"));
+			fail("Exception expected");
+		} catch (final IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void testTrefferSindDieIndizes() {
+		assertEquals(2, index.treffer(ImmutableMap.of("numerus", "pl")).cardinality());
+		assertTrue(index.treffer(ImmutableMap.of("numerus", "pl")).get(2));
+	}
+
+	private static IWordForm wortform(final String string, final String kasus, final String numerus,
+			final String nennform) {
+		return new Wortform(LEXEM, "NN", string, LexiconFeatureStructureUtil.fromStringValues(
+				ImmutableMap.of("kasus", kasus, "numerus", numerus, GermanUtil.NENNFORM_KEY, nennform)));
+	}
+}
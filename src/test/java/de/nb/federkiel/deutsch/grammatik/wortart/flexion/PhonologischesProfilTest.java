@@ -0,0 +1,69 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import junit.framework.TestCase;
+
+public class PhonologischesProfilTest extends TestCase {
+	private static final String[] WORTFORMEN = { "Haus", "Tisch", "Atem", "Kino", "Tee", "Ei", "Nackedei", "Motor",
+			"Hase", "Esel", "Lehrer", "Kammer", "Garten", "Villa", "Uhu", "Fluss", "Bus", "dunkel", "teuer", "Mai",
+			"rechn", "segn", "Zirkus", "Moment", "", "a", "Interface", "Idee", "Schmoel", "Kiel", "Tier", "Moor",
+			"Hazienda", "Kamera", "Ski", "Schuh", "Show", "Fisch", "Tenor", "Rektor", "Fee", "Allee", "Knie", "Zoo",
+			"Aroma", "Boa", "Pizza", "Faden", "Lehm", "atm", "Kown", "Zorn", "Bowm", "Meer", "Aal", "Seen", "ebn",
+			"Gram", "Strae", "Paa", "Fu", "Hexen", "Ende", "Legende", "Kiez" };
+
+	/**
+	 * Alle Zeichenketten bis zu dieser Laenge aus {@link #ALPHABET} werden
+	 * geprueft
+	 */
+	private static final int MAXIMALE_LAENGE = 4;
+
+	private static final String ALPHABET = "aeiouyhmnsgwcdrlzO";
+
+	public void testWieGermanUtil() throws Exception {
+		for (final String wortform : WORTFORMEN) {
+			assertWieGermanUtil(wortform);
+		}
+	}
+
+	public void testWieGermanUtil_alleKurzenZeichenketten() throws Exception {
+		assertWieGermanUtilFuerAlleVerlaengerungen("");
+	}
+
+	public void testGecachet() throws Exception {
+		for (final String wortform : WORTFORMEN) {
+			assertSame(wortform, PhonologischesProfil.of(wortform),
+					PhonologischesProfil.of(new String(wortform.toCharArray())));
+		}
+	}
+
+	private static void assertWieGermanUtilFuerAlleVerlaengerungen(final String wortform) {
+		assertWieGermanUtil(wortform);
+
+		if (wortform.length() < MAXIMALE_LAENGE) {
+			for (int i = 0; i < ALPHABET.length(); i++) {
+				assertWieGermanUtilFuerAlleVerlaengerungen(wortform + ALPHABET.charAt(i));
+			}
+		}
+	}
+
+	private static void assertWieGermanUtil(final String wortform) {
+		final PhonologischesProfil profil = PhonologischesProfil.of(wortform);
+
+		assertEquals(wortform, GermanUtil.letztesZeichenIstVokal(wortform), profil.letztesZeichenIstVokal());
+		assertEquals(wortform, GermanUtil.endetAufBetontenVollvokal(wortform), profil.endetAufBetontenVollvokal());
+		assertEquals(wortform, GermanUtil.endetAufUnbetontenVollvokal(wortform), profil.endetAufUnbetontenVollvokal());
+		assertEquals(wortform, GermanUtil.endetAufVollvokal(wortform), profil.endetAufVollvokal());
+		assertEquals(wortform, GermanUtil.hatKonsonantischenWortausgang(wortform),
+				profil.hatKonsonantischenWortausgang());
+		assertEquals(wortform, GermanUtil.endetAufObstruentPlusMOderN(wortform), profil.endetAufObstruentPlusMOderN());
+		assertEquals(wortform, GermanUtil.endetAufSLaut(wortform), profil.endetAufSLaut());
+		assertEquals(wortform, GermanUtil.endetAufSchLaut(wortform), profil.endetAufSchLaut());
+		assertEquals(wortform, GermanUtil.endetAufLateinischemOr(wortform), profil.endetAufLateinischemOr());
+		assertEquals(wortform, GermanUtil.endetUnbetontMitSilbenreimEELEr(wortform),
+				profil.endetUnbetontMitSilbenreimEELEr());
+		assertEquals(wortform, GermanUtil.endetUnbetontMitSilbenreimElEnEndEmEr(wortform),
+				profil.endetUnbetontMitSilbenreimElEnEndEmEr());
+		assertEquals(wortform, GermanUtil.erlaubtAdjektivischeETilgungBeiSuffixEnUndEm(wortform),
+				profil.erlaubtAdjektivischeETilgungBeiSuffixEnUndEm());
+		assertEquals(wortform, GermanUtil.isLateinADeklination(wortform), profil.isLateinADeklination());
+	}
+}
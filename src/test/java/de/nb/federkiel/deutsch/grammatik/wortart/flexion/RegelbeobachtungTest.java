@@ -0,0 +1,72 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.nb.federkiel.event.OperationEvent;
+import de.nb.federkiel.event.OperationEvents;
+import de.nb.federkiel.event.OperationTimer;
+import junit.framework.TestCase;
+
+public class RegelbeobachtungTest extends TestCase {
+	@Override
+	protected void tearDown() throws Exception {
+		Regelbeobachtung.setBeobachter(Regelbeobachtung.KEINER);
+		OperationEvents.setListener(null);
+		super.tearDown();
+	}
+
+	public void testOhneBeobachterKeineMessung() throws Exception {
+		assertSame(OperationTimer.DISABLED, Regelbeobachtung.starte("regel", null));
+
+		Regelbeobachtung.setBeobachter(new RegelHistogramm(false));
+		assertSame(OperationTimer.DISABLED, Regelbeobachtung.starte("regel", null));
+	}
+
+	public void testZaehlen() throws Exception {
+		final RegelHistogramm histogramm = new RegelHistogramm();
+		Regelbeobachtung.setBeobachter(histogramm);
+
+		Regelbeobachtung.zaehle("regel");
+		Regelbeobachtung.zaehle("regel");
+		Regelbeobachtung.zaehle("klasse", "STARK");
+
+		assertEquals(2, histogramm.getAnzahl("regel"));
+		assertEquals(1, histogramm.getAnzahl("klasse: STARK"));
+	}
+
+	public void testEineMessungFuerBeobachterUndListener() throws Exception {
+		final RegelHistogramm histogramm = new RegelHistogramm(true);
+		Regelbeobachtung.setBeobachter(histogramm);
+		final List<OperationEvent> events = new ArrayList<>();
+		OperationEvents.setListener(events::add);
+
+		final OperationTimer messung = Regelbeobachtung.starte("regel", "Lexem");
+		messung.setNumberOfAlternatives(2);
+		messung.end();
+
+		assertEquals(1, events.size());
+		assertEquals("regel", events.get(0).getOperation());
+		assertEquals("Lexem", events.get(0).getSubject());
+		assertEquals(events.get(0).getDurationNanos(), histogramm.getNanos("regel"));
+	}
+
+	public void testFehlgeschlageneMessung() throws Exception {
+		final List<OperationEvent> events = new ArrayList<>();
+		OperationEvents.setListener(events::add);
+
+		try {
+			final OperationTimer messung = Regelbeobachtung.starte("regel", null);
+			try {
+				throw new IllegalStateException();
+			} finally {
+				messung.end();
+			}
+		} catch (final IllegalStateException e) {
+			// erwartet
+		}
+
+		assertEquals(1, events.size());
+		assertTrue(events.get(0).isFailed());
+	}
+}
@@ -0,0 +1,78 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.flexion;
+
+import junit.framework.TestCase;
+
+public class WortbausteinTest extends TestCase {
+	public void testOhneAenderungDieBasis() {
+		final String basis = "Gast";
+
+		assertSame(basis, Wortbaustein.of(basis).toString());
+	}
+
+	public void testTilgung() {
+		// finster -> finstr|er
+		assertGleich("finstrer", Wortbaustein.of("finster").mitTilgung(5).plus("er"));
+	}
+
+	public void testErsatz() {
+		// Gast -> Gst|e
+		assertGleich("Gste", Wortbaustein.of("Gast").mitErsatz(1, '').plus("e"));
+	}
+
+	public void testErsatzHinterDerTilgung() {
+		assertGleich("abdX", Wortbaustein.of("abcde").mitTilgung(2).mitErsatz(4, 'X'));
+	}
+
+	public void testOhneLetzte() {
+		// Atlas -> Atl|anten
+		assertGleich("Atlanten", Wortbaustein.of("Atlas").ohneLetzte(2).plus("anten"));
+	}
+
+	public void testOhneLetzteVerwirftTilgungUndErsatzImGekuerztenTeil() {
+		assertGleich("ab", Wortbaustein.of("abcd").mitTilgung(3).mitErsatz(2, 'X').ohneLetzte(2));
+	}
+
+	public void testOhneLetzteNachEndungUnmoeglich() {
+		try {
+			Wortbaustein.of("Gast").plus("e").ohneLetzte(1);
+			fail("Exception expected");
+		} catch (final IllegalStateException e) {
+			// expected
+		}
+	}
+
+	public void testMehrereEndungen() {
+		assertGleich("kleineren", Wortbaustein.of("klein").plus("er").plus("en"));
+	}
+
+	public void testGrossgeschrieben() {
+		assertGleich("pfel", Wortbaustein.of("apfel").mitErsatz(0, '').grossgeschrieben());
+	}
+
+	public void testEndetAuf() {
+		final Wortbaustein baustein = Wortbaustein.of("finster").mitTilgung(5).plus("er");
+
+		assertTrue(baustein.endetAuf("rer"));
+		assertTrue(baustein.endetAuf(""));
+		assertFalse(baustein.endetAuf("ter"));
+		assertFalse(baustein.endetAuf("xfinstrer"));
+	}
+
+	public void testLangerBaustein() {
+		final StringBuilder basis = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			basis.append((char) ('a' + i % 26));
+		}
+
+		assertGleich(basis + "en", Wortbaustein.of(basis.toString()).plus("en"));
+	}
+
+	private static void assertGleich(final String erwartet, final Wortbaustein baustein) {
+		assertEquals(erwartet, baustein.toString());
+		assertEquals(erwartet.length(), baustein.length());
+		for (int i = 0; i < erwartet.length(); i++) {
+			assertEquals(erwartet.charAt(i), baustein.charAt(i));
+		}
+		assertEquals(erwartet.substring(1), baustein.subSequence(1, baustein.length()).toString());
+	}
+}
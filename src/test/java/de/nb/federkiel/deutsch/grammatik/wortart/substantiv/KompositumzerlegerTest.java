@@ -0,0 +1,32 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.substantiv;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.collection.Pair;
+import junit.framework.TestCase;
+
+public class KompositumzerlegerTest extends TestCase {
+	private final Kompositumzerleger zerleger = new Kompositumzerleger(
+			ImmutableList.of("Gesellschaft", "Schifffahrtsgesellschaft", "Haus", "Ei"));
+
+	public void testLaengsterKopf() {
+		assertEquals(Pair.of("Donaudampf", "Schifffahrtsgesellschaft"),
+				zerleger.zerlege("Donaudampfschifffahrtsgesellschaft"));
+	}
+
+	public void testKopfWirdAlsNennformZurueckgegeben() {
+		assertEquals(Pair.of("Bauern", "Haus"), zerleger.zerlege("Bauernhaus"));
+	}
+
+	public void testKurzeKoepfeWerdenNichtAbgetrennt() {
+		assertNull(zerleger.zerlege("Osterei"));
+	}
+
+	public void testBestimmungswortIstNieLeer() {
+		assertNull(zerleger.zerlege("Haus"));
+	}
+
+	public void testOhneKopf() {
+		assertNull(zerleger.zerlege("Firma"));
+	}
+}
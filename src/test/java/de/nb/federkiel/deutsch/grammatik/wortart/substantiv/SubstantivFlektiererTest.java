@@ -0,0 +1,117 @@
+package de.nb.federkiel.deutsch.grammatik.wortart.substantiv;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableList;
+
+import de.nb.federkiel.deutsch.grammatik.kategorie.Genus;
+import de.nb.federkiel.deutsch.grammatik.kategorie.Numerus;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.Artikelwortbezug;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.FremdwortTyp;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.KasusInfo;
+import de.nb.federkiel.deutsch.grammatik.wortart.flexion.SubstantivPronomenUtil;
+import de.nb.federkiel.deutsch.lexikon.GermanPOS;
+import de.nb.federkiel.interfaces.IWordForm;
+import de.nb.federkiel.lexikon.KompakteWortform;
+import de.nb.federkiel.lexikon.Lexeme;
+import de.nb.federkiel.lexikon.LexemeRegistry;
+import de.nb.federkiel.lexikon.Wortform;
+import junit.framework.TestCase;
+
+public class SubstantivFlektiererTest extends TestCase {
+	public void testDeklinationenWerdenJeLexemGecachet() {
+		final SubstantivFlektierer flektierer = new SubstantivFlektierer(null, 10);
+
+		final Collection<IWordForm> haus = std(flektierer, SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM));
+		// ein gleiches (aber anderes) Lexem-Objekt
+		final Collection<IWordForm> hausNochmal = std(flektierer,
+				SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM));
+
+		assertSame(haus, hausNochmal);
+		assertEquals(1, flektierer.getDeklinationsCacheStatistik().hitCount());
+		assertEquals(1, flektierer.getAnzahlGecachterDeklinationen());
+	}
+
+	public void testCacheIstBegrenzt() {
+		final SubstantivFlektierer flektierer = new SubstantivFlektierer(null, 2);
+
+		std(flektierer, SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM));
+		std(flektierer, SubstantivPronomenUtil.createNN("Mensch", false, Genus.MASKULINUM));
+		std(flektierer, SubstantivPronomenUtil.createNN("Firma", false, Genus.FEMININUM));
+
+		assertTrue(flektierer.getAnzahlGecachterDeklinationen() <= 2);
+	}
+
+	public void testCacheRegistriertDasLexemNicht() {
+		final Lexeme lexeme = SubstantivPronomenUtil.createNN("Direktor", false, Genus.MASKULINUM);
+
+		std(new SubstantivFlektierer(null, 10), lexeme);
+
+		assertNotSame(lexeme, LexemeRegistry
+				.intern(new Lexeme(lexeme.getType(), lexeme.getCanonicalizedForm(), lexeme.getFeatures())));
+	}
+
+	public void testOhneCacheGleicheWortformen() {
+		final Lexeme lexeme = SubstantivPronomenUtil.createNN("Familie", false, Genus.FEMININUM);
+
+		assertEquals(std(new SubstantivFlektierer(), lexeme), std(new SubstantivFlektierer(null, 10), lexeme));
+		assertNull(new SubstantivFlektierer().getDeklinationsCacheStatistik());
+	}
+
+	public void testKompositumWieSeinKopf() {
+		final SubstantivFlektierer mitZerlegung = new SubstantivFlektierer(
+				new Kompositumzerleger(ImmutableList.of("Gesellschaft")));
+		final Lexeme kompositum = SubstantivPronomenUtil.createNN("Donaudampfschifffahrtsgesellschaft", false,
+				Genus.FEMININUM);
+
+		assertEquals(strings(std(new SubstantivFlektierer(), kompositum)), strings(std(mitZerlegung, kompositum)));
+		// jetzt aus dem Cache der Kopfflexionen
+		assertEquals(strings(std(new SubstantivFlektierer(), kompositum)), strings(std(mitZerlegung, kompositum)));
+	}
+
+	public void testKompakteWortformGleichWortformMitDenselbenMerkmalen() {
+		final Lexeme lexeme = SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM);
+
+		for (final IWordForm kompakt : std(new SubstantivFlektierer(), lexeme)) {
+			assertTrue(kompakt instanceof KompakteWortform);
+			assertGleich(kompakt, Wortform.lexemeFeaturesAlreadyIntegrated(kompakt.getLexem(), kompakt.getPos(),
+					kompakt.getString(), kompakt.getFeatures()));
+
+			for (final IWordForm expandiert : kompakt.expandToUpperLowerCaseForms(false, Locale.GERMAN)) {
+				assertGleich(expandiert, Wortform.lexemeFeaturesAlreadyIntegrated(expandiert.getLexem(),
+						expandiert.getPos(), expandiert.getString(), expandiert.getFeatures()));
+			}
+		}
+	}
+
+	public void testBuildSubstantivWortformLiefertGleicheWortform() {
+		final Lexeme lexeme = SubstantivPronomenUtil.createNN("Haus", false, Genus.NEUTRUM);
+
+		final Wortform akkSg = SubstantivFlektierer.buildSubstantivWortform(lexeme, GermanPOS.NN.toString(),
+				KasusInfo.AKK, Numerus.SINGULAR, Artikelwortbezug.ZWINGEND_MIT_ARTIKELWORT_AUSSER_IM_TELEGRAMMSTIL,
+				"Haus");
+
+		assertTrue(std(new SubstantivFlektierer(), lexeme).stream().anyMatch(akkSg::equals));
+		assertTrue(std(new SubstantivFlektierer(), lexeme).stream().anyMatch(w -> w.equals(akkSg)));
+	}
+
+	private static void assertGleich(final IWordForm kompakt, final Wortform wortform) {
+		assertEquals(kompakt, wortform);
+		assertEquals(wortform, kompakt);
+		assertEquals(kompakt.hashCode(), wortform.hashCode());
+		assertEquals(0, kompakt.compareTo(wortform));
+		assertEquals(0, wortform.compareTo(kompakt));
+	}
+
+	private static ImmutableList<String> strings(final Collection<IWordForm> wortformen) {
+		return ImmutableList
+				.copyOf(wortformen.stream().map(IWordForm::getString).sorted().collect(Collectors.toList()));
+	}
+
+	private static Collection<IWordForm> std(final SubstantivFlektierer flektierer, final Lexeme lexeme) {
+		return flektierer.std(lexeme, GermanPOS.NN.toString(), true, true, false, false, FremdwortTyp.KEIN_FREMDWORT,
+				false, false);
+	}
+}
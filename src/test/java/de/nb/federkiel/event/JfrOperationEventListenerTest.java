@@ -0,0 +1,49 @@
+package de.nb.federkiel.event;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import junit.framework.TestCase;
+
+public class JfrOperationEventListenerTest extends TestCase {
+	public void testEventsAreRecorded() throws Exception {
+		final JfrOperationEventListener listener = new JfrOperationEventListener();
+		final Path file = Files.createTempFile("federkiel", ".jfr");
+		try {
+			try (Recording recording = new Recording()) {
+				recording.enable(JfrOperationEventListener.EVENT_NAME);
+				recording.start();
+				listener.operationFinished(new OperationEvent("op", "subject", 3, 1234, false));
+				listener.operationFinished(new OperationEvent("failing", null, -1, 5678, true));
+				recording.stop();
+				recording.dump(file);
+			}
+
+			final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+					.filter(e -> e.getEventType().getName().equals(JfrOperationEventListener.EVENT_NAME))
+					.collect(Collectors.toList());
+			assertEquals(2, events.size());
+
+			assertEquals("op", events.get(0).getString("operation"));
+			assertEquals("subject", events.get(0).getString("subject"));
+			assertEquals(3, events.get(0).getInt("numberOfAlternatives"));
+			assertEquals(1234, events.get(0).getLong("durationNanos"));
+			assertFalse(events.get(0).getBoolean("failed"));
+
+			assertEquals("failing", events.get(1).getString("operation"));
+			assertNull(events.get(1).getString("subject"));
+			assertTrue(events.get(1).getBoolean("failed"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	public void testWithoutRecording() throws Exception {
+		new JfrOperationEventListener().operationFinished(new OperationEvent("op", "subject", 3, 1234, false));
+	}
+}
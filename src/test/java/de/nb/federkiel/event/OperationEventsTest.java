@@ -0,0 +1,67 @@
+package de.nb.federkiel.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class OperationEventsTest extends TestCase {
+	private final List<OperationEvent> events = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		OperationEvents.setListener(events::add);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		OperationEvents.setListener(null);
+		super.tearDown();
+	}
+
+	public void testDisabled() throws Exception {
+		OperationEvents.setListener(null);
+
+		final OperationTimer timer = OperationEvents.begin("op", "subject");
+		assertSame(OperationTimer.DISABLED, timer);
+		assertFalse(timer.isEnabled());
+		timer.setNumberOfAlternatives(3);
+		timer.end();
+
+		assertTrue(events.isEmpty());
+	}
+
+	public void testSuccessfulOperation() throws Exception {
+		final OperationTimer timer = OperationEvents.begin("op", "subject");
+		assertTrue(timer.isEnabled());
+		timer.setNumberOfAlternatives(3);
+		timer.end();
+		timer.end();
+
+		assertEquals(1, events.size());
+		final OperationEvent event = events.get(0);
+		assertEquals("op", event.getOperation());
+		assertEquals("subject", event.getSubject());
+		assertEquals(3, event.getNumberOfAlternatives());
+		assertFalse(event.isFailed());
+		assertTrue(event.getDurationNanos() >= 0);
+	}
+
+	public void testFailedOperationIsRecorded() throws Exception {
+		try {
+			final OperationTimer timer = OperationEvents.begin("op", null);
+			try {
+				throw new IllegalStateException("failed");
+			} finally {
+				timer.end();
+			}
+		} catch (final IllegalStateException e) {
+			// expected
+		}
+
+		assertEquals(1, events.size());
+		assertTrue(events.get(0).isFailed());
+		assertEquals(-1, events.get(0).getNumberOfAlternatives());
+	}
+}
@@ -0,0 +1,97 @@
+package de.nb.federkiel.feature;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.interfaces.IFeatureValue;
+import de.nb.federkiel.semantik.NothingInParticularSemantics;
+
+import junit.framework.TestCase;
+
+/**
+ * The parser builds its result alternatives by iterating the features of a
+ * feature structure and the fillings of a slot - so these must keep their
+ * insertion order.
+ */
+public class FeatureStructureTest extends TestCase {
+	public void testFeaturesKeepInsertionOrder() throws Exception {
+		final List<String> names = shuffledNames("order", 30);
+
+		final FeatureStructure featureStructure = fromNames(names, "x");
+
+		assertEquals(names, featureNames(featureStructure));
+		assertEquals(names, featureNames(featureStructure.generalizeFeature(names.get(10))));
+
+		final List<String> expectedAfterRemoval = new ArrayList<>(names);
+		expectedAfterRemoval.remove(5);
+		expectedAfterRemoval.remove(20);
+		assertEquals(expectedAfterRemoval,
+				featureNames(featureStructure.removeNames(ImmutableList.of(names.get(5), names.get(21)))));
+	}
+
+	public void testUnionKeepsOwnFeaturesInFront() throws Exception {
+		final List<String> mine = shuffledNames("mine", 3);
+		final List<String> others = shuffledNames("other", 20);
+
+		final FeatureStructure union = fromNames(mine, "m").disjunctUnionWithoutFreeFillings(fromNames(others, "o"),
+				NothingInParticularSemantics.INSTANCE);
+
+		final List<String> expected = new ArrayList<>(mine);
+		expected.addAll(others);
+		assertEquals(expected, featureNames(union));
+	}
+
+	public void testFillingsKeepInsertionOrder() throws Exception {
+		final List<FeatureStructure> fillings = new ArrayList<>();
+		for (final String name : shuffledNames("filling", 20)) {
+			fillings.add(FeatureStructure.fromValues(null, "name", StringFeatureValue.of(name)));
+		}
+
+		final RestrictedFSSet slot = RestrictedFSSet.of(0, -1, fillings.toArray(new FeatureStructure[fillings.size()]));
+
+		final List<FeatureStructure> actual = new ArrayList<>();
+		for (final FeatureStructure filling : slot) {
+			actual.add(filling);
+		}
+		assertEquals(fillings, actual);
+		assertEquals(fillings, new ArrayList<>(slot.getFillings()));
+		assertTrue(slot.toString().startsWith("(0..*) [" + fillings.get(0) + " ," + fillings.get(1)));
+	}
+
+	private static List<String> shuffledNames(final String prefix, final int count) {
+		final List<String> res = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			res.add(prefix + i);
+		}
+
+		Collections.shuffle(res, new Random(Arrays.hashCode(new Object[] { prefix, count })));
+		return res;
+	}
+
+	private static FeatureStructure fromNames(final List<String> names, final String value) {
+		final ImmutableMap.Builder<String, IFeatureValue> features = ImmutableMap.builder();
+		for (final String name : names) {
+			features.put(name, StringFeatureValue.of(value + name));
+		}
+
+		return FeatureStructure.fromValues(null, features.build());
+	}
+
+	private static List<String> featureNames(final FeatureStructure featureStructure) {
+		final List<String> res = new ArrayList<>();
+		for (final Iterator<Entry<String, IFeatureValue>> it = featureStructure.unorderedFeatureIterator(); it
+				.hasNext();) {
+			res.add(it.next().getKey());
+		}
+
+		return res;
+	}
+}
@@ -0,0 +1,87 @@
+package de.nb.federkiel.feature;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import de.nb.federkiel.interfaces.IFeatureValue;
+import de.nb.federkiel.plurivallogic.Plurival;
+import junit.framework.TestCase;
+
+public class RoleFrameTermTest extends TestCase {
+	/**
+	 * A slot term that evaluates to some given alternatives
+	 */
+	private static final class FixedSlotTerm extends RoleFrameSlotTerm {
+		private final Plurival<RestrictedFSSet> alternatives;
+
+		private FixedSlotTerm(final String name, final RestrictedFSSet... alternatives) {
+			super(name);
+			this.alternatives = Plurival.of(alternatives);
+		}
+
+		@Override
+		public Plurival<RestrictedFSSet> evaluate(final FeatureAssignment variableAssignment) {
+			return alternatives;
+		}
+	}
+
+	private static final RestrictedFSSet NOM = slot("kasus", "nom");
+
+	private static final RestrictedFSSet AKK = slot("kasus", "akk");
+
+	private static final RestrictedFSSet SG = slot("numerus", "sg");
+
+	private static final RestrictedFSSet PL = slot("numerus", "pl");
+
+	private static final RestrictedFSSet DAT = slot("kasus", "dat");
+
+	public void testOneAlternativeEach() throws Exception {
+		final Plurival<FeatureStructure> res = new RoleFrameTerm(new FixedSlotTerm("subjekt", NOM),
+				new FixedSlotTerm("objekt", AKK)).evaluate(null);
+
+		assertEquals(1, res.size());
+		final FeatureStructure roleFrame = res.iterator().next();
+		assertEquals(NOM, roleFrame.getFeatureValue("subjekt"));
+		assertEquals(AKK, roleFrame.getFeatureValue("objekt"));
+	}
+
+	public void testSeveralAlternativesGiveCrossProduct() throws Exception {
+		final Plurival<FeatureStructure> res = new RoleFrameTerm(new FixedSlotTerm("subjekt", NOM, SG),
+				new FixedSlotTerm("objekt", AKK, PL, DAT)).evaluate(null);
+
+		assertEquals(6, res.size());
+
+		final Set<String> combinations = new HashSet<>();
+		for (final FeatureStructure roleFrame : res) {
+			combinations.add(name(roleFrame.getFeatureValue("subjekt")) + "/" + name(roleFrame.getFeatureValue("objekt")));
+		}
+		assertEquals(6, combinations.size());
+	}
+
+	public void testNoAlternativeLeavesOutTheSlot() throws Exception {
+		final Plurival<FeatureStructure> res = new RoleFrameTerm(new FixedSlotTerm("subjekt", NOM, SG),
+				new FixedSlotTerm("objekt")).evaluate(null);
+
+		assertEquals(2, res.size());
+		for (final FeatureStructure roleFrame : res) {
+			assertNull(roleFrame.getFeatureValue("objekt", null));
+			assertNotNull(roleFrame.getFeatureValue("subjekt", null));
+		}
+	}
+
+	public void testNoSlotAlternativesAtAll() throws Exception {
+		final Plurival<FeatureStructure> res = new RoleFrameTerm(new FixedSlotTerm("subjekt"),
+				new FixedSlotTerm("objekt")).evaluate(null);
+
+		assertEquals(1, res.size());
+		assertNull(res.iterator().next().getFeatureValue("subjekt", null));
+	}
+
+	private static RestrictedFSSet slot(final String key, final String value) {
+		return RestrictedFSSet.of(0, -1, FeatureStructure.fromValues(null, key, StringFeatureValue.of(value)));
+	}
+
+	private static String name(final IFeatureValue slot) {
+		return slot.toString();
+	}
+}
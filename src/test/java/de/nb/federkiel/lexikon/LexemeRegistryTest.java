@@ -0,0 +1,49 @@
+package de.nb.federkiel.lexikon;
+
+import java.lang.ref.WeakReference;
+
+import com.google.common.collect.ImmutableMap;
+
+import de.nb.federkiel.deutsch.lexikon.GermanLexemeType;
+import de.nb.federkiel.feature.LexiconFeatureStructureUtil;
+import junit.framework.TestCase;
+
+public class LexemeRegistryTest extends TestCase {
+	public void testInternGleicheLexemeSindIdentisch() {
+		final Lexeme haus = LexemeRegistry.intern(new Lexeme(GermanLexemeType.NORMALES_NOMEN, "Registrierhaus"));
+		final Lexeme hausNochmal = LexemeRegistry
+				.intern(new Lexeme(GermanLexemeType.NORMALES_NOMEN, "Registrierhaus"));
+
+		assertSame(haus, hausNochmal);
+		assertSame(haus, LexemeRegistry.intern(haus));
+	}
+
+	public void testInternUnterscheidetTypUndMerkmale() {
+		final Lexeme ohneMerkmale = LexemeRegistry.intern(new Lexeme(GermanLexemeType.ADJEKTIV, "registrierklein"));
+		final Lexeme mitMerkmalen = LexemeRegistry.intern(new Lexeme(GermanLexemeType.ADJEKTIV, "registrierklein",
+				LexiconFeatureStructureUtil.fromStringValues(ImmutableMap.of("genus", "f"))));
+		final Lexeme andererTyp = LexemeRegistry.intern(new Lexeme(GermanLexemeType.VOLLVERB, "registrierklein"));
+
+		assertNotSame(ohneMerkmale, mitMerkmalen);
+		assertNotSame(ohneMerkmale, andererTyp);
+	}
+
+	public void testInternRegistriertDasErsteLexem() {
+		final Lexeme lexeme = new Lexeme(GermanLexemeType.VOLLVERB, "registrierlachen");
+
+		assertSame(lexeme, LexemeRegistry.intern(lexeme));
+		assertSame(lexeme, LexemeRegistry.intern(new Lexeme(GermanLexemeType.VOLLVERB, "registrierlachen")));
+	}
+
+	public void testNichtMehrReferenzierteLexemeWerdenFreigegeben() throws InterruptedException {
+		final WeakReference<Lexeme> referenz = new WeakReference<>(
+				LexemeRegistry.intern(new Lexeme(GermanLexemeType.NORMALES_NOMEN, "Wegwerfwort")));
+
+		for (int i = 0; i < 50 && referenz.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertNull("Die Registry darf Lexeme nicht festhalten", referenz.get());
+	}
+}
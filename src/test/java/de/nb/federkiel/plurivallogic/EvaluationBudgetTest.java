@@ -0,0 +1,146 @@
+package de.nb.federkiel.plurivallogic;
+
+import com.google.common.collect.ImmutableSet;
+
+import de.nb.federkiel.logic.IAssignment;
+import de.nb.federkiel.logic.UnassignedVariableException;
+import de.nb.federkiel.logic.Variable;
+import junit.framework.TestCase;
+
+public class EvaluationBudgetTest extends TestCase {
+	public void testWithinBudget() throws Exception {
+		final EvaluationBudget budget = new EvaluationBudget(100);
+
+		final Plurival<Integer> res = crossProduct(10, 10).evaluate(null, budget);
+
+		assertEquals(100, res.size());
+		assertEquals(100, budget.getUsed());
+	}
+
+	public void testBudgetExceeded() throws Exception {
+		final EvaluationBudget budget = new EvaluationBudget(99);
+		final long exceededBefore = EvaluationBudget.getNumberOfBudgetsExceeded();
+
+		try {
+			crossProduct(10, 10).evaluate(null, budget);
+			fail("Exception expected");
+		} catch (final EvaluationBudgetExceededException e) {
+			assertEquals(99, e.getMaximum());
+			assertEquals(100, e.getUsed());
+		}
+
+		assertEquals(exceededBefore + 1, EvaluationBudget.getNumberOfBudgetsExceeded());
+	}
+
+	public void testSubTermsChargeTheSameBudget() throws Exception {
+		final EvaluationBudget budget = new EvaluationBudget(1000);
+
+		crossProduct(crossProduct(2, 3), new Values(4)).evaluate(null, budget);
+
+		assertEquals(2 * 3 + 6 * 4, budget.getUsed());
+	}
+
+	public void testWithoutBudgetNoLimit() throws Exception {
+		EvaluationBudget.charge(Long.MAX_VALUE);
+
+		assertEquals(10000, crossProduct(100, 100).evaluate(null).size());
+	}
+
+	public void testBudgetIsOnlyCurrentWhileEvaluating() throws Exception {
+		final EvaluationBudget budget = new EvaluationBudget(100);
+		crossProduct(10, 10).evaluate(null, budget);
+
+		// no current budget any more
+		EvaluationBudget.charge(1);
+
+		assertEquals(100, budget.getUsed());
+	}
+
+	public void testFormerBudgetIsRestored() throws Exception {
+		final EvaluationBudget outer = new EvaluationBudget(1000);
+		final EvaluationBudget inner = new EvaluationBudget(1000);
+
+		final IPlurivalTerm<Integer, IAssignment> nested = new Values(1) {
+			@Override
+			public Plurival<Integer> evaluate(final IAssignment variableAssignment) throws UnassignedVariableException {
+				crossProduct(2, 2).evaluate(variableAssignment, inner);
+				EvaluationBudget.charge(7);
+				return super.evaluate(variableAssignment);
+			}
+		};
+
+		nested.evaluate(null, outer);
+
+		assertEquals(4, inner.getUsed());
+		assertEquals(7, outer.getUsed());
+	}
+
+	public void testNegativeMaximum() {
+		try {
+			new EvaluationBudget(-1);
+			fail("Exception expected");
+		} catch (final IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static IPlurivalTerm<Integer, IAssignment> crossProduct(final int firstSize, final int secondSize) {
+		return crossProduct(new Values(firstSize), new Values(secondSize));
+	}
+
+	private static IPlurivalTerm<Integer, IAssignment> crossProduct(final IPlurivalTerm<Integer, IAssignment> first,
+			final IPlurivalTerm<Integer, IAssignment> second) {
+		return new BinaryCompoundPlurivalTerm<Integer, Integer, Integer, IAssignment>(first, second) {
+			@Override
+			public Plurival<Integer> calculate(final Integer firstValue, final Integer secondValue) {
+				return Plurival.of(firstValue * 1000 + secondValue);
+			}
+
+			@Override
+			public String toString(final boolean surroundWithBracketsIfApplicable) {
+				return getFirstSubTerm() + " x " + getSecondSubTerm();
+			}
+		};
+	}
+
+	/**
+	 * The values 0, 1, ... <code>size - 1</code>
+	 */
+	private static class Values implements IPlurivalTerm<Integer, IAssignment> {
+		private final int size;
+
+		Values(final int size) {
+			this.size = size;
+		}
+
+		@Override
+		public Plurival<Integer> evaluate(final IAssignment variableAssignment) throws UnassignedVariableException {
+			final Integer[] values = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				values[i] = i;
+			}
+
+			return Plurival.of(values);
+		}
+
+		@Override
+		public ImmutableSet<Variable<?, IAssignment>> getAllVariables() {
+			return ImmutableSet.of();
+		}
+
+		@Override
+		public int compareTo(final IPlurivalTerm<?, ? extends IAssignment> o) {
+			return toString().compareTo(o.toString());
+		}
+
+		@Override
+		public String toString(final boolean surroundWithBracketsIfApplicable) {
+			return "0.." + (size - 1);
+		}
+
+		@Override
+		public String toString() {
+			return toString(false);
+		}
+	}
+}
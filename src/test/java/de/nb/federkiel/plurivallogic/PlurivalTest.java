@@ -0,0 +1,68 @@
+package de.nb.federkiel.plurivallogic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableList;
+
+import junit.framework.TestCase;
+
+public class PlurivalTest extends TestCase {
+	public void testEmpty() throws Exception {
+		assertTrue(Plurival.of().isEmpty());
+		assertEquals(0, Plurival.of(ImmutableList.of()).size());
+		assertSame(Plurival.empty(), Plurival.of());
+	}
+
+	public void testSingleton() throws Exception {
+		final Plurival<String> plurival = Plurival.of("a");
+
+		assertEquals(1, plurival.size());
+		assertEquals("a", plurival.iterator().next());
+		assertEquals("a", plurival.toString());
+		assertEquals(plurival, Plurival.of(ImmutableList.of("a")));
+		assertEquals(plurival, Plurival.of("a", "a"));
+	}
+
+	public void testDuplicatesAreRemovedForAllSizes() throws Exception {
+		for (int size = 1; size <= 30; size++) {
+			final List<Integer> values = new ArrayList<>();
+			final List<Integer> valuesTwice = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				values.add(i);
+				valuesTwice.add(i);
+				valuesTwice.add(i);
+			}
+
+			final Plurival<Integer> fromArray = Plurival.of(valuesTwice.toArray(new Integer[valuesTwice.size()]));
+			final Plurival<Integer> fromCollection = Plurival.of(ImmutableList.copyOf(valuesTwice));
+			final Plurival<Integer> fromStream = Plurival.of(valuesTwice.stream());
+
+			for (final Plurival<Integer> plurival : ImmutableList.of(fromArray, fromCollection, fromStream)) {
+				assertEquals(size, plurival.size());
+				assertEquals(values, plurival.stream().collect(Collectors.toList()));
+				assertEquals(values, ImmutableList.copyOf(plurival));
+			}
+
+			assertEquals(fromArray, fromCollection);
+			assertEquals(fromArray.hashCode(), fromCollection.hashCode());
+			assertEquals(fromArray, fromStream);
+		}
+	}
+
+	public void testOrderMatters() throws Exception {
+		assertFalse(Plurival.of("a", "b").equals(Plurival.of("b", "a")));
+		assertEquals("{ a | b }", Plurival.of(Stream.of("a", "b", "a")).toString());
+	}
+
+	public void testIntern() throws Exception {
+		final Plurival<String> plurival = Plurival.of("a", "b").intern();
+
+		assertSame(plurival, Plurival.of("a", "b").intern());
+		assertSame(plurival, Plurival.of(ImmutableList.of("a", "b", "a")).intern());
+		assertNotSame(plurival, Plurival.of("b", "a").intern());
+		assertSame(Plurival.empty(), Plurival.of().intern());
+	}
+}